@@ -0,0 +1,110 @@
+package xyz.talefox.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 为对象提供异步的延迟加载程序。
+ * <p>首次获取时开始加载，此后所有调用方共享同一次加载，获取过程从不阻塞，因此可以在事件循环线程中使用。
+ * 每个调用方得到共享结果的一个副本，调用方完成、取消或为其设置超时只影响自己的副本，不会改变其他调用方看到的结果。
+ * 若加载失败或被数据源取消，下次获取时将重新开始加载，而不是永久缓存失败的结果。</p>
+ *
+ * @param <T> 表示对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class AsyncLazyLoader<T> implements Supplier<CompletableFuture<T>> {
+    private final Supplier<? extends CompletionStage<? extends T>> starter;
+    private final AtomicReference<CompletableFuture<T>> current = new AtomicReference<>();
+
+    /**
+     * 使用用以获取对象实例的方法及执行加载的执行程序初始化 {@link AsyncLazyLoader} 类的新实例。
+     * <p>加载方法可以是阻塞的，它将在执行程序中运行。执行程序可以是任意的 {@link Executor}，
+     * 例如在支持虚拟线程的运行时中为每个任务创建虚拟线程的执行程序。</p>
+     *
+     * @param loader 表示用以获取对象实例的方法的 {@link Supplier}。
+     * @param executor 表示用以执行加载的 {@link Executor}。
+     * @throws IllegalArgumentException {@code loader} 或 {@code executor} 为 {@code null}。
+     */
+    public AsyncLazyLoader(Supplier<? extends T> loader, Executor executor) {
+        Validation.notNull(loader, "The loader to load singleton cannot be null.");
+        Validation.notNull(executor, "The executor to load singleton cannot be null.");
+        this.starter = () -> CompletableFuture.supplyAsync(loader, executor);
+    }
+
+    private AsyncLazyLoader(Supplier<? extends CompletionStage<? extends T>> starter) {
+        this.starter = starter;
+    }
+
+    /**
+     * 使用异步获取对象实例的方法创建异步延迟加载程序。
+     * <p>适用于本身即为异步的数据源，加载方法将在首次获取的线程中调用，因此其本身不应阻塞。</p>
+     *
+     * @param starter 表示开始异步获取对象实例的方法的 {@link Supplier}{@code <? extends }{@link CompletionStage}{@code >}。
+     * @param <T> 表示对象的类型。
+     * @return 表示新创建的异步延迟加载程序的 {@link AsyncLazyLoader}{@code <T>}。
+     * @throws IllegalArgumentException {@code starter} 为 {@code null}。
+     */
+    public static <T> AsyncLazyLoader<T> fromStage(Supplier<? extends CompletionStage<? extends T>> starter) {
+        return new AsyncLazyLoader<>(Validation.notNull(starter, "The starter to load singleton cannot be null."));
+    }
+
+    /**
+     * 获取表示对象的 {@link CompletableFuture}。
+     * <p>每次调用返回共享加载结果的一个新副本，对其调用 {@link CompletableFuture#complete(Object)} 或
+     * {@link CompletableFuture#cancel(boolean)} 等方法不会影响加载本身及其他调用方。</p>
+     *
+     * @return 表示对象的 {@link CompletableFuture}{@code <T>}。
+     */
+    @Override
+    public CompletableFuture<T> get() {
+        while (true) {
+            CompletableFuture<T> future = this.current.get();
+            if (future != null && !future.isCompletedExceptionally()) {
+                return future.copy();
+            }
+            CompletableFuture<T> promise = new CompletableFuture<>();
+            if (this.current.compareAndSet(future, promise)) {
+                this.start(promise);
+                return promise.copy();
+            }
+        }
+    }
+
+    /**
+     * 指示对象是否已经成功加载。
+     *
+     * @return 若对象已经成功加载，则为 {@code true}；否则为 {@code false}。
+     */
+    public boolean loaded() {
+        CompletableFuture<T> future = this.current.get();
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    private void start(CompletableFuture<T> promise) {
+        CompletionStage<? extends T> stage;
+        try {
+            stage = this.starter.get();
+        } catch (Throwable ex) {
+            promise.completeExceptionally(ex);
+            return;
+        }
+        if (stage == null) {
+            promise.completeExceptionally(new IllegalStateException("The starter returned no stage."));
+            return;
+        }
+        stage.whenComplete((value, ex) -> {
+            if (ex == null) {
+                promise.complete(value);
+            } else if (ex instanceof CompletionException && ex.getCause() != null) {
+                promise.completeExceptionally(ex.getCause());
+            } else {
+                promise.completeExceptionally(ex);
+            }
+        });
+    }
+}
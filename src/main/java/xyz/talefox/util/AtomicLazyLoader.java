@@ -0,0 +1,135 @@
+package xyz.talefox.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 为对象提供不使用锁的延迟加载程序。
+ * <p>与 {@link LazyLoader} 不同，实例中只包含加载方法和状态两个字段，不持有锁对象：加载通过 {@link VarHandle} 的 CAS 操作抢占，
+ * 加载期间的等待队列只在加载过程中存在，加载结束后即不再被引用；加载成功后还将释放加载方法的引用，使其捕获的对象可以被回收。
+ * 因此适合在大量对象中作为延迟加载的字段使用。</p>
+ * <p>加载结果为 {@code null} 时同样被缓存。加载失败时异常将抛给执行加载的线程，等待的线程将重新尝试加载。</p>
+ *
+ * @param <T> 表示对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class AtomicLazyLoader<T> implements Supplier<T> {
+    private static final VarHandle STATE;
+    private static final Object UNLOADED = new Object();
+    private static final Object NULL = new Object();
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(AtomicLazyLoader.class, "state", Object.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private Supplier<? extends T> loader;
+    private volatile Object state = UNLOADED;
+
+    /**
+     * 使用用以获取对象实例的方法初始化 {@link AtomicLazyLoader} 类的新实例。
+     *
+     * @param loader 表示用以获取对象实例的方法的 {@link Supplier}。
+     * @throws IllegalArgumentException {@code loader} 为 {@code null}。
+     */
+    public AtomicLazyLoader(Supplier<? extends T> loader) {
+        this.loader = Validation.notNull(loader, "The loader to load singleton cannot be null.");
+    }
+
+    @Override
+    public T get() {
+        Object current = this.state;
+        if (current != UNLOADED && !(current instanceof Loading)) {
+            return unmask(current);
+        }
+        return this.load();
+    }
+
+    /**
+     * 指示对象是否已经加载。
+     *
+     * @return 若对象已经加载，则为 {@code true}；否则为 {@code false}。
+     */
+    public boolean loaded() {
+        Object current = this.state;
+        return current != UNLOADED && !(current instanceof Loading);
+    }
+
+    private T load() {
+        while (true) {
+            Object current = this.state;
+            if (current == UNLOADED) {
+                Loading loading = new Loading();
+                if (STATE.compareAndSet(this, UNLOADED, loading)) {
+                    return this.load(loading);
+                }
+            } else if (current instanceof Loading) {
+                ((Loading) current).await();
+            } else {
+                return unmask(current);
+            }
+        }
+    }
+
+    private T load(Loading loading) {
+        T instance;
+        try {
+            instance = this.loader.get();
+        } catch (Throwable ex) {
+            this.state = UNLOADED;
+            loading.release();
+            throw ex;
+        }
+        // The plain write is published by the volatile write of the state that follows.
+        this.loader = null;
+        this.state = instance == null ? NULL : instance;
+        loading.release();
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object state) {
+        return state == NULL ? null : (T) state;
+    }
+
+    /**
+     * 表示正在进行的加载，每次加载时创建，加载结束后即不再被引用。
+     */
+    private static final class Loading {
+        private final Thread owner = Thread.currentThread();
+        private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+        private volatile boolean done;
+
+        private void await() {
+            if (this.owner == Thread.currentThread()) {
+                throw new IllegalStateException("The lazy loader is invoked recursively while loading.");
+            }
+            this.waiters.add(Thread.currentThread());
+            // Parking returns immediately while the interrupt flag is set, so it is cleared and restored afterwards.
+            boolean interrupted = false;
+            while (!this.done) {
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void release() {
+            this.done = true;
+            Thread waiter;
+            while ((waiter = this.waiters.poll()) != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+}
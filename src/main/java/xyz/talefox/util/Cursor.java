@@ -0,0 +1,97 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultCursor;
+
+/**
+ * 表示基于键的分页中的游标。
+ * <p>游标包含一个不透明的定位键，数据源使用它直接定位到上一页的最后一条记录（或下一页的第一条记录）之后（或之前），
+ * 而不需要像按偏移量分页那样扫描并丢弃之前的所有记录。</p>
+ * <p>游标可以通过 {@link #encode()} 编码为 URL 安全的字符串，并通过 {@link #decode(String)} 还原。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface Cursor {
+    /**
+     * 获取游标的方向。
+     *
+     * @return 表示游标方向的 {@link Direction}。
+     */
+    Direction direction();
+
+    /**
+     * 获取游标的定位键。
+     *
+     * @return 表示定位键的 {@code byte[]}。返回值是副本，修改它不会影响游标。
+     */
+    byte[] key();
+
+    /**
+     * 将游标编码为 URL 安全的字符串。
+     *
+     * @return 表示编码后的游标的 {@link String}。
+     */
+    String encode();
+
+    /**
+     * 创建获取定位键之后的记录的游标。
+     *
+     * @param key 表示定位键的 {@code byte[]}。
+     * @return 表示新创建的游标的 {@link Cursor}。
+     * @throws IllegalArgumentException {@code key} 为 {@code null}。
+     */
+    static Cursor after(byte[] key) {
+        return new DefaultCursor(Direction.AFTER, key);
+    }
+
+    /**
+     * 创建获取定位键之前的记录的游标。
+     *
+     * @param key 表示定位键的 {@code byte[]}。
+     * @return 表示新创建的游标的 {@link Cursor}。
+     * @throws IllegalArgumentException {@code key} 为 {@code null}。
+     */
+    static Cursor before(byte[] key) {
+        return new DefaultCursor(Direction.BEFORE, key);
+    }
+
+    /**
+     * 从编码后的字符串中还原游标。
+     *
+     * @param encoded 表示编码后的游标的 {@link String}。
+     * @return 表示还原的游标的 {@link Cursor}。
+     * @throws IllegalArgumentException {@code encoded} 为 {@code null} 或不是有效的游标。
+     */
+    static Cursor decode(String encoded) {
+        return DefaultCursor.decode(encoded);
+    }
+
+    /**
+     * 表示游标的方向。
+     *
+     * @author 梁济时
+     * @since 2026/10/19
+     */
+    enum Direction {
+        /** 表示获取定位键之后的记录，用于向后翻页。 */
+        AFTER('a'),
+
+        /** 表示获取定位键之前的记录，用于向前翻页。 */
+        BEFORE('b');
+
+        private final char code;
+
+        Direction(char code) {
+            this.code = code;
+        }
+
+        /**
+         * 获取方向在编码后的游标中的代码。
+         *
+         * @return 表示代码的字符。
+         */
+        public char code() {
+            return this.code;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultCursorRange;
+
+import java.util.Locale;
+
+/**
+ * 表示基于游标的区间定义。
+ * <p>与按偏移量定义的 {@link Range} 不同，基于游标的区间从游标所定位的记录开始获取数据，
+ * 其开销与页码无关，适合深度翻页。两者的第一页可以相互转换。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface CursorRange {
+    /**
+     * 获取区间的游标。
+     *
+     * @return 若区间是第一页，则为 {@code null}；否则为表示游标的 {@link Cursor}。
+     */
+    Cursor cursor();
+
+    /**
+     * 获取区间的数据记录的数量限制。
+     *
+     * @return 表示数量限制的32位整数。
+     */
+    int limit();
+
+    /**
+     * 检查区间是否是第一页。
+     *
+     * @return 若区间没有游标，则为 {@code true}；否则为 {@code false}。
+     */
+    default boolean first() {
+        return this.cursor() == null;
+    }
+
+    /**
+     * 将第一页转换为按偏移量定义的区间。
+     *
+     * @return 表示偏移量为 {@code 0} 的区间的 {@link Range}。
+     * @throws IllegalStateException 区间不是第一页。
+     */
+    default Range toRange() {
+        if (!this.first()) {
+            throw new IllegalStateException("Only the first page of a cursor range can be converted to an offset range.");
+        }
+        return Range.create(0, this.limit());
+    }
+
+    /**
+     * 使用游标和数量限制初始化基于游标的区间默认实现的新实例。
+     *
+     * @param cursor 表示游标的 {@link Cursor}，为 {@code null} 时表示第一页。
+     * @param limit 表示区间的数量限制的32位整数。
+     * @return 表示新创建的区间的 {@link CursorRange}。
+     * @throws IllegalArgumentException {@code limit} 不是一个正数。
+     */
+    static CursorRange create(Cursor cursor, int limit) {
+        return new DefaultCursorRange(cursor, limit);
+    }
+
+    /**
+     * 创建表示第一页的基于游标的区间。
+     *
+     * @param limit 表示区间的数量限制的32位整数。
+     * @return 表示第一页的 {@link CursorRange}。
+     * @throws IllegalArgumentException {@code limit} 不是一个正数。
+     */
+    static CursorRange first(int limit) {
+        return create(null, limit);
+    }
+
+    /**
+     * 将按偏移量定义的第一页转换为基于游标的区间。
+     *
+     * @param range 表示按偏移量定义的区间的 {@link Range}。
+     * @return 表示第一页的 {@link CursorRange}。
+     * @throws IllegalArgumentException {@code range} 为 {@code null}，或其偏移量不为 {@code 0}。
+     */
+    static CursorRange first(Range range) {
+        Validation.notNull(range, "The range to convert cannot be null.");
+        if (range.offset() != 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "Only the first page of a range can be converted to a cursor range. [offset=%d]", range.offset()));
+        }
+        return first(range.limit());
+    }
+}
@@ -5,6 +5,8 @@ import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 为计算摘要提供工具方法。
@@ -13,6 +15,9 @@ import java.util.Locale;
  * @since 2021/12/7
  */
 public class DigestUtils {
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+    private static final Map<String, ObjectPool<Digester>> DIGESTS = new ConcurrentHashMap<>();
+
     /**
      * 隐藏默认构造方法，避免工具类被实例化。
      */
@@ -35,19 +40,64 @@ public class DigestUtils {
         Validation.notBlank(algorithm, "The algorithm to compute digest cannot be blank.");
         Validation.notNull(in, "The input stream to compute digest cannot be null.");
         Validation.greaterThan(bufferSize, 0, "The size of buffer must be positive.");
-        MessageDigest digest;
+        ObjectPool<Digester> pool = pool(algorithm);
+        byte[] result;
+        Digester digester = pool.borrow();
+        try {
+            byte[] buffer = digester.buffer(bufferSize);
+            int read;
+            while ((read = in.read(buffer, 0, bufferSize)) > -1) {
+                digester.digest.update(buffer, 0, read);
+            }
+            result = digester.digest.digest();
+        } finally {
+            pool.release(digester);
+        }
+        return StringUtils.toHexString(result);
+    }
+
+    private static ObjectPool<Digester> pool(String algorithm) {
+        ObjectPool<Digester> pool = DIGESTS.get(algorithm);
+        if (pool == null) {
+            // Only algorithms that are known to exist get a pool, so that the cache cannot grow with invalid names.
+            instantiate(algorithm);
+            pool = DIGESTS.computeIfAbsent(algorithm, key -> ObjectPool.builder(() -> new Digester(instantiate(key)))
+                    .reset(digester -> digester.digest.reset())
+                    .build());
+        }
+        return pool;
+    }
+
+    private static MessageDigest instantiate(String algorithm) {
         try {
-            digest = MessageDigest.getInstance(algorithm);
+            return MessageDigest.getInstance(algorithm);
         } catch (NoSuchAlgorithmException ex) {
             throw new IllegalStateException(String.format(Locale.ROOT,
                     "The algorithm to compute digest not found. [algorithm=%s]", algorithm), ex);
         }
-        byte[] buffer = new byte[bufferSize];
-        int read;
-        while ((read = in.read(buffer, 0, bufferSize)) > -1) {
-            digest.update(buffer, 0, read);
+    }
+
+    /**
+     * 表示池中的摘要算法及与其一同复用的读取缓存。
+     * <p>缓存按照需要的大小扩容，超过 {@value #MAX_POOLED_BUFFER_SIZE} 字节的缓存只在本次计算中使用，不被保留。</p>
+     */
+    private static final class Digester {
+        private final MessageDigest digest;
+        private byte[] buffer = new byte[0];
+
+        private Digester(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        private byte[] buffer(int size) {
+            if (this.buffer.length >= size) {
+                return this.buffer;
+            } else if (size > MAX_POOLED_BUFFER_SIZE) {
+                return new byte[size];
+            } else {
+                this.buffer = new byte[size];
+                return this.buffer;
+            }
         }
-        byte[] result = digest.digest();
-        return StringUtils.toHexString(result);
     }
 }
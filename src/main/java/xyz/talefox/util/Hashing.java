@@ -0,0 +1,86 @@
+package xyz.talefox.util;
+
+/**
+ * 为计算散列码提供不分配内存的工具方法。
+ * <p>组合结果与 {@link java.util.Arrays#hashCode(int[])} 和 {@link java.util.Arrays#hashCode(long[])} 相同，
+ * 因此可以直接替换通过创建临时数组计算散列码的实现。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class Hashing {
+    private static final int SEED = 1;
+    private static final int MULTIPLIER = 31;
+
+    /** 隐藏默认构造方法，避免工具类被实例化。 */
+    private Hashing() {}
+
+    /**
+     * 计算64位整数的散列码。
+     *
+     * @param value 表示待计算散列码的64位整数。
+     * @return 表示散列码的32位整数，与 {@link Long#hashCode(long)} 相同。
+     */
+    public static int hash(long value) {
+        return (int) (value ^ (value >>> 32));
+    }
+
+    /**
+     * 组合两个散列码。
+     *
+     * @param h1 表示第一个散列码的32位整数。
+     * @param h2 表示第二个散列码的32位整数。
+     * @return 表示组合后的散列码的32位整数。
+     */
+    public static int combine(int h1, int h2) {
+        return MULTIPLIER * (MULTIPLIER * SEED + h1) + h2;
+    }
+
+    /**
+     * 组合三个散列码。
+     *
+     * @param h1 表示第一个散列码的32位整数。
+     * @param h2 表示第二个散列码的32位整数。
+     * @param h3 表示第三个散列码的32位整数。
+     * @return 表示组合后的散列码的32位整数。
+     */
+    public static int combine(int h1, int h2, int h3) {
+        return MULTIPLIER * combine(h1, h2) + h3;
+    }
+
+    /**
+     * 组合四个散列码。
+     *
+     * @param h1 表示第一个散列码的32位整数。
+     * @param h2 表示第二个散列码的32位整数。
+     * @param h3 表示第三个散列码的32位整数。
+     * @param h4 表示第四个散列码的32位整数。
+     * @return 表示组合后的散列码的32位整数。
+     */
+    public static int combine(int h1, int h2, int h3, int h4) {
+        return MULTIPLIER * combine(h1, h2, h3) + h4;
+    }
+
+    /**
+     * 组合两个64位整数的散列码。
+     *
+     * @param v1 表示第一个64位整数。
+     * @param v2 表示第二个64位整数。
+     * @return 表示组合后的散列码的32位整数。
+     */
+    public static int combine(long v1, long v2) {
+        return combine(hash(v1), hash(v2));
+    }
+
+    /**
+     * 组合三个64位整数的散列码。
+     *
+     * @param v1 表示第一个64位整数。
+     * @param v2 表示第二个64位整数。
+     * @param v3 表示第三个64位整数。
+     * @return 表示组合后的散列码的32位整数。
+     */
+    public static int combine(long v1, long v2, long v3) {
+        return combine(hash(v1), hash(v2), hash(v3));
+    }
+}
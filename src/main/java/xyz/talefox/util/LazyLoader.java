@@ -1,45 +1,182 @@
 package xyz.talefox.util;
 
+import java.time.Duration;
+import java.util.Locale;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 /**
  * 为对象提供延迟加载程序。
- * <p>基于双检锁（Double Check Lock，DCL）实现。</p>
+ * <p>基于双检锁（Double Check Lock，DCL）实现。加载结果为 {@code null} 时同样被缓存，
+ * 加载失败时按照 {@link FailurePolicy} 决定何时重新加载。</p>
  *
  * @param <T> 表示对象的类型。
  * @author 梁济时
  * @since 2021/9/23
  */
 public class LazyLoader<T> implements Supplier<T> {
+    private static final Object UNLOADED = new Object();
+    private static final Object NULL = new Object();
+
     private final Supplier<T> loader;
+    private final FailurePolicy policy;
+    private final LongSupplier ticker;
     private final Lock lock;
-    private volatile T instance;
+    private volatile Object instance = UNLOADED;
+    private volatile Failure failure;
 
     /**
      * 使用用以获取对象实例的方法初始化 {@link LazyLoader} 类的新实例。
+     * <p>加载失败时，下次获取将立即重新加载。</p>
      *
      * @param loader 表示用以获取对象实例的方法的 {@link Supplier}。
      * @throws IllegalArgumentException {@code supplier} 为 {@code null}。
      */
     public LazyLoader(Supplier<T> loader) {
+        this(loader, FailurePolicy.retry());
+    }
+
+    /**
+     * 使用用以获取对象实例的方法及加载失败时的策略初始化 {@link LazyLoader} 类的新实例。
+     *
+     * @param loader 表示用以获取对象实例的方法的 {@link Supplier}。
+     * @param policy 表示加载失败时的策略的 {@link FailurePolicy}。
+     * @throws IllegalArgumentException {@code supplier} 或 {@code policy} 为 {@code null}。
+     */
+    public LazyLoader(Supplier<T> loader, FailurePolicy policy) {
+        this(loader, policy, System::nanoTime);
+    }
+
+    LazyLoader(Supplier<T> loader, FailurePolicy policy, LongSupplier ticker) {
         this.loader = Validation.notNull(loader, "The loader to load singleton cannot be null.");
+        this.policy = Validation.notNull(policy, "The failure policy of loader cannot be null.");
+        this.ticker = ticker;
         this.lock = new ReentrantLock();
     }
 
     @Override
     public T get() {
-        if (this.instance == null) {
+        if (this.instance == UNLOADED) {
+            this.rethrow();
             this.lock.lock();
             try {
-                if (this.instance == null) {
-                    this.instance = this.loader.get();
+                if (this.instance == UNLOADED) {
+                    this.rethrow();
+                    this.load();
                 }
             } finally {
                 this.lock.unlock();
             }
         }
-        return this.instance;
+        return unmask(this.instance);
+    }
+
+    private void load() {
+        T loaded;
+        try {
+            loaded = this.loader.get();
+        } catch (RuntimeException | Error ex) {
+            Failure previous = this.failure;
+            int failures = previous == null ? 1 : previous.failures + 1;
+            long delay = this.policy.retryDelay(failures);
+            this.failure = new Failure(ex, failures, delay, this.ticker.getAsLong());
+            throw ex;
+        }
+        this.instance = loaded == null ? NULL : loaded;
+        this.failure = null;
+    }
+
+    private void rethrow() {
+        Failure current = this.failure;
+        if (current != null && !current.due(this.ticker.getAsLong())) {
+            if (current.exception instanceof Error) {
+                throw (Error) current.exception;
+            } else {
+                throw (RuntimeException) current.exception;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object instance) {
+        return instance == NULL ? null : (T) instance;
+    }
+
+    private static final class Failure {
+        private final Throwable exception;
+        private final int failures;
+        private final long delay;
+        private final long failedAt;
+
+        private Failure(Throwable exception, int failures, long delay, long failedAt) {
+            this.exception = exception;
+            this.failures = failures;
+            this.delay = delay;
+            this.failedAt = failedAt;
+        }
+
+        private boolean due(long now) {
+            return this.delay != Long.MAX_VALUE && now - this.failedAt >= this.delay;
+        }
+    }
+
+    /**
+     * 表示加载失败时的策略。
+     */
+    @FunctionalInterface
+    public interface FailurePolicy {
+        /**
+         * 获取连续失败指定次数后，重新加载前需要等待的时间。
+         * <p>在等待期间获取对象时，将直接抛出最近一次加载失败的异常。</p>
+         *
+         * @param failures 表示连续失败的次数的32位整数，从 {@code 1} 开始。
+         * @return 表示等待时间的纳秒数的64位整数，{@link Long#MAX_VALUE} 表示永不重新加载。
+         */
+        long retryDelay(int failures);
+
+        /**
+         * 获取立即重新加载的策略。
+         *
+         * @return 表示立即重新加载的策略的 {@link FailurePolicy}。
+         */
+        static FailurePolicy retry() {
+            return failures -> 0L;
+        }
+
+        /**
+         * 获取缓存失败的策略，此后获取对象时总是抛出该次加载失败的异常。
+         *
+         * @return 表示缓存失败的策略的 {@link FailurePolicy}。
+         */
+        static FailurePolicy cache() {
+            return failures -> Long.MAX_VALUE;
+        }
+
+        /**
+         * 获取按照指数退避的间隔重新加载的策略。
+         * <p>第一次失败后等待 {@code initial}，此后每次连续的失败使等待时间加倍，但不超过 {@code maximum}。</p>
+         *
+         * @param initial 表示初始等待时间的 {@link Duration}。
+         * @param maximum 表示最大等待时间的 {@link Duration}。
+         * @return 表示按照指数退避重新加载的策略的 {@link FailurePolicy}。
+         * @throws IllegalArgumentException {@code initial} 或 {@code maximum} 为 {@code null} 或不是一个正数，
+         * 或 {@code maximum} 小于 {@code initial}。
+         */
+        static FailurePolicy backoff(Duration initial, Duration maximum) {
+            Validation.notNull(initial, "The initial backoff cannot be null.");
+            Validation.notNull(maximum, "The maximum backoff cannot be null.");
+            if (initial.isNegative() || initial.isZero() || maximum.compareTo(initial) < 0) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The backoff is not valid. [initial=%s, maximum=%s]", initial, maximum));
+            }
+            long min = initial.toNanos();
+            long max = maximum.toNanos();
+            return failures -> {
+                int shift = Math.min(failures - 1, 62);
+                return min <= (max >> shift) ? min << shift : max;
+            };
+        }
     }
 }
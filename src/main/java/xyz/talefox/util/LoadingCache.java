@@ -0,0 +1,222 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultLoadingCache;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 为键值对提供有界的加载缓存。
+ * <p>未命中时使用加载程序加载，同一个键的并发加载合并为一次，且加载在锁外执行，不会阻塞其他键的访问。
+ * 缓存按照 W-TinyLFU 策略淘汰：新条目先进入一个较小的 LRU 窗口，离开窗口时与主区域中最久未使用的条目比较访问频率，
+ * 频率较低的一方被淘汰，因此偶发的大量一次性访问不会冲掉经常访问的条目。</p>
+ *
+ * @param <K> 表示键的类型。
+ * @param <V> 表示值的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface LoadingCache<K, V> {
+    /**
+     * 获取指定键的值，若未缓存，则加载并缓存。
+     *
+     * @param key 表示键的 {@link Object}。
+     * @return 表示值的 {@link Object}，加载程序返回 {@code null} 时为 {@code null}，且不会被缓存。
+     * @throws IllegalArgumentException {@code key} 为 {@code null}。
+     * @throws IllegalStateException 加载程序在加载该键的过程中递归获取同一个键。
+     */
+    V get(K key);
+
+    /**
+     * 获取指定键已缓存的值。
+     *
+     * @param key 表示键的 {@link Object}。
+     * @return 若已缓存，则为表示值的 {@link Object}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code key} 为 {@code null}。
+     */
+    V getIfPresent(K key);
+
+    /**
+     * 缓存指定键的值，并替换已有的值。
+     *
+     * @param key 表示键的 {@link Object}。
+     * @param value 表示值的 {@link Object}。
+     * @throws IllegalArgumentException {@code key} 或 {@code value} 为 {@code null}。
+     */
+    void put(K key, V value);
+
+    /**
+     * 使指定键的值失效。
+     * <p>该键正在进行的加载的结果将不会被缓存。</p>
+     *
+     * @param key 表示键的 {@link Object}。
+     */
+    void invalidate(K key);
+
+    /**
+     * 使所有值失效。
+     */
+    void invalidateAll();
+
+    /**
+     * 移除所有已过期的条目。
+     * <p>过期的条目在访问时即被移除，该方法用于及时释放长期未访问的过期条目占用的空间。</p>
+     */
+    void cleanUp();
+
+    /**
+     * 获取缓存的条目的数量。
+     *
+     * @return 表示条目数量的32位整数。
+     */
+    int size();
+
+    /**
+     * 获取缓存的统计信息的快照。
+     *
+     * @return 表示统计信息的 {@link Stats}。
+     */
+    Stats stats();
+
+    /**
+     * 获取加载缓存的构建程序。
+     *
+     * @param <K> 表示键的类型。
+     * @param <V> 表示值的类型。
+     * @return 表示加载缓存的构建程序的 {@link Builder}。
+     */
+    static <K, V> Builder<K, V> builder() {
+        return new DefaultLoadingCache.Builder<>();
+    }
+
+    /**
+     * 表示加载缓存的统计信息。
+     */
+    interface Stats {
+        /**
+         * 获取命中缓存的次数。
+         *
+         * @return 表示命中次数的64位整数。
+         */
+        long hits();
+
+        /**
+         * 获取未命中缓存的次数，包括等待其他调用方加载的次数。
+         *
+         * @return 表示未命中次数的64位整数。
+         */
+        long misses();
+
+        /**
+         * 获取执行加载的次数。
+         *
+         * @return 表示加载次数的64位整数。
+         */
+        long loads();
+
+        /**
+         * 获取加载失败的次数。
+         *
+         * @return 表示加载失败次数的64位整数。
+         */
+        long failures();
+
+        /**
+         * 获取加载所用的总时间。
+         *
+         * @return 表示总时间的纳秒数的64位整数。
+         */
+        long loadTime();
+
+        /**
+         * 获取因容量或过期而淘汰的条目的数量。
+         *
+         * @return 表示淘汰数量的64位整数。
+         */
+        long evictions();
+
+        /**
+         * 获取缓存的命中率。
+         *
+         * @return 表示命中率的64位浮点数，没有任何请求时为 {@code 1.0}。
+         */
+        default double hitRate() {
+            long requests = this.hits() + this.misses();
+            return requests == 0 ? 1.0 : (double) this.hits() / requests;
+        }
+
+        /**
+         * 获取每次加载的平均时间。
+         *
+         * @return 表示平均时间的纳秒数的64位浮点数，没有任何加载时为 {@code 0.0}。
+         */
+        default double averageLoadTime() {
+            long loads = this.loads();
+            return loads == 0 ? 0.0 : (double) this.loadTime() / loads;
+        }
+    }
+
+    /**
+     * 为 {@link LoadingCache} 提供构建程序。
+     *
+     * @param <K> 表示键的类型。
+     * @param <V> 表示值的类型。
+     */
+    interface Builder<K, V> {
+        /**
+         * 设置缓存的条目的最大数量。
+         *
+         * @param maximumSize 表示条目最大数量的64位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code maximumSize} 不是一个正数。
+         */
+        Builder<K, V> maximumSize(long maximumSize);
+
+        /**
+         * 设置缓存的条目的最大总权重，以及计算条目权重的方法。
+         *
+         * @param maximumWeight 表示最大总权重的64位整数。
+         * @param weigher 表示计算条目权重的方法的 {@link ToIntBiFunction}，其返回值不能是负数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code maximumWeight} 不是一个正数，或 {@code weigher} 为 {@code null}。
+         */
+        Builder<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher);
+
+        /**
+         * 设置条目在写入后的存活时间。
+         *
+         * @param duration 表示存活时间的 {@link Duration}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code duration} 为 {@code null} 或不是一个正数。
+         */
+        Builder<K, V> expireAfterWrite(Duration duration);
+
+        /**
+         * 设置条目在最后一次访问后的存活时间。
+         *
+         * @param duration 表示存活时间的 {@link Duration}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code duration} 为 {@code null} 或不是一个正数。
+         */
+        Builder<K, V> expireAfterAccess(Duration duration);
+
+        /**
+         * 设置用以计算存活时间及加载时间的时钟。
+         *
+         * @param ticker 表示返回当前纳秒时间的 {@link LongSupplier}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder<K, V> ticker(LongSupplier ticker);
+
+        /**
+         * 使用加载程序构建加载缓存。
+         *
+         * @param loader 表示加载指定键的值的 {@link Function}。
+         * @return 表示新构建的加载缓存的 {@link LoadingCache}。
+         * @throws IllegalArgumentException {@code loader} 为 {@code null}。
+         */
+        LoadingCache<K, V> build(Function<? super K, ? extends V> loader);
+    }
+}
@@ -0,0 +1,161 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultObjectPool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 为创建代价较高的可复用对象提供对象池。
+ * <p>空闲对象保存在固定数量的槽位中，借出和归还通过 CAS 完成，不使用锁。
+ * 当借出的对象达到上限时，借出方法将等待其他对象归还，等待过程不会占用平台线程，因此可以在虚拟线程中使用。</p>
+ *
+ * @param <T> 表示池中对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface ObjectPool<T> {
+    /**
+     * 从池中借出一个对象。
+     * <p>若池中没有空闲对象，则创建新的对象；若借出的对象已达到上限，则等待其他对象归还。</p>
+     *
+     * @return 表示借出的对象的 {@link Object}。
+     */
+    T borrow();
+
+    /**
+     * 在指定的时间内尝试从池中借出一个对象。
+     *
+     * @param timeout 表示最长等待时间的64位整数。
+     * @param unit 表示等待时间单位的 {@link TimeUnit}。
+     * @return 若在等待时间内借出了对象，则为借出的对象的 {@link Object}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code unit} 为 {@code null}。
+     */
+    T borrow(long timeout, TimeUnit unit);
+
+    /**
+     * 将借出的对象归还到池中。
+     * <p>归还前将执行重置程序。若池中没有空闲的槽位，则丢弃该对象。
+     * 每个借出的对象只能归还一次，仅在调试模式下检查，非调试模式下重复归还将使同时借出的对象突破上限。</p>
+     *
+     * @param object 表示待归还的对象的 {@link Object}。
+     * @throws IllegalArgumentException {@code object} 为 {@code null}，或在调试模式下不是从池中借出的对象或已经归还。
+     */
+    void release(T object);
+
+    /**
+     * 从池中借出一个对象，并以租约的形式返回，租约关闭时归还对象。
+     * <p>在调试模式下，若租约在关闭前被垃圾回收，将被视为泄漏并通知泄漏监听程序。</p>
+     *
+     * @return 表示借出的对象的租约的 {@link Lease}。
+     */
+    Lease<T> lease();
+
+    /**
+     * 获取池中空闲对象的数量。
+     *
+     * @return 表示空闲对象数量的32位整数。
+     */
+    int idle();
+
+    /**
+     * 获取已检测到的泄漏的租约的数量。
+     * <p>仅在调试模式下检测泄漏。</p>
+     *
+     * @return 表示泄漏的租约数量的64位整数。
+     */
+    long leaks();
+
+    /**
+     * 使用创建对象的方法获取对象池的构建程序。
+     *
+     * @param factory 表示用以创建对象的方法的 {@link Supplier}。
+     * @param <T> 表示池中对象的类型。
+     * @return 表示对象池的构建程序的 {@link Builder}。
+     * @throws IllegalArgumentException {@code factory} 为 {@code null}。
+     */
+    static <T> Builder<T> builder(Supplier<T> factory) {
+        return new DefaultObjectPool.Builder<>(factory);
+    }
+
+    /**
+     * 表示借出对象的租约。
+     *
+     * @param <T> 表示借出的对象的类型。
+     */
+    interface Lease<T> extends AutoCloseable {
+        /**
+         * 获取借出的对象。
+         *
+         * @return 表示借出的对象的 {@link Object}。
+         * @throws IllegalStateException 租约已关闭。
+         */
+        T get();
+
+        /**
+         * 关闭租约，并将对象归还到池中。
+         * <p>多次关闭租约不会产生任何作用。</p>
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * 为 {@link ObjectPool} 提供构建程序。
+     *
+     * @param <T> 表示池中对象的类型。
+     */
+    interface Builder<T> {
+        /**
+         * 设置归还对象时使用的重置程序。
+         *
+         * @param reset 表示重置程序的 {@link Consumer}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder<T> reset(Consumer<? super T> reset);
+
+        /**
+         * 设置池中保存的空闲对象的最大数量。
+         *
+         * @param capacity 表示空闲对象最大数量的32位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code capacity} 不是一个正数。
+         */
+        Builder<T> capacity(int capacity);
+
+        /**
+         * 设置同时借出的对象的最大数量。
+         *
+         * @param maximum 表示借出对象最大数量的32位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code maximum} 不是一个正数。
+         */
+        Builder<T> maximum(int maximum);
+
+        /**
+         * 设置是否启用调试模式。
+         * <p>调试模式下将记录借出的对象及租约的创建位置，拒绝重复归还的对象，并检测未关闭的租约。</p>
+         *
+         * @param debug 若为 {@code true}，则启用调试模式；否则禁用。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder<T> debug(boolean debug);
+
+        /**
+         * 设置调试模式下检测到泄漏时的监听程序。
+         * <p>监听程序接收一个记录了租约创建位置的异常。</p>
+         *
+         * @param listener 表示泄漏监听程序的 {@link Consumer}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder<T> leakListener(Consumer<? super Throwable> listener);
+
+        /**
+         * 构建对象池。
+         *
+         * @return 表示新构建的对象池的 {@link ObjectPool}。
+         */
+        ObjectPool<T> build();
+    }
+}
@@ -0,0 +1,194 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultPageCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 为分页查询的结果集提供缓存。
+ * <p>结果集以查询键和区间作为键缓存，并按照最近最少使用的顺序及写入后的存活时间淘汰。同一查询的数据总量在各页之间共享：
+ * 若加载程序返回延迟计数的区间结果（参见 {@link RangeResult#lazy(Range, LongSupplier)}），
+ * 则在该查询的数据总量已知时不会再执行计数。</p>
+ *
+ * @param <K> 表示查询键的类型。
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface PageCache<K, T> {
+    /**
+     * 获取指定查询在指定区间中的结果集，若未缓存，则使用加载程序加载并缓存。
+     * <p>对于同一个查询和区间，同时至多执行一次加载，其他调用方将等待该次加载的结果。</p>
+     *
+     * @param query 表示查询键的 {@link Object}。
+     * @param range 表示区间的 {@link Range}。
+     * @param loader 表示加载指定区间的结果集的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @return 表示结果集的 {@link RangedResultSet}{@code <T>}。
+     * @throws IllegalArgumentException {@code query}、{@code range} 或 {@code loader} 为 {@code null}。
+     * @throws IllegalStateException 加载程序返回了 {@code null}。
+     */
+    RangedResultSet<T> get(K query, Range range, Function<Range, ? extends RangedResultSet<T>> loader);
+
+    /**
+     * 使指定查询的所有页及其数据总量失效。
+     *
+     * @param query 表示查询键的 {@link Object}。
+     */
+    void invalidate(K query);
+
+    /**
+     * 使带有指定标签的所有查询失效。
+     *
+     * @param tag 表示标签的 {@link String}。
+     */
+    void invalidateTag(String tag);
+
+    /**
+     * 使所有缓存的页失效。
+     */
+    void invalidateAll();
+
+    /**
+     * 获取缓存的页的数量。
+     *
+     * @return 表示页的数量的32位整数。
+     */
+    int size();
+
+    /**
+     * 获取缓存的统计信息的快照。
+     *
+     * @return 表示统计信息的 {@link Stats}。
+     */
+    Stats stats();
+
+    /**
+     * 获取页缓存的构建程序。
+     *
+     * @param <K> 表示查询键的类型。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示页缓存的构建程序的 {@link Builder}。
+     */
+    static <K, T> Builder<K, T> builder() {
+        return new DefaultPageCache.Builder<>();
+    }
+
+    /**
+     * 表示页缓存的统计信息。
+     */
+    interface Stats {
+        /**
+         * 获取命中缓存的次数。
+         *
+         * @return 表示命中次数的64位整数。
+         */
+        long hits();
+
+        /**
+         * 获取未命中缓存的次数，包括等待其他调用方加载的次数。
+         *
+         * @return 表示未命中次数的64位整数。
+         */
+        long misses();
+
+        /**
+         * 获取执行加载的次数。
+         *
+         * @return 表示加载次数的64位整数。
+         */
+        long loads();
+
+        /**
+         * 获取加载失败的次数。
+         *
+         * @return 表示加载失败次数的64位整数。
+         */
+        long failures();
+
+        /**
+         * 获取加载所用的总时间。
+         *
+         * @return 表示总时间的纳秒数的64位整数。
+         */
+        long loadTime();
+
+        /**
+         * 获取因容量或过期而淘汰的页的数量。
+         *
+         * @return 表示淘汰数量的64位整数。
+         */
+        long evictions();
+
+        /**
+         * 获取缓存的命中率。
+         *
+         * @return 表示命中率的64位浮点数，没有任何请求时为 {@code 1.0}。
+         */
+        default double hitRate() {
+            long requests = this.hits() + this.misses();
+            return requests == 0 ? 1.0 : (double) this.hits() / requests;
+        }
+
+        /**
+         * 获取每次加载的平均时间。
+         *
+         * @return 表示平均时间的纳秒数的64位浮点数，没有任何加载时为 {@code 0.0}。
+         */
+        default double averageLoadTime() {
+            long loads = this.loads();
+            return loads == 0 ? 0.0 : (double) this.loadTime() / loads;
+        }
+    }
+
+    /**
+     * 为 {@link PageCache} 提供构建程序。
+     *
+     * @param <K> 表示查询键的类型。
+     * @param <T> 表示数据记录的类型。
+     */
+    interface Builder<K, T> {
+        /**
+         * 设置缓存的页的最大数量。
+         *
+         * @param maximumSize 表示页的最大数量的32位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code maximumSize} 不是一个正数。
+         */
+        Builder<K, T> maximumSize(int maximumSize);
+
+        /**
+         * 设置页及数据总量在写入后的存活时间。
+         *
+         * @param duration 表示存活时间的 {@link Duration}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code duration} 为 {@code null} 或不是一个正数。
+         */
+        Builder<K, T> expireAfterWrite(Duration duration);
+
+        /**
+         * 设置获取查询的标签的方法，用以按标签使查询失效。
+         *
+         * @param tagger 表示获取查询的标签的方法的 {@link Function}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder<K, T> tagger(Function<? super K, ? extends Collection<String>> tagger);
+
+        /**
+         * 设置用以计算存活时间的时钟。
+         *
+         * @param ticker 表示返回当前纳秒时间的 {@link LongSupplier}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder<K, T> ticker(LongSupplier ticker);
+
+        /**
+         * 构建页缓存。
+         *
+         * @return 表示新构建的页缓存的 {@link PageCache}。
+         */
+        PageCache<K, T> build();
+    }
+}
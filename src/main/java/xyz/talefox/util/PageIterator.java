@@ -0,0 +1,28 @@
+package xyz.talefox.util;
+
+import java.util.Iterator;
+
+/**
+ * 为逐页获取的数据记录提供迭代器。
+ * <p>迭代器在消费当前页的同时异步预取后续的页，关闭迭代器将取消尚未完成的预取。</p>
+ *
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ * @see Pagination#iterator(java.util.function.Function, int)
+ */
+public interface PageIterator<T> extends Iterator<T>, AutoCloseable {
+    /**
+     * 获取已缓冲但尚未开始消费的页的数量。
+     *
+     * @return 表示页的数量的32位整数，包括正在获取的页。
+     */
+    int buffered();
+
+    /**
+     * 关闭迭代器，并取消尚未完成的预取。
+     * <p>关闭后 {@link #hasNext()} 总是返回 {@code false}。该方法可以从其他线程调用，也可以重复调用。</p>
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,223 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultPageIterator;
+import xyz.talefox.util.support.ParallelPageFetcher;
+import xyz.talefox.util.support.RangeSelector;
+import xyz.talefox.util.support.ShardedPageFetcher;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 为分页获取数据提供工具方法。
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class Pagination {
+    private static final int DEFAULT_PREFETCH = 1;
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /** 隐藏默认构造方法，避免工具类被实例化。 */
+    private Pagination() {}
+
+    /**
+     * 创建逐页获取所有数据记录的迭代器，并在消费当前页时预取下一页。
+     * <p>预取在 {@link ForkJoinPool#commonPool()} 中执行。公共池的线程数量与处理器数量相当，且由并行流等计算任务共享，
+     * 若获取数据会阻塞（例如查询数据库），应使用 {@link #iterator(Function, int, int, Executor)} 并指定专用的执行程序，
+     * 否则阻塞的获取会占用公共池的线程，拖慢整个进程中的计算任务。</p>
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每页的数量限制的32位整数。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示数据记录的迭代器的 {@link PageIterator}{@code <T>}。
+     * @throws IllegalArgumentException {@code fetcher} 为 {@code null} 或 {@code limit} 不是正数。
+     */
+    public static <T> PageIterator<T> iterator(Function<Range, ? extends RangedResultSet<T>> fetcher, int limit) {
+        return iterator(fetcher, limit, DEFAULT_PREFETCH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 创建逐页获取所有数据记录的迭代器。
+     * <p>迭代器至多同时缓冲 {@code prefetch} 个尚未消费的页，从而限制内存占用，这些页在执行程序中并发获取，
+     * 但总是按照原始顺序交付。迭代器只能由一个线程消费，但可以从其他线程关闭。</p>
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每页的数量限制的32位整数。
+     * @param prefetch 表示至多预取的页的数量的32位整数。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示数据记录的迭代器的 {@link PageIterator}{@code <T>}。
+     * @throws IllegalArgumentException {@code fetcher} 或 {@code executor} 为 {@code null}，或 {@code limit} 或 {@code prefetch} 不是正数。
+     */
+    public static <T> PageIterator<T> iterator(Function<Range, ? extends RangedResultSet<T>> fetcher, int limit,
+            int prefetch, Executor executor) {
+        return new DefaultPageIterator<>(fetcher, limit, prefetch, executor);
+    }
+
+    /**
+     * 创建逐页获取所有数据记录的顺序流。
+     * <p>关闭流时将关闭底层的迭代器并取消尚未完成的预取，因此应在 {@code try-with-resources} 中使用。
+     * 预取在 {@link ForkJoinPool#commonPool()} 中执行，若获取数据会阻塞，应使用
+     * {@link #stream(Function, int, int, Executor)} 并指定专用的执行程序。</p>
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每页的数量限制的32位整数。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示数据记录的流的 {@link Stream}{@code <T>}。
+     * @throws IllegalArgumentException {@code fetcher} 为 {@code null} 或 {@code limit} 不是正数。
+     */
+    public static <T> Stream<T> stream(Function<Range, ? extends RangedResultSet<T>> fetcher, int limit) {
+        return stream(fetcher, limit, DEFAULT_PREFETCH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 创建逐页获取所有数据记录的顺序流。
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每页的数量限制的32位整数。
+     * @param prefetch 表示至多预取的页的数量的32位整数。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示数据记录的流的 {@link Stream}{@code <T>}。
+     * @throws IllegalArgumentException {@code fetcher} 或 {@code executor} 为 {@code null}，或 {@code limit} 或 {@code prefetch} 不是正数。
+     * @see #stream(Function, int)
+     */
+    public static <T> Stream<T> stream(Function<Range, ? extends RangedResultSet<T>> fetcher, int limit,
+            int prefetch, Executor executor) {
+        PageIterator<T> iterator = iterator(fetcher, limit, prefetch, executor);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * 以有界的并发度获取所有数据记录，并按照原始顺序合并为一个结果集。
+     * <p>获取在 {@link ForkJoinPool#commonPool()} 中执行。</p>
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每个区间的数量限制的32位整数。
+     * @param parallelism 表示至多同时获取的区间数量的32位整数。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}。
+     * @throws IllegalArgumentException {@code fetcher} 为 {@code null}，或 {@code limit} 或 {@code parallelism} 不是正数。
+     * @see #fetchAll(Function, int, int, Executor)
+     */
+    public static <T> CompletableFuture<RangedResultSet<T>> fetchAll(
+            Function<Range, ? extends RangedResultSet<T>> fetcher, int limit, int parallelism) {
+        return fetchAll(fetcher, limit, parallelism, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 以有界的并发度获取所有数据记录，并按照原始顺序合并为一个结果集。
+     * <p>第一页返回后，剩余的数据按照 {@code limit} 划分为区间，至多 {@code parallelism} 个区间同时获取。
+     * 任一区间失败时，返回的 {@link CompletableFuture} 以该异常完成；取消返回的 {@link CompletableFuture} 将停止开始新的区间。
+     * 合并结果的区间偏移量为 {@code 0}，数据总量为第一页所报告的数据总量。</p>
+     * <p>若只需要按顺序逐条处理数据，而不需要将所有数据保存在内存中，应使用
+     * {@link #stream(Function, int, int, Executor)}，它以相同的方式并发获取并按顺序交付。</p>
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每个区间的数量限制的32位整数。
+     * @param parallelism 表示至多同时获取的区间数量的32位整数。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}。
+     * @throws IllegalArgumentException {@code fetcher} 或 {@code executor} 为 {@code null}，或 {@code limit} 或 {@code parallelism} 不是正数。
+     */
+    public static <T> CompletableFuture<RangedResultSet<T>> fetchAll(
+            Function<Range, ? extends RangedResultSet<T>> fetcher, int limit, int parallelism, Executor executor) {
+        return new ParallelPageFetcher<>(fetcher, limit, parallelism, executor).fetch();
+    }
+
+    /**
+     * 获取内存中的数据记录排序后位于指定区间中的数据记录。
+     * <p>只选出区间中及其之前的数据记录，而不对所有数据记录排序，当区间远小于数据记录的数量时显著减少开销。
+     * 比较结果相同的数据记录保持原始顺序。数据记录较多时并行选择。</p>
+     *
+     * @param source 表示所有数据记录的 {@link Collection}{@code <? extends T>}。
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param range 表示需要获取的区间的 {@link Range}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示区间中的数据记录的 {@link RangedResultSet}{@code <T>}，其中的数据记录是只读视图，
+     * 数据总量为所有数据记录的数量。
+     * @throws IllegalArgumentException {@code source}、{@code comparator} 或 {@code range} 为 {@code null}。
+     */
+    public static <T> RangedResultSet<T> page(Collection<? extends T> source, Comparator<? super T> comparator,
+            Range range) {
+        Validation.notNull(source, "The records to page cannot be null.");
+        Stream<? extends T> stream = source.size() < PARALLEL_THRESHOLD ? source.stream() : source.parallelStream();
+        return page(stream, comparator, range);
+    }
+
+    /**
+     * 获取流中的数据记录排序后位于指定区间中的数据记录。
+     * <p>对于并行流，每个分段各自选择后再合并。该方法将消费整个流。</p>
+     *
+     * @param source 表示所有数据记录的 {@link Stream}{@code <? extends T>}。
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param range 表示需要获取的区间的 {@link Range}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示区间中的数据记录的 {@link RangedResultSet}{@code <T>}，其中的数据记录是只读视图，
+     * 数据总量为流中数据记录的数量。
+     * @throws IllegalArgumentException {@code source}、{@code comparator} 或 {@code range} 为 {@code null}。
+     * @see #page(Collection, Comparator, Range)
+     */
+    public static <T> RangedResultSet<T> page(Stream<? extends T> source, Comparator<? super T> comparator,
+            Range range) {
+        Validation.notNull(source, "The records to page cannot be null.");
+        return source.collect(RangeSelector.collector(comparator, range));
+    }
+
+    /**
+     * 从多个分片中获取按照全局顺序排列时位于指定区间中的数据记录。
+     * <p>所有分片同时查询，每个分片获取 {@code offset + limit} 条数据记录，再通过最小堆按照全局顺序合并。
+     * 结果集的数据总量为各分片的数据总量之和，其下一页的游标记录了每个分片已消费的位置，
+     * 使用 {@link #scatter(List, Comparator, CursorRange, Executor)} 获取下一页时，每个分片只需获取 {@code limit} 条数据记录。</p>
+     *
+     * @param shards 表示获取各分片中指定区间的数据的 {@link List}{@code <? extends }{@link Function}{@code >}，
+     * 每个分片返回的数据记录须已按照 {@code comparator} 排序。
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param range 表示区间的 {@link Range}。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}。
+     * @throws IllegalArgumentException {@code shards}、{@code comparator}、{@code range} 或 {@code executor} 为 {@code null}，
+     * {@code shards} 为空或包含 {@code null}，或 {@code offset + limit} 超过了32位整数的范围。
+     */
+    public static <T> CompletableFuture<RangedResultSet<T>> scatter(
+            List<? extends Function<Range, ? extends RangedResultSet<T>>> shards, Comparator<? super T> comparator,
+            Range range, Executor executor) {
+        return new ShardedPageFetcher<T>(shards, comparator, executor).fetch(range);
+    }
+
+    /**
+     * 从多个分片中获取指定游标之后的数据记录。
+     * <p>游标为 {@code null} 时获取第一页。每个分片从游标中记录的位置开始获取至多 {@code limit} 条数据记录。</p>
+     *
+     * @param shards 表示获取各分片中指定区间的数据的 {@link List}{@code <? extends }{@link Function}{@code >}，
+     * 每个分片返回的数据记录须已按照 {@code comparator} 排序。
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param range 表示基于游标的区间的 {@link CursorRange}。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}，
+     * 没有更多数据时其下一页的游标为 {@code null}。
+     * @throws IllegalArgumentException {@code shards}、{@code comparator}、{@code range} 或 {@code executor} 为 {@code null}，
+     * {@code shards} 为空或包含 {@code null}，或游标不是由相同数量的分片返回的。
+     * @see #scatter(List, Comparator, Range, Executor)
+     */
+    public static <T> CompletableFuture<RangedResultSet<T>> scatter(
+            List<? extends Function<Range, ? extends RangedResultSet<T>>> shards, Comparator<? super T> comparator,
+            CursorRange range, Executor executor) {
+        Validation.notNull(range, "The range to fetch cannot be null.");
+        return new ShardedPageFetcher<T>(shards, comparator, executor).fetch(range.cursor(), range.limit());
+    }
+}
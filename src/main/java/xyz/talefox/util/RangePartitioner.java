@@ -0,0 +1,171 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultRangePartitioner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 将一段连续的数据划分为区间，并以有界的并发度处理这些区间。
+ * <p>区间大小可以根据处理每个区间所用的时间自动调整，使其接近目标耗时。处理过程中持续报告检查点，
+ * 检查点之前的所有区间均已处理完成，因此失败后可以从最后一个检查点重新开始处理。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface RangePartitioner {
+    /**
+     * 处理 {@code [start, end)} 中的所有数据。
+     * <p>任一区间处理失败时，返回的 {@link CompletableFuture} 以该异常完成，并不再开始新的区间；
+     * 取消返回的 {@link CompletableFuture} 同样停止开始新的区间。</p>
+     *
+     * @param start 表示起始位置的64位整数。
+     * @param end 表示结束位置（不包含）的64位整数。
+     * @param worker 表示处理区间的方法的 {@link Consumer}{@code <? super }{@link Range}{@code >}。
+     * @return 表示处理结果的 {@link CompletableFuture}{@code <}{@link Void}{@code >}。
+     * @throws IllegalArgumentException {@code worker} 为 {@code null}，{@code start} 是一个负数，或 {@code end} 小于 {@code start}。
+     */
+    CompletableFuture<Void> run(long start, long end, Consumer<? super Range> worker);
+
+    /**
+     * 将 {@code [start, end)} 按照固定的大小划分为区间。
+     *
+     * @param start 表示起始位置的64位整数。
+     * @param end 表示结束位置（不包含）的64位整数。
+     * @param size 表示每个区间的大小的32位整数，最后一个区间可能更小。
+     * @return 表示划分得到的区间的 {@link List}{@code <}{@link Range}{@code >}。
+     * @throws IllegalArgumentException {@code start} 是一个负数、{@code end} 小于 {@code start}，或 {@code size} 不是一个正数。
+     */
+    static List<Range> split(long start, long end, int size) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The span to partition is not valid. [start=%d, end=%d]", start, end));
+        }
+        Validation.greaterThan(size, 0, "The size of a partition must be positive.");
+        List<Range> ranges = new ArrayList<>((int) Math.min((end - start + size - 1) / size, Integer.MAX_VALUE));
+        for (long offset = start; offset < end; offset += size) {
+            ranges.add(Range.create(offset, (int) Math.min(size, end - offset)));
+        }
+        return ranges;
+    }
+
+    /**
+     * 获取区间划分程序的构建程序。
+     *
+     * @return 表示区间划分程序的构建程序的 {@link Builder}。
+     */
+    static Builder builder() {
+        return new DefaultRangePartitioner.Builder();
+    }
+
+    /**
+     * 表示区间处理进度的监听程序。
+     */
+    @FunctionalInterface
+    interface Progress {
+        /**
+         * 当一个区间处理完成时被调用。
+         * <p>该方法可能在多个线程中同时调用。</p>
+         *
+         * @param range 表示处理完成的区间的 {@link Range}。
+         * @param elapsed 表示处理所用时间的纳秒数的64位整数。
+         */
+        void completed(Range range, long elapsed);
+    }
+
+    /**
+     * 为 {@link RangePartitioner} 提供构建程序。
+     */
+    interface Builder {
+        /**
+         * 设置至多同时处理的区间的数量。
+         *
+         * @param parallelism 表示并发度的32位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code parallelism} 不是一个正数。
+         */
+        Builder parallelism(int parallelism);
+
+        /**
+         * 设置用以处理区间的执行程序，默认为 {@link ForkJoinPool#commonPool()}。
+         * <p>公共池的线程数量与处理器数量相当，且由并行流等计算任务共享。若处理区间会阻塞（例如读写数据库），
+         * 应指定专用的执行程序，否则阻塞的处理会占用公共池的线程，拖慢整个进程中的计算任务。</p>
+         *
+         * @param executor 表示执行程序的 {@link Executor}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code executor} 为 {@code null}。
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * 设置区间的初始大小。
+         *
+         * @param size 表示区间大小的32位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code size} 不是一个正数。
+         */
+        Builder chunkSize(int size);
+
+        /**
+         * 设置自动调整区间大小时的上下限。
+         *
+         * @param minimum 表示区间大小下限的32位整数。
+         * @param maximum 表示区间大小上限的32位整数。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code minimum} 不是一个正数，或 {@code maximum} 小于 {@code minimum}。
+         */
+        Builder chunkSizeBounds(int minimum, int maximum);
+
+        /**
+         * 设置处理每个区间的目标耗时，设置后将根据实际耗时自动调整区间大小。
+         *
+         * @param latency 表示目标耗时的 {@link Duration}，为 {@code null} 时不调整区间大小。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code latency} 不是一个正数。
+         */
+        Builder targetLatency(Duration latency);
+
+        /**
+         * 设置区间处理进度的监听程序。
+         *
+         * @param progress 表示进度监听程序的 {@link Progress}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder progress(Progress progress);
+
+        /**
+         * 设置检查点的监听程序。
+         * <p>每当连续完成的区间的结束位置前进时，以该位置调用监听程序，且调用的顺序与位置的顺序一致。
+         * 监听程序不在划分区间的锁中调用，同一时刻至多有一个调用；调用期间位置若多次前进，之后只以最新的位置调用一次。
+         * 处理结束前，总会以结束位置调用监听程序。</p>
+         * <p>失败后以最后一个检查点作为起始位置重新调用 {@link RangePartitioner#run(long, long, Consumer)} 即可继续处理。</p>
+         *
+         * @param checkpoint 表示检查点监听程序的 {@link LongConsumer}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder checkpoint(LongConsumer checkpoint);
+
+        /**
+         * 设置用以计算耗时的时钟。
+         *
+         * @param ticker 表示返回当前纳秒时间的 {@link LongSupplier}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        Builder ticker(LongSupplier ticker);
+
+        /**
+         * 构建区间划分程序。
+         *
+         * @return 表示新构建的区间划分程序的 {@link RangePartitioner}。
+         */
+        RangePartitioner build();
+    }
+}
@@ -1,6 +1,10 @@
 package xyz.talefox.util;
 
 import xyz.talefox.util.support.DefaultRangeResult;
+import xyz.talefox.util.support.LazyRangeResult;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
 
 /**
  * 表示区间的结果信息。
@@ -16,6 +20,25 @@ public interface RangeResult extends Range {
      */
     long total();
 
+    /**
+     * 指示数据总量是否是准确值。
+     * <p>对于估算的数据总量或仅知道是否存在更多数据的区间结果，{@link #total()} 返回的不是准确值。</p>
+     *
+     * @return 若数据总量是准确值，则为 {@code true}；否则为 {@code false}。
+     */
+    default boolean exact() {
+        return true;
+    }
+
+    /**
+     * 指示在当前区间之后是否还存在更多的数据记录。
+     *
+     * @return 若存在更多的数据记录，则为 {@code true}；否则为 {@code false}。
+     */
+    default boolean hasMore() {
+        return this.offset() + this.limit() < this.total();
+    }
+
     /**
      * 使用有效区间和数据总量初始化区间结果实现的新实例。
      *
@@ -44,4 +67,64 @@ public interface RangeResult extends Range {
     static RangeResult create(long offset, int limit, long total) {
         return new DefaultRangeResult(offset, limit, total);
     }
+
+    /**
+     * 使用有效区间和计算数据总量的方法初始化区间结果的新实例。
+     * <p>数据总量在首次调用 {@link #total()} 时计算，且只计算一次，从而避免在不需要数据总量时执行代价高昂的计数。
+     * 新实例只与自身相等。</p>
+     *
+     * @param range 表示有效区间的 {@link Range}。
+     * @param counter 表示计算数据总量的方法的 {@link LongSupplier}。
+     * @return 表示新创建的区间结果的 {@link RangeResult}。
+     * @throws IllegalArgumentException {@code range} 或 {@code counter} 为 {@code null}。
+     */
+    static RangeResult lazy(Range range, LongSupplier counter) {
+        if (range == null) {
+            throw new IllegalArgumentException("The range to create result cannot be null.");
+        } else {
+            return new LazyRangeResult(range.offset(), range.limit(), counter);
+        }
+    }
+
+    /**
+     * 使用有效区间和估算的数据总量初始化区间结果的新实例。
+     * <p>新实例的 {@link #exact()} 返回 {@code false}。</p>
+     *
+     * @param range 表示有效区间的 {@link Range}。
+     * @param estimate 表示估算的数据总量的64位整数。
+     * @return 表示新创建的区间结果的 {@link RangeResult}。
+     * @throws IllegalArgumentException {@code range} 为 {@code null}，或 {@code estimate} 是一个负数。
+     */
+    static RangeResult estimated(Range range, long estimate) {
+        if (range == null) {
+            throw new IllegalArgumentException("The range to create result cannot be null.");
+        } else {
+            return new DefaultRangeResult(range.offset(), range.limit(), estimate, false);
+        }
+    }
+
+    /**
+     * 使用有效区间、区间中数据记录的数量及是否存在更多数据初始化区间结果的新实例。
+     * <p>通常通过多获取一条数据记录来判断是否存在更多数据，而无需计算数据总量。存在更多数据时，
+     * {@link #total()} 返回已知的数据总量的下限，且 {@link #exact()} 返回 {@code false}；否则数据总量是准确值。</p>
+     *
+     * @param range 表示有效区间的 {@link Range}。
+     * @param count 表示区间中数据记录的数量的32位整数。
+     * @param more 若存在更多数据，则为 {@code true}；否则为 {@code false}。
+     * @return 表示新创建的区间结果的 {@link RangeResult}。
+     * @throws IllegalArgumentException {@code range} 为 {@code null}，{@code count} 是一个负数或大于数量限制，
+     * 或存在更多数据但 {@code count} 小于数量限制。
+     */
+    static RangeResult withoutTotal(Range range, int count, boolean more) {
+        if (range == null) {
+            throw new IllegalArgumentException("The range to create result cannot be null.");
+        } else if (count < 0 || count > range.limit() || (more && count < range.limit())) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The count of a range result is out of range. [count=%d, limit=%d, more=%s]",
+                    count, range.limit(), more));
+        } else {
+            long total = range.offset() + count + (more ? 1 : 0);
+            return new DefaultRangeResult(range.offset(), range.limit(), total, !more);
+        }
+    }
 }
@@ -26,6 +26,24 @@ public interface RangedResultSet<T> {
      */
     RangeResult range();
 
+    /**
+     * 获取下一页的游标。
+     *
+     * @return 若存在下一页且数据源支持基于游标的分页，则为表示下一页的游标的 {@link Cursor}；否则为 {@code null}。
+     */
+    default Cursor next() {
+        return null;
+    }
+
+    /**
+     * 获取上一页的游标。
+     *
+     * @return 若存在上一页且数据源支持基于游标的分页，则为表示上一页的游标的 {@link Cursor}；否则为 {@code null}。
+     */
+    default Cursor previous() {
+        return null;
+    }
+
     static <T> RangedResultSet<T> create(List<T> results, long offset, int limit, long total) {
         return create(results, RangeResult.create(offset, limit, total));
     }
@@ -44,4 +62,17 @@ public interface RangedResultSet<T> {
     static <T> RangedResultSet<T> create(List<T> results, RangeResult range) {
         return new DefaultRangedResultSet<>(results, range);
     }
+
+    /**
+     * 使用区间的数据集、区间结果及相邻页的游标初始化区间结果集默认实现的新实例。
+     *
+     * @param results 表示数据集的 {@link List}{@code <}{@link T}{@code >}。
+     * @param range 表示区间结果的 {@link RangeResult}。
+     * @param previous 表示上一页的游标的 {@link Cursor}，不存在上一页时为 {@code null}。
+     * @param next 表示下一页的游标的 {@link Cursor}，不存在下一页时为 {@code null}。
+     * @throws IllegalArgumentException {@code results} 或 {@code range} 为 {@code null}。
+     */
+    static <T> RangedResultSet<T> create(List<T> results, RangeResult range, Cursor previous, Cursor next) {
+        return new DefaultRangedResultSet<>(results, range, previous, next);
+    }
 }
@@ -0,0 +1,262 @@
+package xyz.talefox.util;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 为对象提供定期刷新的延迟加载程序。
+ * <p>首次获取时同步加载对象，此后对象在存活时间到期前的一段时间内由后台任务刷新，刷新期间及刷新失败时继续返回原有的对象，
+ * 因此首次加载后获取对象永远不会阻塞。同一时刻至多存在一个刷新任务；刷新失败时按照指数退避的间隔重试，直到刷新成功。</p>
+ *
+ * @param <T> 表示对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class RefreshingLoader<T> implements Supplier<T> {
+    private final Supplier<? extends T> loader;
+    private final long ttl;
+    private final long refreshAhead;
+    private final long minBackoff;
+    private final long maxBackoff;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Entry<T> entry;
+    private volatile long retryAt;
+    private volatile Throwable failure;
+    private int failures;
+
+    private RefreshingLoader(Builder<T> builder) {
+        this.loader = builder.loader;
+        this.ttl = builder.ttl;
+        this.refreshAhead = Math.min(builder.refreshAhead, builder.ttl);
+        this.minBackoff = builder.minBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+        this.retryAt = this.ticker.getAsLong();
+    }
+
+    /**
+     * 使用用以获取对象实例的方法和存活时间获取刷新加载程序的构建程序。
+     *
+     * @param loader 表示用以获取对象实例的方法的 {@link Supplier}。
+     * @param ttl 表示对象的存活时间的 {@link Duration}。
+     * @param <T> 表示对象的类型。
+     * @return 表示刷新加载程序的构建程序的 {@link Builder}。
+     * @throws IllegalArgumentException {@code loader} 或 {@code ttl} 为 {@code null}，或 {@code ttl} 不是一个正数。
+     */
+    public static <T> Builder<T> builder(Supplier<? extends T> loader, Duration ttl) {
+        return new Builder<>(loader, ttl);
+    }
+
+    /**
+     * 获取对象。
+     * <p>首次调用时同步加载，加载失败时抛出加载程序的异常。此后总是立即返回最近一次成功加载的对象，
+     * 并在需要时启动后台刷新。</p>
+     *
+     * @return 表示对象的 {@link Object}。
+     */
+    @Override
+    public T get() {
+        Entry<T> current = this.entry;
+        if (current == null) {
+            return this.initialize();
+        }
+        long now = this.ticker.getAsLong();
+        if (now - current.refreshAt >= 0 && now - this.retryAt >= 0 && this.refreshing.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::refresh);
+            } catch (RuntimeException ex) {
+                this.fail(ex);
+                this.refreshing.set(false);
+            }
+        }
+        return current.value;
+    }
+
+    /**
+     * 指示当前的对象是否已超过存活时间。
+     *
+     * @return 若对象尚未加载或已超过存活时间，则为 {@code true}；否则为 {@code false}。
+     */
+    public boolean expired() {
+        Entry<T> current = this.entry;
+        return current == null || this.ticker.getAsLong() - current.expireAt >= 0;
+    }
+
+    /**
+     * 获取最近一次刷新失败的原因。
+     *
+     * @return 若最近一次刷新失败，则为表示失败原因的 {@link Throwable}；否则为 {@code null}。
+     */
+    public Throwable failure() {
+        return this.failure;
+    }
+
+    private synchronized T initialize() {
+        Entry<T> current = this.entry;
+        if (current == null) {
+            current = this.entry(this.loader.get());
+            this.entry = current;
+        }
+        return current.value;
+    }
+
+    private void refresh() {
+        try {
+            T value = this.loader.get();
+            this.entry = this.entry(value);
+            this.failures = 0;
+            this.failure = null;
+        } catch (Throwable ex) {
+            this.fail(ex);
+        } finally {
+            this.refreshing.set(false);
+        }
+    }
+
+    private void fail(Throwable ex) {
+        // Only the single refresh in flight touches the failure count.
+        int shift = Math.min(this.failures++, 62);
+        long backoff = this.minBackoff <= (this.maxBackoff >> shift) ? this.minBackoff << shift : this.maxBackoff;
+        this.retryAt = this.ticker.getAsLong() + backoff;
+        this.failure = ex;
+    }
+
+    private Entry<T> entry(T value) {
+        long now = this.ticker.getAsLong();
+        return new Entry<>(value, now + this.ttl - this.refreshAhead, now + this.ttl);
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long refreshAt;
+        private final long expireAt;
+
+        private Entry(T value, long refreshAt, long expireAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expireAt = expireAt;
+        }
+    }
+
+    /**
+     * 为 {@link RefreshingLoader} 提供构建程序。
+     *
+     * @param <T> 表示对象的类型。
+     */
+    public static final class Builder<T> {
+        private final Supplier<? extends T> loader;
+        private final long ttl;
+        private long refreshAhead;
+        private long minBackoff;
+        private long maxBackoff;
+        private Executor executor;
+        private LongSupplier ticker;
+
+        private Builder(Supplier<? extends T> loader, Duration ttl) {
+            this.loader = Validation.notNull(loader, "The loader to refresh cannot be null.");
+            this.ttl = positive(ttl, "ttl");
+            this.minBackoff = Math.min(Duration.ofSeconds(1).toNanos(), this.ttl);
+            this.maxBackoff = this.ttl;
+            this.executor = ForkJoinPool.commonPool();
+            this.ticker = System::nanoTime;
+        }
+
+        /**
+         * 设置在存活时间到期前多久开始刷新，默认在到期时开始刷新。
+         *
+         * @param duration 表示提前刷新的时间的 {@link Duration}，超过存活时间时视为存活时间。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code duration} 为 {@code null} 或是一个负数。
+         */
+        public Builder<T> refreshAhead(Duration duration) {
+            Validation.notNull(duration, "The duration to refresh ahead cannot be null.");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The duration to refresh ahead cannot be negative. [duration=%s]", duration));
+            }
+            this.refreshAhead = nanos(duration);
+            return this;
+        }
+
+        /**
+         * 设置刷新失败后重试的最小及最大间隔。
+         * <p>每次连续的失败使重试间隔加倍，但不超过最大间隔。</p>
+         *
+         * @param minimum 表示最小间隔的 {@link Duration}。
+         * @param maximum 表示最大间隔的 {@link Duration}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code minimum} 或 {@code maximum} 为 {@code null} 或不是一个正数，
+         * 或 {@code maximum} 小于 {@code minimum}。
+         */
+        public Builder<T> backoff(Duration minimum, Duration maximum) {
+            long min = positive(minimum, "minimum backoff");
+            long max = positive(maximum, "maximum backoff");
+            if (max < min) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The maximum backoff cannot be less than the minimum. [minimum=%s, maximum=%s]",
+                        minimum, maximum));
+            }
+            this.minBackoff = min;
+            this.maxBackoff = max;
+            return this;
+        }
+
+        /**
+         * 设置用以执行后台刷新的执行程序，默认为 {@link ForkJoinPool#commonPool()}。
+         *
+         * @param executor 表示执行程序的 {@link Executor}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException {@code executor} 为 {@code null}。
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = Validation.notNull(executor, "The executor to refresh cannot be null.");
+            return this;
+        }
+
+        /**
+         * 设置用以计算存活时间的时钟。
+         *
+         * @param ticker 表示返回当前纳秒时间的 {@link LongSupplier}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         */
+        public Builder<T> ticker(LongSupplier ticker) {
+            this.ticker = ticker == null ? System::nanoTime : ticker;
+            return this;
+        }
+
+        /**
+         * 构建刷新加载程序。
+         *
+         * @return 表示新构建的刷新加载程序的 {@link RefreshingLoader}。
+         */
+        public RefreshingLoader<T> build() {
+            return new RefreshingLoader<>(this);
+        }
+
+        private static long positive(Duration duration, String name) {
+            Validation.notNull(duration, String.format(Locale.ROOT, "The %s cannot be null.", name));
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The %s must be positive. [duration=%s]", name, duration));
+            }
+            return nanos(duration);
+        }
+
+        private static long nanos(Duration duration) {
+            try {
+                return duration.toNanos();
+            } catch (ArithmeticException ex) {
+                return Long.MAX_VALUE / 2;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultSemanticVersion;
+
+/**
+ * 为符合 <a href="https://semver.org/spec/v2.0.0.html">语义化版本 2.0.0</a> 的版本提供定义。
+ * <p>语义化版本由主版本号、次版本号、修订版本号，以及可选的先行版本号和版本编译信息组成，例如
+ * {@code 1.4.0-rc.2+sha.5114f85}。语义化版本没有构建版本号，因此 {@link #build()} 总是返回 {@code 0}。</p>
+ * <p>比较时，先行版本低于相同版本号的正式版本，先行版本号按照规范逐个标识符比较；版本编译信息不参与比较和相等性检查。
+ * 没有先行版本号的语义化版本与版本号相同的其他 {@link Version} 相等。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface SemanticVersion extends Version {
+    /**
+     * 获取先行版本号。
+     *
+     * @return 若存在先行版本号，则为表示先行版本号的 {@link String}，例如 {@code rc.2}；否则为 {@code null}。
+     */
+    String preRelease();
+
+    /**
+     * 获取版本编译信息。
+     *
+     * @return 若存在版本编译信息，则为表示版本编译信息的 {@link String}，例如 {@code sha.5114f85}；否则为 {@code null}。
+     */
+    String metadata();
+
+    /**
+     * 从字符串中解析语义化版本。
+     * <p>为了与只包含数字的版本互通，修订版本号可以省略，此时视为 {@code 0}，
+     * 因此 {@link Version#toString()} 得到的两段或三段形式的字符串也可以被解析。</p>
+     *
+     * @param s 表示包含语义化版本信息的字符串的 {@link String}。
+     * @return 若字符串为 {@code null} 或空白，则为 {@code null}；否则为表示解析到的语义化版本的 {@link SemanticVersion}。
+     * @throws VersionFormatException 字符串中包含的语义化版本信息的格式不正确。
+     */
+    static SemanticVersion parse(String s) {
+        return s == null ? null : DefaultSemanticVersion.parse(s, 0, s.length());
+    }
+
+    /**
+     * 尝试从字符序中解析语义化版本。
+     *
+     * @param s 表示包含语义化版本信息的字符序的 {@link CharSequence}。
+     * @return 若字符序为 {@code null}、空白或格式不正确，则为 {@code null}；否则为表示解析到的语义化版本的 {@link SemanticVersion}。
+     */
+    static SemanticVersion tryParse(CharSequence s) {
+        return s == null ? null : DefaultSemanticVersion.tryParse(s, 0, s.length());
+    }
+}
@@ -0,0 +1,27 @@
+package xyz.talefox.util;
+
+/**
+ * 表示不记录调用栈的 {@link IllegalArgumentException}。
+ * <p>在{@link Validation#stackless() 轻量异常模式}下由校验方法抛出，用以降低拒绝大量无效输入时填充调用栈的开销。</p>
+ * <p>{@link Throwable#addSuppressed(Throwable)} 不可被重写，因此仍可追加被抑制的异常，但在追加前不产生任何开销。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public class StacklessIllegalArgumentException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 使用异常信息初始化 {@link StacklessIllegalArgumentException} 类的新实例。
+     *
+     * @param message 表示异常信息的 {@link String}。
+     */
+    public StacklessIllegalArgumentException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
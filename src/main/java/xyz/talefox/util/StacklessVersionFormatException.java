@@ -0,0 +1,36 @@
+package xyz.talefox.util;
+
+/**
+ * 表示不记录调用栈的 {@link VersionFormatException}。
+ * <p>在{@link Validation#stackless() 轻量异常模式}下由版本号解析方法抛出。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public class StacklessVersionFormatException extends VersionFormatException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 使用异常信息初始化 {@link StacklessVersionFormatException} 类的新实例。
+     *
+     * @param message 表示异常信息的 {@link String}。
+     */
+    public StacklessVersionFormatException(String message) {
+        super(message);
+    }
+
+    /**
+     * 使用异常信息和引发异常的原因初始化 {@link StacklessVersionFormatException} 类的新实例。
+     *
+     * @param message 表示异常信息的 {@link String}。
+     * @param cause 表示引发异常的原因的 {@link Throwable}。
+     */
+    public StacklessVersionFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
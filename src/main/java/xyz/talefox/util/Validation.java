@@ -12,17 +12,60 @@ import java.util.function.Supplier;
  * @since 2021/8/9
  */
 public class Validation {
+    /**
+     * 表示用以开启轻量异常模式的系统属性的名称。
+     */
+    public static final String STACKLESS_PROPERTY = "xyz.talefox.util.validation.stackless";
+
+    private static volatile boolean stackless = Boolean.getBoolean(STACKLESS_PROPERTY);
+
     /** 隐藏默认构造方法，避免工具类被实例化。 */
     private Validation() {}
 
+    /**
+     * 检查是否启用了轻量异常模式。
+     * <p>轻量异常模式下，校验失败时抛出的异常不记录调用栈，可通过系统属性 {@value #STACKLESS_PROPERTY} 设置初始值。</p>
+     *
+     * @return 若启用了轻量异常模式，则为 {@code true}；否则为 {@code false}。
+     */
+    public static boolean stackless() {
+        return stackless;
+    }
+
+    /**
+     * 设置是否启用轻量异常模式。
+     * <p>该开关是进程级的：它保存在静态字段中，对同一个类加载器中所有使用 {@link Validation} 的代码（包括其他类库）同时生效。
+     * 应只在应用启动时设置一次，而不应在运行中为局部的调用切换；测试中修改后应恢复原值。</p>
+     *
+     * @param enabled 若为 {@code true}，则启用轻量异常模式；否则禁用。
+     */
+    public static void stackless(boolean enabled) {
+        stackless = enabled;
+    }
+
+    /**
+     * 创建校验失败时抛出的异常。
+     * <p>在轻量异常模式下返回 {@link StacklessIllegalArgumentException}。</p>
+     *
+     * @param error 表示异常信息的 {@link String}。
+     * @return 表示新创建的异常的 {@link IllegalArgumentException}。
+     */
+    public static IllegalArgumentException exception(String error) {
+        return stackless ? new StacklessIllegalArgumentException(error) : new IllegalArgumentException(error);
+    }
+
     private static <T> T validate(T value, Predicate<T> validator, String error) {
-        return validate(value, validator, () -> new IllegalArgumentException(error));
+        if (!validator.test(value)) {
+            throw exception(error);
+        } else {
+            return value;
+        }
     }
 
     private static <T> T validate(T value, Predicate<T> validator, Supplier<? extends RuntimeException> supplier) {
         if (!validator.test(value)) {
             RuntimeException exception = ObjectUtils.mapIf(supplier, Supplier::get);
-            throw ObjectUtils.nullIf(exception, IllegalArgumentException::new);
+            throw ObjectUtils.nullIf(exception, () -> exception(null));
         } else {
             return value;
         }
@@ -146,7 +189,7 @@ public class Validation {
 
     public static int greaterThanOrEquals(int value, int minimum, String error) {
         if (value < minimum) {
-            throw new IllegalArgumentException(error);
+            throw exception(error);
         } else {
             return value;
         }
@@ -156,7 +199,7 @@ public class Validation {
         if (UuidUtils.valid(value)) {
             return value;
         } else {
-            throw new IllegalArgumentException(error);
+            throw exception(error);
         }
     }
 
@@ -164,7 +207,7 @@ public class Validation {
         if (value > minimum) {
             return value;
         } else {
-            throw new IllegalArgumentException(error);
+            throw exception(error);
         }
     }
 }
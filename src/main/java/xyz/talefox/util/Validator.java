@@ -0,0 +1,148 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultValidator;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 为对象提供编译后的校验程序。
+ * <p>校验程序在构建时解析类型的字段并生成校验计划，校验时不再进行反射查找。</p>
+ *
+ * @param <T> 表示待校验的对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface Validator<T> {
+    /**
+     * 校验指定的对象，并在遇到第一个不满足的规则时抛出异常。
+     *
+     * @param object 表示待校验的对象的 {@link Object}。
+     * @return 当对象满足所有规则时的原始对象的 {@link Object}。
+     * @throws IllegalArgumentException {@code object} 为 {@code null}，或对象不满足任一规则。
+     */
+    T validate(T object);
+
+    /**
+     * 校验指定的对象，并收集所有不满足的规则的错误信息。
+     *
+     * @param object 表示待校验的对象的 {@link Object}。
+     * @return 表示所有错误信息的 {@link List}{@code <}{@link String}{@code >}，若对象满足所有规则，则为空列表。
+     * @throws IllegalArgumentException {@code object} 为 {@code null}。
+     */
+    List<String> violations(T object);
+
+    /**
+     * 为指定类型获取校验程序的构建程序。
+     *
+     * @param type 表示待校验的对象的类型的 {@link Class}。
+     * @param <T> 表示待校验的对象的类型。
+     * @return 表示校验程序的构建程序的 {@link Builder}。
+     * @throws IllegalArgumentException {@code type} 为 {@code null}。
+     */
+    static <T> Builder<T> builder(Class<T> type) {
+        return new DefaultValidator.Builder<>(type);
+    }
+
+    /**
+     * 为 {@link Validator} 提供构建程序。
+     * <p>规则按照添加的顺序执行。</p>
+     *
+     * @param <T> 表示待校验的对象的类型。
+     */
+    interface Builder<T> {
+        /**
+         * 要求指定字段的值不可为 {@code null}。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在。
+         */
+        Builder<T> notNull(String field, String error);
+
+        /**
+         * 要求指定字符序字段的值不可为空白字符序。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，或字段不是 {@link CharSequence} 类型。
+         */
+        Builder<T> notBlank(String field, String error);
+
+        /**
+         * 要求指定字符序字段的值不可为空字符序。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，或字段不是 {@link CharSequence} 类型。
+         */
+        Builder<T> notEmpty(String field, String error);
+
+        /**
+         * 要求指定字符序字段的值是一个UUID。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，或字段不是 {@link CharSequence} 类型。
+         */
+        Builder<T> uuid(String field, String error);
+
+        /**
+         * 要求指定整数字段的值大于最小值。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param minimum 表示最小值的32位整数。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，或字段不能转换为32位整数。
+         */
+        Builder<T> greaterThan(String field, int minimum, String error);
+
+        /**
+         * 要求指定整数字段的值大于或等于最小值。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param minimum 表示最小值的32位整数。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，或字段不能转换为32位整数。
+         */
+        Builder<T> greaterThanOrEquals(String field, int minimum, String error);
+
+        /**
+         * 要求指定整数字段的值满足指定的条件。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param predicate 表示校验条件的 {@link IntPredicate}。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，字段不能转换为32位整数，或 {@code predicate} 为 {@code null}。
+         */
+        Builder<T> rule(String field, IntPredicate predicate, String error);
+
+        /**
+         * 要求指定字段的值满足指定的条件。
+         *
+         * @param field 表示字段名称的 {@link String}。
+         * @param type 表示字段的值的类型的 {@link Class}。
+         * @param predicate 表示校验条件的 {@link Predicate}。
+         * @param error 表示不满足规则时的错误信息的 {@link String}。
+         * @param <V> 表示字段的值的类型。
+         * @return 表示当前构建程序的 {@link Builder}。
+         * @throws IllegalArgumentException 字段不存在，字段不是 {@code type} 类型，或 {@code predicate} 为 {@code null}。
+         */
+        <V> Builder<T> rule(String field, Class<V> type, Predicate<? super V> predicate, String error);
+
+        /**
+         * 构建校验程序。
+         *
+         * @return 表示新构建的校验程序的 {@link Validator}。
+         */
+        Validator<T> build();
+    }
+}
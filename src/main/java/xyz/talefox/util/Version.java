@@ -1,6 +1,9 @@
 package xyz.talefox.util;
 
 import xyz.talefox.util.support.DefaultVersion;
+import xyz.talefox.util.support.PackedVersion;
+
+import java.io.IOException;
 
 /**
  * 为版本提供定义。
@@ -58,6 +61,55 @@ public interface Version extends Comparable<Version> {
         return DefaultVersion.COMPARATOR.compare(this, another);
     }
 
+    /**
+     * 将版本的规范文本追加到字符串构建器中。
+     * <p>版本号直接以数字追加，不创建中间的字符串。</p>
+     *
+     * @param builder 表示待追加文本的 {@link StringBuilder}。
+     * @return 表示追加文本后的字符串构建器的 {@link StringBuilder}。
+     * @throws IllegalArgumentException {@code builder} 为 {@code null}。
+     */
+    default StringBuilder appendTo(StringBuilder builder) {
+        Validation.notNull(builder, "The builder to append version to cannot be null.");
+        int revision = this.revision();
+        int build = this.build();
+        builder.append(this.major()).append(SEPARATOR).append(this.minor());
+        if (build > 0) {
+            builder.append(SEPARATOR).append(revision).append(SEPARATOR).append(build);
+        } else if (revision > 0) {
+            builder.append(SEPARATOR).append(revision);
+        }
+        return builder;
+    }
+
+    /**
+     * 将版本的规范文本追加到 {@link Appendable} 中。
+     *
+     * @param appendable 表示待追加文本的 {@link Appendable}。
+     * @throws IllegalArgumentException {@code appendable} 为 {@code null}。
+     * @throws IOException 追加文本的过程发生输入输出异常。
+     */
+    default void appendTo(Appendable appendable) throws IOException {
+        Validation.notNull(appendable, "The appendable to append version to cannot be null.");
+        if (appendable instanceof StringBuilder) {
+            this.appendTo((StringBuilder) appendable);
+        } else {
+            appendable.append(DefaultVersion.format(this.major(), this.minor(), this.revision(), this.build()));
+        }
+    }
+
+    /**
+     * 将版本的规范文本以 ASCII 编码写入字节数组。
+     *
+     * @param buffer 表示待写入的字节数组的 {@code byte[]}。
+     * @param offset 表示开始写入的位置的32位整数。
+     * @return 表示写入的字节数量的32位整数。
+     * @throws IllegalArgumentException {@code buffer} 为 {@code null}，或从 {@code offset} 开始的剩余空间不足。
+     */
+    default int writeTo(byte[] buffer, int offset) {
+        return DefaultVersion.write(buffer, offset, this.major(), this.minor(), this.revision(), this.build());
+    }
+
     /**
      * 使用主版本号和次版本号创建版本号的新实例。
      *
@@ -97,6 +149,49 @@ public interface Version extends Comparable<Version> {
         return new DefaultVersion(major, minor, revision, build);
     }
 
+    /**
+     * 使用主版本号和次版本号获取版本号的规范实例。
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @return 表示版本号的规范实例的 {@link Version}。
+     * @throws IllegalArgumentException {@code major} 或 {@code minor} 为负数。
+     * @see #of(int, int, int, int)
+     */
+    static Version of(int major, int minor) {
+        return of(major, minor, 0, 0);
+    }
+
+    /**
+     * 使用主版本号、次版本号和修订版本号获取版本号的规范实例。
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @return 表示版本号的规范实例的 {@link Version}。
+     * @throws IllegalArgumentException {@code major}、{@code minor} 或 {@code revision} 为负数。
+     * @see #of(int, int, int, int)
+     */
+    static Version of(int major, int minor, int revision) {
+        return of(major, minor, revision, 0);
+    }
+
+    /**
+     * 使用主版本号、次版本号、修订版本号和构建版本号获取版本号的规范实例。
+     * <p>版本号可以被编码为一个64位整数时，返回来自有界缓存的共享实例，其比较和相等性检查都是单次整数运算；
+     * 否则返回新创建的实例。</p>
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 表示版本号的规范实例的 {@link Version}。
+     * @throws IllegalArgumentException {@code major}、{@code minor}、{@code revision} 或 {@code build} 为负数。
+     */
+    static Version of(int major, int minor, int revision, int build) {
+        return PackedVersion.of(major, minor, revision, build);
+    }
+
     /**
      * 从字符串中解析版本号默认实现的信息。
      *
@@ -107,4 +202,42 @@ public interface Version extends Comparable<Version> {
     static Version parse(String s) {
         return DefaultVersion.parse(s);
     }
+
+    /**
+     * 从字符序的指定区域中解析版本号默认实现的信息。
+     * <p>解析过程逐个扫描字符，不创建中间的子串或集合。</p>
+     *
+     * @param s 表示包含版本号信息的字符序的 {@link CharSequence}。
+     * @param start 表示区域的起始位置（包含）的32位整数。
+     * @param end 表示区域的结束位置（不包含）的32位整数。
+     * @return 若区域为空白，则为 {@code null}；否则为表示从区域中解析到的版本号的信息的 {@link Version}。
+     * @throws IllegalArgumentException 区域超出了字符序的范围。
+     * @throws VersionFormatException 区域中包含的版本号信息的格式不正确。
+     */
+    static Version parse(CharSequence s, int start, int end) {
+        return DefaultVersion.parse(s, start, end);
+    }
+
+    /**
+     * 尝试从字符序中解析版本号默认实现的信息。
+     *
+     * @param s 表示包含版本号信息的字符序的 {@link CharSequence}。
+     * @return 若字符序为 {@code null}、空白或格式不正确，则为 {@code null}；否则为表示解析到的版本号的信息的 {@link Version}。
+     */
+    static Version tryParse(CharSequence s) {
+        return s == null ? null : DefaultVersion.tryParse(s, 0, s.length());
+    }
+
+    /**
+     * 尝试从字符序的指定区域中解析版本号默认实现的信息。
+     *
+     * @param s 表示包含版本号信息的字符序的 {@link CharSequence}。
+     * @param start 表示区域的起始位置（包含）的32位整数。
+     * @param end 表示区域的结束位置（不包含）的32位整数。
+     * @return 若区域为空白或格式不正确，则为 {@code null}；否则为表示从区域中解析到的版本号的信息的 {@link Version}。
+     * @throws IllegalArgumentException 区域超出了字符序的范围。
+     */
+    static Version tryParse(CharSequence s, int start, int end) {
+        return DefaultVersion.tryParse(s, start, end);
+    }
 }
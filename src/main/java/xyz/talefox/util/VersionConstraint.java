@@ -0,0 +1,62 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultVersionConstraint;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 为版本约束提供定义。
+ * <p>约束由一个或多个条件组成，条件之间使用 {@code ||} 或 {@code ,} 分隔，满足任一条件即满足约束。条件支持以下形式：</p>
+ * <ul>
+ *     <li>区间：{@code [2.0,3.0)}、{@code (1.0,)}、{@code [,2.0]}，方括号表示包含边界，圆括号表示不包含边界，省略的边界表示不受限制；</li>
+ *     <li>精确版本：{@code [1.2.3]} 或 {@code 1.2.3}；</li>
+ *     <li>通配符：{@code 1.2.*}、{@code 1.x}，匹配具有相同前缀的所有版本；</li>
+ *     <li>任意版本：{@code *}。</li>
+ * </ul>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public interface VersionConstraint {
+    /**
+     * 检查指定的版本是否满足约束。
+     *
+     * @param version 表示待检查的版本的 {@link Version}。
+     * @return 若版本满足约束，则为 {@code true}；否则为 {@code false}。
+     * @throws IllegalArgumentException {@code version} 为 {@code null}。
+     */
+    boolean matches(Version version);
+
+    /**
+     * 检查指定的编码后的版本是否满足约束。
+     *
+     * @param key 表示编码后的版本的64位整数。
+     * @return 若版本满足约束，则为 {@code true}；否则为 {@code false}。
+     * @see xyz.talefox.util.support.PackedVersion#pack(Version)
+     */
+    boolean matches(long key);
+
+    /**
+     * 从指定的版本集合中筛选出满足约束的版本。
+     *
+     * @param versions 表示待筛选的版本集合的 {@link Collection}{@code <? extends }{@link Version}{@code >}。
+     * @param <V> 表示版本的实际类型。
+     * @return 表示满足约束的版本的 {@link List}{@code <}{@link Version}{@code >}，顺序与原始集合一致。
+     * @throws IllegalArgumentException {@code versions} 为 {@code null} 或包含 {@code null}。
+     */
+    <V extends Version> List<V> filter(Collection<? extends V> versions);
+
+    /**
+     * 解析版本约束。
+     * <p>解析结果是不可变的，并且会被缓存，重复解析相同的约束不会重复编译。</p>
+     *
+     * @param constraint 表示版本约束的 {@link String}。
+     * @return 表示解析到的版本约束的 {@link VersionConstraint}。
+     * @throws IllegalArgumentException {@code constraint} 是空白字符串。
+     * @throws VersionFormatException 版本约束的格式不正确。
+     */
+    static VersionConstraint parse(String constraint) {
+        return DefaultVersionConstraint.parse(constraint);
+    }
+}
@@ -8,4 +8,31 @@ public class VersionFormatException extends IllegalArgumentException {
     public VersionFormatException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * 创建版本号格式异常。
+     * <p>在{@link Validation#stackless() 轻量异常模式}下返回 {@link StacklessVersionFormatException}。</p>
+     *
+     * @param message 表示异常信息的 {@link String}。
+     * @return 表示新创建的异常的 {@link VersionFormatException}。
+     */
+    public static VersionFormatException create(String message) {
+        return Validation.stackless()
+                ? new StacklessVersionFormatException(message)
+                : new VersionFormatException(message);
+    }
+
+    /**
+     * 创建版本号格式异常。
+     * <p>在{@link Validation#stackless() 轻量异常模式}下返回 {@link StacklessVersionFormatException}。</p>
+     *
+     * @param message 表示异常信息的 {@link String}。
+     * @param cause 表示引发异常的原因的 {@link Throwable}。
+     * @return 表示新创建的异常的 {@link VersionFormatException}。
+     */
+    public static VersionFormatException create(String message, Throwable cause) {
+        return Validation.stackless()
+                ? new StacklessVersionFormatException(message, cause)
+                : new VersionFormatException(message, cause);
+    }
 }
@@ -0,0 +1,498 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultSemanticVersion;
+import xyz.talefox.util.support.DefaultVersion;
+import xyz.talefox.util.support.DefaultVersionConstraint;
+import xyz.talefox.util.support.PackedVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 为版本提供有序索引，用以快速查找满足约束的最高或最低版本。
+ * <p>索引中的版本以{@link PackedVersion 编码后的键}保存在有序的 {@code long[]} 中，所有查询都通过二分查找完成。
+ * 不能被编码的版本（先行版本，或版本号超出编码范围的版本，如以日期作为构建号的版本）另外按照
+ * {@link DefaultVersion#COMPARATOR} 的顺序保存在有序的 {@link Version}{@code []} 中，查询时与编码后的键的结果合并。
+ * 这类版本通常很少，按照约束查询时逐一匹配。查询总是返回添加时的版本实例，因此保留版本的类型及构建元数据等信息。</p>
+ * <p>写入采用写时复制，因此读取不需要加锁，{@link #snapshot()} 也只需要共享当前数组。
+ * 每次调用 {@link #add(Version)} 都将复制整个数组，批量写入时应使用 {@link #addAll(Collection)} 或 {@link #of(Collection)}，
+ * 使新版本只排序并合并一次。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class VersionIndex {
+    private static final Data EMPTY = new Data(new long[0], new Version[0], new Version[0]);
+
+    private final AtomicReference<Data> data;
+    private final boolean readOnly;
+
+    /**
+     * 初始化 {@link VersionIndex} 类的新实例。
+     */
+    public VersionIndex() {
+        this(EMPTY, false);
+    }
+
+    private VersionIndex(Data data, boolean readOnly) {
+        this.data = new AtomicReference<>(data);
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * 使用指定的版本创建索引。
+     *
+     * @param versions 表示索引中的版本的 {@link Collection}{@code <? extends }{@link Version}{@code >}。
+     * @return 表示新创建的索引的 {@link VersionIndex}。
+     * @throws IllegalArgumentException {@code versions} 为 {@code null}，或包含 {@code null}。
+     */
+    public static VersionIndex of(Collection<? extends Version> versions) {
+        VersionIndex index = new VersionIndex();
+        index.addAll(versions);
+        return index;
+    }
+
+    /**
+     * 向索引中添加一个版本。
+     * <p>每次添加都将复制索引中的数组，时间复杂度为 O(n)。</p>
+     *
+     * @param version 表示待添加的版本的 {@link Version}。
+     * @return 若索引中原本不包含该版本，则为 {@code true}；否则为 {@code false}。
+     * @throws IllegalArgumentException {@code version} 为 {@code null}。
+     * @throws UnsupportedOperationException 当前索引是只读的快照。
+     */
+    public boolean add(Version version) {
+        this.checkWritable();
+        long key = PackedVersion.pack(Validation.notNull(version, "The version to index cannot be null."));
+        while (true) {
+            Data current = this.data.get();
+            Data updated;
+            if (key != PackedVersion.NOT_PACKABLE) {
+                int index = Arrays.binarySearch(current.keys, key);
+                if (index >= 0) {
+                    return false;
+                }
+                updated = new Data(insert(current.keys, -index - 1, key), insert(current.packed, -index - 1, version),
+                        current.others);
+            } else {
+                int index = Arrays.binarySearch(current.others, version, DefaultVersion.COMPARATOR);
+                if (index >= 0) {
+                    return false;
+                }
+                updated = new Data(current.keys, current.packed, insert(current.others, -index - 1, version));
+            }
+            if (this.data.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    private static long[] insert(long[] keys, int insertion, long key) {
+        long[] updated = new long[keys.length + 1];
+        System.arraycopy(keys, 0, updated, 0, insertion);
+        updated[insertion] = key;
+        System.arraycopy(keys, insertion, updated, insertion + 1, keys.length - insertion);
+        return updated;
+    }
+
+    private static Version[] insert(Version[] versions, int insertion, Version version) {
+        Version[] updated = new Version[versions.length + 1];
+        System.arraycopy(versions, 0, updated, 0, insertion);
+        updated[insertion] = version;
+        System.arraycopy(versions, insertion, updated, insertion + 1, versions.length - insertion);
+        return updated;
+    }
+
+    /**
+     * 向索引中批量添加版本。
+     * <p>新版本只排序一次，再与已有的版本合并。</p>
+     *
+     * @param versions 表示待添加的版本的 {@link Collection}{@code <? extends }{@link Version}{@code >}。
+     * @throws IllegalArgumentException {@code versions} 为 {@code null}，或包含 {@code null}。
+     * @throws UnsupportedOperationException 当前索引是只读的快照。
+     */
+    public void addAll(Collection<? extends Version> versions) {
+        this.checkWritable();
+        Validation.notNull(versions, "The versions to add to index cannot be null.");
+        List<Version> packable = new ArrayList<>(versions.size());
+        List<Version> unpacked = new ArrayList<>();
+        for (Version version : versions) {
+            long key = PackedVersion.pack(Validation.notNull(version, "The version to index cannot be null."));
+            if (key != PackedVersion.NOT_PACKABLE) {
+                packable.add(version);
+            } else {
+                unpacked.add(version);
+            }
+        }
+        // The order of the comparator agrees with the order of the keys, and the stable sort keeps the first duplicate.
+        Version[] added = packable.toArray(new Version[0]);
+        Arrays.sort(added, DefaultVersion.COMPARATOR);
+        long[] keys = new long[added.length];
+        for (int i = 0; i < added.length; i++) {
+            keys[i] = PackedVersion.pack(added[i]);
+        }
+        Version[] others = unpacked.toArray(new Version[0]);
+        Arrays.sort(others, DefaultVersion.COMPARATOR);
+        while (true) {
+            Data current = this.data.get();
+            Data merged = merge(current, keys, added, others);
+            if (this.data.compareAndSet(current, merged)) {
+                return;
+            }
+        }
+    }
+
+    private static Data merge(Data current, long[] keys, Version[] added, Version[] others) {
+        long[] mergedKeys = new long[current.keys.length + keys.length];
+        Version[] mergedPacked = new Version[mergedKeys.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < current.keys.length || j < keys.length) {
+            long next;
+            Version version;
+            if (j >= keys.length || (i < current.keys.length && current.keys[i] <= keys[j])) {
+                next = current.keys[i];
+                version = current.packed[i++];
+            } else {
+                next = keys[j];
+                version = added[j++];
+            }
+            if (size == 0 || mergedKeys[size - 1] != next) {
+                mergedKeys[size] = next;
+                mergedPacked[size++] = version;
+            }
+        }
+        if (size < mergedKeys.length) {
+            mergedKeys = Arrays.copyOf(mergedKeys, size);
+            mergedPacked = Arrays.copyOf(mergedPacked, size);
+        }
+        return new Data(mergedKeys, mergedPacked, merge(current.others, others));
+    }
+
+    private static Version[] merge(Version[] current, Version[] added) {
+        if (added.length == 0) {
+            return current;
+        }
+        Version[] merged = new Version[current.length + added.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < current.length || j < added.length) {
+            Version next;
+            if (j >= added.length
+                    || (i < current.length && DefaultVersion.COMPARATOR.compare(current[i], added[j]) <= 0)) {
+                next = current[i++];
+            } else {
+                next = added[j++];
+            }
+            if (size == 0 || DefaultVersion.COMPARATOR.compare(merged[size - 1], next) != 0) {
+                merged[size++] = next;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private void checkWritable() {
+        if (this.readOnly) {
+            throw new UnsupportedOperationException("The snapshot of a version index is read-only.");
+        }
+    }
+
+    /**
+     * 获取索引的只读快照。
+     * <p>快照与索引共享当前的数据，之后对索引的修改不会影响快照。</p>
+     *
+     * @return 表示索引的只读快照的 {@link VersionIndex}。
+     */
+    public VersionIndex snapshot() {
+        return new VersionIndex(this.data.get(), true);
+    }
+
+    /**
+     * 获取索引中版本的数量。
+     *
+     * @return 表示版本数量的32位整数。
+     */
+    public int size() {
+        Data current = this.data.get();
+        return current.keys.length + current.others.length;
+    }
+
+    /**
+     * 检查索引中是否包含指定的版本。
+     *
+     * @param version 表示待检查的版本的 {@link Version}。
+     * @return 若索引中包含该版本，则为 {@code true}；否则为 {@code false}。
+     * @throws IllegalArgumentException {@code version} 为 {@code null}。
+     */
+    public boolean contains(Version version) {
+        long key = PackedVersion.pack(Validation.notNull(version, "The version to look up cannot be null."));
+        Data current = this.data.get();
+        if (key != PackedVersion.NOT_PACKABLE) {
+            return Arrays.binarySearch(current.keys, key) >= 0;
+        } else {
+            return Arrays.binarySearch(current.others, version, DefaultVersion.COMPARATOR) >= 0;
+        }
+    }
+
+    /**
+     * 获取满足约束的最高版本。
+     *
+     * @param constraint 表示版本约束的 {@link VersionConstraint}。
+     * @return 若存在满足约束的版本，则为其中最高的版本的 {@link Version}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code constraint} 为 {@code null}。
+     */
+    public Version highest(VersionConstraint constraint) {
+        Validation.notNull(constraint, "The constraint to match versions cannot be null.");
+        Data current = this.data.get();
+        Version other = null;
+        for (int i = current.others.length - 1; i >= 0 && other == null; i--) {
+            if (constraint.matches(current.others[i])) {
+                other = current.others[i];
+            }
+        }
+        return higher(highest(current, constraint), other);
+    }
+
+    private static Version highest(Data current, VersionConstraint constraint) {
+        long[] keys = current.keys;
+        if (constraint instanceof DefaultVersionConstraint) {
+            DefaultVersionConstraint compiled = (DefaultVersionConstraint) constraint;
+            for (int i = compiled.intervals() - 1; i >= 0; i--) {
+                int index = floorIndex(keys, compiled.upper(i));
+                if (index >= 0 && keys[index] >= compiled.lower(i)) {
+                    return current.packed[index];
+                }
+            }
+        } else {
+            for (int i = keys.length - 1; i >= 0; i--) {
+                if (constraint.matches(keys[i])) {
+                    return current.packed[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取满足约束的最低版本。
+     *
+     * @param constraint 表示版本约束的 {@link VersionConstraint}。
+     * @return 若存在满足约束的版本，则为其中最低的版本的 {@link Version}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code constraint} 为 {@code null}。
+     */
+    public Version lowest(VersionConstraint constraint) {
+        Validation.notNull(constraint, "The constraint to match versions cannot be null.");
+        Data current = this.data.get();
+        Version other = null;
+        for (int i = 0; i < current.others.length && other == null; i++) {
+            if (constraint.matches(current.others[i])) {
+                other = current.others[i];
+            }
+        }
+        return lower(lowest(current, constraint), other);
+    }
+
+    private static Version lowest(Data current, VersionConstraint constraint) {
+        long[] keys = current.keys;
+        if (constraint instanceof DefaultVersionConstraint) {
+            DefaultVersionConstraint compiled = (DefaultVersionConstraint) constraint;
+            for (int i = 0; i < compiled.intervals(); i++) {
+                int index = floorIndex(keys, compiled.lower(i) - 1) + 1;
+                if (index < keys.length && keys[index] <= compiled.upper(i)) {
+                    return current.packed[index];
+                }
+            }
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                if (constraint.matches(keys[i])) {
+                    return current.packed[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取满足约束的版本的数量。
+     *
+     * @param constraint 表示版本约束的 {@link VersionConstraint}。
+     * @return 表示满足约束的版本数量的32位整数。
+     * @throws IllegalArgumentException {@code constraint} 为 {@code null}。
+     */
+    public int count(VersionConstraint constraint) {
+        Validation.notNull(constraint, "The constraint to match versions cannot be null.");
+        Data current = this.data.get();
+        int count = 0;
+        if (constraint instanceof DefaultVersionConstraint) {
+            DefaultVersionConstraint compiled = (DefaultVersionConstraint) constraint;
+            for (int i = 0; i < compiled.intervals(); i++) {
+                count += floorIndex(current.keys, compiled.upper(i)) - floorIndex(current.keys, compiled.lower(i) - 1);
+            }
+        } else {
+            for (long key : current.keys) {
+                if (constraint.matches(key)) {
+                    count++;
+                }
+            }
+        }
+        for (Version version : current.others) {
+            if (constraint.matches(version)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 获取不高于指定版本的最高版本。
+     *
+     * @param version 表示参照版本的 {@link Version}。
+     * @return 若存在这样的版本，则为该版本的 {@link Version}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code version} 为 {@code null}。
+     */
+    public Version floor(Version version) {
+        Data current = this.data.get();
+        int index = floorIndex(current.keys, version);
+        int other = floorIndex(current.others, version, true);
+        return higher(index >= 0 ? current.packed[index] : null, other >= 0 ? current.others[other] : null);
+    }
+
+    /**
+     * 获取不低于指定版本的最低版本。
+     *
+     * @param version 表示参照版本的 {@link Version}。
+     * @return 若存在这样的版本，则为该版本的 {@link Version}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code version} 为 {@code null}。
+     */
+    public Version ceiling(Version version) {
+        Data current = this.data.get();
+        int index = floorIndex(current.keys, version);
+        Version packed;
+        if (index >= 0 && compare(version, current.keys[index]) == 0) {
+            packed = current.packed[index];
+        } else {
+            packed = index + 1 < current.keys.length ? current.packed[index + 1] : null;
+        }
+        int other = floorIndex(current.others, version, false) + 1;
+        return lower(packed, other < current.others.length ? current.others[other] : null);
+    }
+
+    /**
+     * 获取在指定的两个版本之间（包含边界）的版本的数量。
+     *
+     * @param from 表示下界的 {@link Version}。
+     * @param to 表示上界的 {@link Version}。
+     * @return 表示版本数量的32位整数。
+     * @throws IllegalArgumentException {@code from} 或 {@code to} 为 {@code null}。
+     */
+    public int count(Version from, Version to) {
+        Data current = this.data.get();
+        int upper = floorIndex(current.keys, to);
+        int lower = floorIndex(current.keys, from);
+        if (lower >= 0 && compare(from, current.keys[lower]) == 0) {
+            lower--;
+        }
+        int others = floorIndex(current.others, to, true) - floorIndex(current.others, from, false);
+        return Math.max(0, upper - lower) + Math.max(0, others);
+    }
+
+    private static Version higher(Version v1, Version v2) {
+        if (v1 == null || v2 == null) {
+            return v1 == null ? v2 : v1;
+        }
+        return DefaultVersion.COMPARATOR.compare(v1, v2) >= 0 ? v1 : v2;
+    }
+
+    private static Version lower(Version v1, Version v2) {
+        if (v1 == null || v2 == null) {
+            return v1 == null ? v2 : v1;
+        }
+        return DefaultVersion.COMPARATOR.compare(v1, v2) <= 0 ? v1 : v2;
+    }
+
+    private static int floorIndex(Version[] versions, Version version, boolean inclusive) {
+        int low = 0;
+        int high = versions.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = DefaultVersion.COMPARATOR.compare(versions[middle], version);
+            if (result < 0 || (inclusive && result == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private static int floorIndex(long[] keys, long key) {
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private static int floorIndex(long[] keys, Version version) {
+        long key = PackedVersion.pack(Validation.notNull(version, "The version to look up cannot be null."));
+        if (key != PackedVersion.NOT_PACKABLE) {
+            return floorIndex(keys, key);
+        }
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (compare(version, keys[middle]) >= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private static int compare(Version version, long key) {
+        int result = Integer.compare(version.major(), PackedVersion.major(key));
+        if (result == 0) {
+            result = Integer.compare(version.minor(), PackedVersion.minor(key));
+        }
+        if (result == 0) {
+            result = Integer.compare(version.revision(), PackedVersion.revision(key));
+        }
+        if (result == 0) {
+            result = Integer.compare(version.build(), PackedVersion.build(key));
+        }
+        if (result == 0 && DefaultSemanticVersion.preReleased(version)) {
+            // A pre-release precedes the release with the same numbers, which is the only kind stored in the index.
+            result = -1;
+        }
+        return result;
+    }
+
+    /**
+     * 表示索引中的数据，写入时整体替换，使读取和快照总能看到一致的数组。
+     * <p>{@link #packed} 与 {@link #keys} 一一对应，保存添加时的版本实例，使查询返回调用方添加的版本而不是解码后的版本。</p>
+     */
+    private static final class Data {
+        private final long[] keys;
+        private final Version[] packed;
+        private final Version[] others;
+
+        private Data(long[] keys, Version[] packed, Version[] others) {
+            this.keys = keys;
+            this.packed = packed;
+            this.others = others;
+        }
+    }
+}
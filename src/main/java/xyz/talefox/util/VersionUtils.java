@@ -0,0 +1,222 @@
+package xyz.talefox.util;
+
+import xyz.talefox.util.support.DefaultVersion;
+import xyz.talefox.util.support.PackedVersion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.stream.IntStream;
+
+/**
+ * 为版本提供工具方法。
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class VersionUtils {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int INSERTION_THRESHOLD = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** 隐藏默认构造方法，避免工具类被实例化。 */
+    private VersionUtils() {}
+
+    /**
+     * 按照 {@link DefaultVersion#COMPARATOR} 的顺序对版本列表进行排序。
+     * <p>排序是稳定的。当所有版本都可以被编码时，每个版本只提取一次编码后的键，通过基数排序得到顺序后再重排列表，
+     * 数据量较大时并行排序；否则退化为使用比较程序排序。</p>
+     *
+     * @param versions 表示待排序的版本列表的 {@link List}{@code <V>}。
+     * @param <V> 表示版本的实际类型。
+     * @throws IllegalArgumentException {@code versions} 为 {@code null} 或包含 {@code null}。
+     */
+    public static <V extends Version> void sort(List<V> versions) {
+        Validation.notNull(versions, "The versions to sort cannot be null.");
+        Object[] array = versions.toArray();
+        int[] order = order(array);
+        if (order == null) {
+            Arrays.sort(array, (v1, v2) -> DefaultVersion.COMPARATOR.compare((Version) v1, (Version) v2));
+        }
+        ListIterator<V> iterator = versions.listIterator();
+        for (int i = 0; i < array.length; i++) {
+            iterator.next();
+            @SuppressWarnings("unchecked")
+            V version = (V) array[order == null ? i : order[i]];
+            iterator.set(version);
+        }
+    }
+
+    /**
+     * 按照 {@link DefaultVersion#COMPARATOR} 的顺序对版本数组进行排序。
+     *
+     * @param versions 表示待排序的版本数组的 {@code V[]}。
+     * @param <V> 表示版本的实际类型。
+     * @throws IllegalArgumentException {@code versions} 为 {@code null} 或包含 {@code null}。
+     * @see #sort(List)
+     */
+    public static <V extends Version> void sort(V[] versions) {
+        Validation.notNull(versions, "The versions to sort cannot be null.");
+        int[] order = order(versions);
+        if (order == null) {
+            Arrays.sort(versions, DefaultVersion.COMPARATOR);
+        } else {
+            V[] copy = versions.clone();
+            for (int i = 0; i < versions.length; i++) {
+                versions[i] = copy[order[i]];
+            }
+        }
+    }
+
+    /**
+     * 计算版本排序后的顺序。
+     *
+     * @param versions 表示待排序的版本的 {@link Object}{@code []}。
+     * @return 若所有版本都可以被编码，则为表示排序后每个位置上的版本在原数组中的索引的 {@code int[]}；否则为 {@code null}。
+     * @throws IllegalArgumentException {@code versions} 中包含 {@code null}。
+     */
+    private static int[] order(Object[] versions) {
+        long[] keys = new long[versions.length];
+        boolean packable = true;
+        for (int i = 0; i < versions.length; i++) {
+            keys[i] = PackedVersion.pack(Validation.notNull((Version) versions[i],
+                    "The version to sort cannot be null."));
+            packable &= keys[i] != PackedVersion.NOT_PACKABLE;
+        }
+        if (!packable) {
+            return null;
+        }
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        if (keys.length < PARALLEL_THRESHOLD) {
+            radix(keys, order, 0, keys.length, new long[keys.length], new int[keys.length]);
+            return order;
+        } else {
+            return parallelRadix(keys, order);
+        }
+    }
+
+    /**
+     * 按照最高的不同字节将键分为若干个桶，再并行地对每个桶进行排序。
+     *
+     * @param keys 表示待排序的键的 {@code long[]}。
+     * @param order 表示键对应的原始索引的 {@code int[]}。
+     * @return 表示排序后的原始索引的 {@code int[]}。
+     */
+    private static int[] parallelRadix(long[] keys, int[] order) {
+        long varying = varying(keys, 0, keys.length);
+        if (varying == 0) {
+            return order;
+        }
+        int shift = highestShift(varying);
+        int[] starts = new int[RADIX + 1];
+        for (long key : keys) {
+            starts[digit(key, shift) + 1]++;
+        }
+        for (int i = 0; i < RADIX; i++) {
+            starts[i + 1] += starts[i];
+        }
+        long[] sortedKeys = new long[keys.length];
+        int[] sortedOrder = new int[keys.length];
+        int[] positions = Arrays.copyOf(starts, RADIX);
+        for (int i = 0; i < keys.length; i++) {
+            int position = positions[digit(keys[i], shift)]++;
+            sortedKeys[position] = keys[i];
+            sortedOrder[position] = order[i];
+        }
+        // Each bucket is sorted in place, using the disjoint range of the original arrays as its buffer.
+        IntStream.range(0, RADIX).parallel()
+                .forEach(bucket -> radix(sortedKeys, sortedOrder, starts[bucket], starts[bucket + 1], keys, order));
+        return sortedOrder;
+    }
+
+    /**
+     * 使用低位优先的基数排序对指定范围内的键进行稳定排序，所有键都相同的字节将被跳过。
+     *
+     * @param keys 表示待排序的键的 {@code long[]}。
+     * @param order 表示键对应的原始索引的 {@code int[]}。
+     * @param from 表示范围的起始位置（包含）的32位整数。
+     * @param to 表示范围的结束位置（不包含）的32位整数。
+     * @param keyBuffer 表示用于交换键的缓冲区的 {@code long[]}。
+     * @param orderBuffer 表示用于交换原始索引的缓冲区的 {@code int[]}。
+     */
+    private static void radix(long[] keys, int[] order, int from, int to, long[] keyBuffer, int[] orderBuffer) {
+        if (to - from < INSERTION_THRESHOLD) {
+            insertion(keys, order, from, to);
+            return;
+        }
+        long varying = varying(keys, from, to);
+        if (varying == 0) {
+            return;
+        }
+        int highest = highestShift(varying);
+        long[] sourceKeys = keys;
+        int[] sourceOrder = order;
+        long[] targetKeys = keyBuffer;
+        int[] targetOrder = orderBuffer;
+        int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift <= highest; shift += RADIX_BITS) {
+            if (((varying >>> shift) & DIGIT_MASK) == 0) {
+                continue;
+            }
+            Arrays.fill(counts, 0);
+            for (int i = from; i < to; i++) {
+                counts[digit(sourceKeys[i], shift) + 1]++;
+            }
+            for (int i = 0; i < RADIX; i++) {
+                counts[i + 1] += counts[i];
+            }
+            for (int i = from; i < to; i++) {
+                int position = from + counts[digit(sourceKeys[i], shift)]++;
+                targetKeys[position] = sourceKeys[i];
+                targetOrder[position] = sourceOrder[i];
+            }
+            long[] swappedKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swappedKeys;
+            int[] swappedOrder = sourceOrder;
+            sourceOrder = targetOrder;
+            targetOrder = swappedOrder;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, from, keys, from, to - from);
+            System.arraycopy(sourceOrder, from, order, from, to - from);
+        }
+    }
+
+    private static void insertion(long[] keys, int[] order, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int index = order[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                order[j + 1] = order[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            order[j + 1] = index;
+        }
+    }
+
+    private static long varying(long[] keys, int from, int to) {
+        long varying = 0;
+        for (int i = from; i < to; i++) {
+            varying |= keys[i] ^ keys[from];
+        }
+        return varying;
+    }
+
+    private static int highestShift(long varying) {
+        int bit = Long.SIZE - 1 - Long.numberOfLeadingZeros(varying);
+        return bit - bit % RADIX_BITS;
+    }
+
+    private static int digit(long key, int shift) {
+        return (int) (key >>> shift) & DIGIT_MASK;
+    }
+}
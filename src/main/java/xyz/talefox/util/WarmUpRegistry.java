@@ -0,0 +1,443 @@
+package xyz.talefox.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 为延迟加载的对象提供启动预热的注册表。
+ * <p>将 {@link LazyLoader} 等加载程序连同优先级及依赖注册到注册表中，在启动阶段显式调用 {@link #warmUp()} 并行地加载它们，
+ * 使首个请求不必承担初始化的开销。一个加载程序在其依赖全部加载成功后才开始加载，同时就绪的加载程序按照优先级从高到低开始；
+ * 若某个加载程序加载失败，依赖它的加载程序将被跳过。预热完成后，{@link Report} 记录每个加载程序所用的时间。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class WarmUpRegistry {
+    private static final Comparator<Task> ORDER =
+            Comparator.comparingInt((Task task) -> task.priority).reversed().thenComparingInt(task -> task.order);
+
+    private final LongSupplier ticker;
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+    private CompletableFuture<Report> warmUp;
+
+    /**
+     * 初始化 {@link WarmUpRegistry} 类的新实例。
+     */
+    public WarmUpRegistry() {
+        this(System::nanoTime);
+    }
+
+    WarmUpRegistry(LongSupplier ticker) {
+        this.ticker = ticker;
+    }
+
+    /**
+     * 注册没有依赖的加载程序，其优先级为 {@code 0}。
+     *
+     * @param name 表示加载程序的名称的 {@link String}。
+     * @param loader 表示加载程序的 {@link Supplier}，预热时调用其 {@link Supplier#get()} 方法。
+     * @return 表示当前注册表的 {@link WarmUpRegistry}。
+     * @throws IllegalArgumentException {@code name} 为 {@code null} 或空白字符串，{@code loader} 为 {@code null}，
+     * 或已存在同名的加载程序。
+     * @throws IllegalStateException 预热已经开始。
+     */
+    public WarmUpRegistry register(String name, Supplier<?> loader) {
+        return this.register(name, loader, 0);
+    }
+
+    /**
+     * 注册加载程序。
+     *
+     * @param name 表示加载程序的名称的 {@link String}。
+     * @param loader 表示加载程序的 {@link Supplier}，预热时调用其 {@link Supplier#get()} 方法。
+     * @param priority 表示优先级的32位整数，同时就绪的加载程序中优先级高的先开始加载。
+     * @param dependencies 表示所依赖的加载程序的名称的 {@link String}{@code []}。
+     * @return 表示当前注册表的 {@link WarmUpRegistry}。
+     * @throws IllegalArgumentException {@code name} 为 {@code null} 或空白字符串，{@code loader} 为 {@code null}，
+     * 或已存在同名的加载程序。
+     * @throws IllegalStateException 预热已经开始。
+     */
+    public synchronized WarmUpRegistry register(String name, Supplier<?> loader, int priority,
+            String... dependencies) {
+        Validation.notBlank(name, "The name of a warm-up task cannot be blank.");
+        Validation.notNull(loader, "The loader of a warm-up task cannot be null.");
+        if (this.warmUp != null) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "The warm-up registry cannot be changed after warm-up started. [name=%s]", name));
+        }
+        if (this.tasks.containsKey(name)) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The warm-up task is already registered. [name=%s]", name));
+        }
+        List<String> required = dependencies == null ? Collections.emptyList() : Arrays.asList(dependencies.clone());
+        this.tasks.put(name, new Task(name, loader, priority, required, this.tasks.size()));
+        return this;
+    }
+
+    /**
+     * 在 {@link ForkJoinPool#commonPool()} 中开始预热。
+     *
+     * @return 表示预热报告的 {@link CompletableFuture}{@code <}{@link Report}{@code >}。
+     * @throws IllegalArgumentException 存在依赖未注册的加载程序，或加载程序之间存在循环依赖。
+     * @see #warmUp(Executor, int)
+     */
+    public CompletableFuture<Report> warmUp() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        return this.warmUp(pool, pool.getParallelism());
+    }
+
+    /**
+     * 在指定的执行程序中开始预热。
+     * <p>预热只进行一次，此后的调用返回同一个 {@link CompletableFuture}。加载失败不会使其异常完成，
+     * 失败的原因记录在 {@link Report#failures()} 中。</p>
+     *
+     * @param executor 表示用以执行加载程序的 {@link Executor}。
+     * @param parallelism 表示同时加载的最大数量的32位整数。
+     * @return 表示预热报告的 {@link CompletableFuture}{@code <}{@link Report}{@code >}。
+     * @throws IllegalArgumentException {@code executor} 为 {@code null}，{@code parallelism} 不是一个正数，
+     * 存在依赖未注册的加载程序，或加载程序之间存在循环依赖。
+     */
+    public synchronized CompletableFuture<Report> warmUp(Executor executor, int parallelism) {
+        Validation.notNull(executor, "The executor to warm up cannot be null.");
+        Validation.greaterThan(parallelism, 0, "The parallelism to warm up must be positive.");
+        if (this.warmUp == null) {
+            this.verify();
+            WarmUp run = new WarmUp(executor, parallelism);
+            this.warmUp = run.result;
+            run.start();
+        }
+        return this.warmUp;
+    }
+
+    /**
+     * 指示预热是否已经完成，且所有加载程序都加载成功。
+     *
+     * @return 若所有加载程序都已加载成功，则为 {@code true}；否则为 {@code false}。
+     */
+    public boolean ready() {
+        CompletableFuture<Report> future = this.current();
+        return future != null && future.isDone() && future.join().successful();
+    }
+
+    /**
+     * 等待预热完成。
+     *
+     * @param timeout 表示最长等待时间的 {@link Duration}。
+     * @return 若所有加载程序都已加载成功，则为 {@code true}；若等待超时，则为 {@code false}。
+     * @throws IllegalArgumentException {@code timeout} 为 {@code null}。
+     * @throws IllegalStateException 预热尚未开始，或存在加载失败的加载程序。
+     * @throws InterruptedException 等待期间线程被中断。
+     */
+    public boolean awaitReady(Duration timeout) throws InterruptedException {
+        Validation.notNull(timeout, "The timeout to await warm-up cannot be null.");
+        CompletableFuture<Report> future = this.current();
+        if (future == null) {
+            throw new IllegalStateException("The warm-up has not started.");
+        }
+        Report report;
+        try {
+            report = future.get(nanos(timeout), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            return false;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("The warm-up failed.", ex.getCause());
+        }
+        if (!report.successful()) {
+            IllegalStateException exception = new IllegalStateException(String.format(Locale.ROOT,
+                    "The warm-up failed. [failures=%s]", report.failures().keySet()));
+            report.failures().values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return true;
+    }
+
+    private synchronized CompletableFuture<Report> current() {
+        return this.warmUp;
+    }
+
+    private void verify() {
+        for (Task task : this.tasks.values()) {
+            for (String dependency : task.dependencies) {
+                if (!this.tasks.containsKey(dependency)) {
+                    throw new IllegalArgumentException(String.format(Locale.ROOT,
+                            "The warm-up task depends on an unknown task. [name=%s, dependency=%s]",
+                            task.name, dependency));
+                }
+            }
+        }
+        // A task in progress is mapped to false, a task whose dependencies are all verified to true.
+        // The dependencies are walked with an explicit stack, so that a long chain cannot overflow the call stack.
+        Map<String, Boolean> visited = new HashMap<>();
+        for (String root : this.tasks.keySet()) {
+            if (visited.containsKey(root)) {
+                continue;
+            }
+            List<String> path = new ArrayList<>();
+            Deque<Iterator<String>> pending = new ArrayDeque<>();
+            visited.put(root, Boolean.FALSE);
+            path.add(root);
+            pending.push(this.tasks.get(root).dependencies.iterator());
+            while (!pending.isEmpty()) {
+                Iterator<String> dependencies = pending.peek();
+                if (!dependencies.hasNext()) {
+                    pending.pop();
+                    visited.put(path.remove(path.size() - 1), Boolean.TRUE);
+                    continue;
+                }
+                String dependency = dependencies.next();
+                Boolean state = visited.get(dependency);
+                if (state == Boolean.FALSE) {
+                    List<String> cycle = new ArrayList<>(path.subList(path.indexOf(dependency), path.size()));
+                    cycle.add(dependency);
+                    throw new IllegalArgumentException(String.format(Locale.ROOT,
+                            "The warm-up tasks depend on each other cyclically. [cycle=%s]",
+                            String.join(" -> ", cycle)));
+                } else if (state == null) {
+                    visited.put(dependency, Boolean.FALSE);
+                    path.add(dependency);
+                    pending.push(this.tasks.get(dependency).dependencies.iterator());
+                }
+            }
+        }
+    }
+
+    private static long nanos(Duration duration) {
+        try {
+            return Math.max(duration.toNanos(), 0L);
+        } catch (ArithmeticException ex) {
+            return duration.isNegative() ? 0L : Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Task {
+        private final String name;
+        private final Supplier<?> loader;
+        private final int priority;
+        private final List<String> dependencies;
+        private final int order;
+
+        private Task(String name, Supplier<?> loader, int priority, List<String> dependencies, int order) {
+            this.name = name;
+            this.loader = loader;
+            this.priority = priority;
+            this.dependencies = dependencies;
+            this.order = order;
+        }
+    }
+
+    private final class WarmUp {
+        private final Executor executor;
+        private final int parallelism;
+        private final CompletableFuture<Report> result = new CompletableFuture<>();
+        private final PriorityQueue<Task> ready = new PriorityQueue<>(ORDER);
+        private final Map<Task, Integer> waiting = new HashMap<>();
+        private final Map<String, List<Task>> dependents = new HashMap<>();
+        private final Map<String, Duration> durations = new LinkedHashMap<>();
+        private final Map<String, Throwable> failures = new LinkedHashMap<>();
+        private final long started;
+        private int remaining;
+        private int running;
+        private boolean dispatching;
+
+        private WarmUp(Executor executor, int parallelism) {
+            this.executor = executor;
+            this.parallelism = parallelism;
+            this.started = WarmUpRegistry.this.ticker.getAsLong();
+            for (Task task : WarmUpRegistry.this.tasks.values()) {
+                if (task.dependencies.isEmpty()) {
+                    this.ready.add(task);
+                } else {
+                    this.waiting.put(task, task.dependencies.size());
+                    for (String dependency : task.dependencies) {
+                        this.dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(task);
+                    }
+                }
+            }
+            this.remaining = WarmUpRegistry.this.tasks.size();
+        }
+
+        private void start() {
+            if (this.remaining == 0) {
+                this.result.complete(this.report());
+            } else {
+                this.dispatch();
+            }
+        }
+
+        private void dispatch() {
+            // Only one thread launches tasks at a time. A task that finishes inside execute, as with an inline executor,
+            // leaves the launching to this loop instead of nesting another dispatch on the call stack.
+            synchronized (this) {
+                if (this.dispatching) {
+                    return;
+                }
+                this.dispatching = true;
+            }
+            List<Task> launching = new ArrayList<>();
+            while (true) {
+                synchronized (this) {
+                    while (this.running < this.parallelism && !this.ready.isEmpty()) {
+                        launching.add(this.ready.poll());
+                        this.running++;
+                    }
+                    if (launching.isEmpty()) {
+                        this.dispatching = false;
+                        return;
+                    }
+                }
+                for (Task task : launching) {
+                    try {
+                        this.executor.execute(() -> this.run(task));
+                    } catch (RuntimeException ex) {
+                        this.finish(task, 0L, ex);
+                    }
+                }
+                launching.clear();
+            }
+        }
+
+        private void run(Task task) {
+            long start = WarmUpRegistry.this.ticker.getAsLong();
+            Throwable failure = null;
+            try {
+                task.loader.get();
+            } catch (Throwable ex) {
+                failure = ex;
+            }
+            this.finish(task, WarmUpRegistry.this.ticker.getAsLong() - start, failure);
+        }
+
+        private void finish(Task task, long elapsed, Throwable failure) {
+            Report report = null;
+            synchronized (this) {
+                this.running--;
+                this.remaining--;
+                if (failure == null) {
+                    this.durations.put(task.name, Duration.ofNanos(elapsed));
+                    for (Task dependent : this.dependents.getOrDefault(task.name, Collections.emptyList())) {
+                        Integer count = this.waiting.get(dependent);
+                        if (count == null) {
+                            continue;
+                        } else if (count == 1) {
+                            this.waiting.remove(dependent);
+                            this.ready.add(dependent);
+                        } else {
+                            this.waiting.put(dependent, count - 1);
+                        }
+                    }
+                } else {
+                    this.failures.put(task.name, failure);
+                    this.skip(task.name, failure);
+                }
+                if (this.remaining == 0) {
+                    report = this.report();
+                }
+            }
+            if (report == null) {
+                this.dispatch();
+            } else {
+                this.result.complete(report);
+            }
+        }
+
+        private void skip(String name, Throwable cause) {
+            Deque<String> failed = new ArrayDeque<>();
+            failed.add(name);
+            while (!failed.isEmpty()) {
+                String dependency = failed.poll();
+                for (Task dependent : this.dependents.getOrDefault(dependency, Collections.emptyList())) {
+                    if (this.waiting.remove(dependent) != null) {
+                        this.remaining--;
+                        this.failures.put(dependent.name, new IllegalStateException(String.format(Locale.ROOT,
+                                "The dependency of warm-up task failed. [name=%s, dependency=%s]",
+                                dependent.name, dependency), cause));
+                        failed.add(dependent.name);
+                    }
+                }
+            }
+        }
+
+        private Report report() {
+            Duration elapsed = Duration.ofNanos(WarmUpRegistry.this.ticker.getAsLong() - this.started);
+            return new Report(new LinkedHashMap<>(this.durations), new LinkedHashMap<>(this.failures), elapsed);
+        }
+    }
+
+    /**
+     * 表示预热的报告。
+     */
+    public static final class Report {
+        private final Map<String, Duration> durations;
+        private final Map<String, Throwable> failures;
+        private final Duration elapsed;
+
+        private Report(Map<String, Duration> durations, Map<String, Throwable> failures, Duration elapsed) {
+            this.durations = Collections.unmodifiableMap(durations);
+            this.failures = Collections.unmodifiableMap(failures);
+            this.elapsed = elapsed;
+        }
+
+        /**
+         * 获取每个加载成功的加载程序所用的时间。
+         *
+         * @return 表示加载程序的名称到所用时间的映射的 {@link Map}{@code <}{@link String}{@code , }{@link Duration}{@code >}，
+         * 按照完成的顺序排列。
+         */
+        public Map<String, Duration> durations() {
+            return this.durations;
+        }
+
+        /**
+         * 获取每个加载失败或因依赖失败而被跳过的加载程序的失败原因。
+         *
+         * @return 表示加载程序的名称到失败原因的映射的 {@link Map}{@code <}{@link String}{@code , }{@link Throwable}{@code >}。
+         */
+        public Map<String, Throwable> failures() {
+            return this.failures;
+        }
+
+        /**
+         * 获取预热所用的总时间。
+         *
+         * @return 表示总时间的 {@link Duration}。
+         */
+        public Duration elapsed() {
+            return this.elapsed;
+        }
+
+        /**
+         * 指示所有加载程序是否都加载成功。
+         *
+         * @return 若所有加载程序都加载成功，则为 {@code true}；否则为 {@code false}。
+         */
+        public boolean successful() {
+            return this.failures.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "[elapsed=%s, durations=%s, failures=%s]",
+                    this.elapsed, this.durations, this.failures.keySet());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Cursor;
+import xyz.talefox.util.Hashing;
+import xyz.talefox.util.Validation;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * 为 {@link Cursor} 提供默认实现。
+ * <p>编码后的游标由表示方向的一个字符和定位键的不带填充的 URL 安全 Base64 编码组成。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultCursor implements Cursor {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Direction direction;
+    private final byte[] key;
+
+    /**
+     * 使用方向和定位键初始化 {@link DefaultCursor} 类的新实例。
+     *
+     * @param direction 表示游标方向的 {@link Direction}。
+     * @param key 表示定位键的 {@code byte[]}。
+     * @throws IllegalArgumentException {@code direction} 或 {@code key} 为 {@code null}。
+     */
+    public DefaultCursor(Direction direction, byte[] key) {
+        this.direction = Validation.notNull(direction, "The direction of a cursor cannot be null.");
+        this.key = Validation.notNull(key, "The key of a cursor cannot be null.").clone();
+    }
+
+    @Override
+    public Direction direction() {
+        return this.direction;
+    }
+
+    @Override
+    public byte[] key() {
+        return this.key.clone();
+    }
+
+    @Override
+    public String encode() {
+        return this.direction.code() + ENCODER.encodeToString(this.key);
+    }
+
+    /**
+     * 从编码后的字符串中还原游标。
+     *
+     * @param encoded 表示编码后的游标的 {@link String}。
+     * @return 表示还原的游标的 {@link DefaultCursor}。
+     * @throws IllegalArgumentException {@code encoded} 为 {@code null} 或不是有效的游标。
+     */
+    public static DefaultCursor decode(String encoded) {
+        Validation.notNull(encoded, "The cursor to decode cannot be null.");
+        Direction direction = null;
+        if (!encoded.isEmpty()) {
+            for (Direction candidate : Direction.values()) {
+                if (candidate.code() == encoded.charAt(0)) {
+                    direction = candidate;
+                }
+            }
+        }
+        if (direction == null) {
+            throw invalid(encoded);
+        }
+        try {
+            return new DefaultCursor(direction, DECODER.decode(encoded.substring(1)));
+        } catch (IllegalArgumentException ex) {
+            throw invalid(encoded);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String encoded) {
+        // Cursors come from clients, so rejecting them goes through the stackless factory of the validation.
+        return Validation.exception(String.format(Locale.ROOT, "The cursor is not valid. [cursor=%s]", encoded));
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.combine(this.direction.ordinal(), Arrays.hashCode(this.key));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DefaultCursor) {
+            DefaultCursor another = (DefaultCursor) obj;
+            return another.direction == this.direction && Arrays.equals(another.key, this.key);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "[direction=%s, key=%s]", this.direction, ENCODER.encodeToString(this.key));
+    }
+}
@@ -0,0 +1,65 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Cursor;
+import xyz.talefox.util.CursorRange;
+import xyz.talefox.util.Hashing;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 为 {@link CursorRange} 提供默认实现。
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultCursorRange implements CursorRange {
+    private final Cursor cursor;
+    private final int limit;
+
+    /**
+     * 使用游标和数量限制初始化 {@link DefaultCursorRange} 类的新实例。
+     *
+     * @param cursor 表示游标的 {@link Cursor}，为 {@code null} 时表示第一页。
+     * @param limit 表示区间的数量限制的32位整数。
+     * @throws IllegalArgumentException {@code limit} 不是一个正数。
+     */
+    public DefaultCursorRange(Cursor cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The limit of a cursor range must be positive. [limit=%d]", limit));
+        }
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    @Override
+    public Cursor cursor() {
+        return this.cursor;
+    }
+
+    @Override
+    public int limit() {
+        return this.limit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.combine(Objects.hashCode(this.cursor()), this.limit());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CursorRange) {
+            CursorRange another = (CursorRange) obj;
+            return Objects.equals(another.cursor(), this.cursor()) && another.limit() == this.limit();
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "[cursor=%s, limit=%d]", this.cursor(), this.limit());
+    }
+}
@@ -0,0 +1,822 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.LoadingCache;
+import xyz.talefox.util.Validation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 为 {@link LoadingCache} 提供默认实现。
+ * <p>条目按照 W-TinyLFU 策略组织：约 1% 的容量作为 LRU 窗口接纳新条目，其余容量作为分段 LRU 的主区域，
+ * 由试用区和保护区组成，试用区中的条目再次被访问时晋升到保护区。条目离开窗口时进入试用区成为候选，
+ * 若超出容量，则由频率草图（Count-Min Sketch）估计候选与试用区中最久未使用的条目的访问频率，淘汰频率较低的一方。
+ * 频率草图使用4位计数器，并在记录的次数达到计数器槽位数量的10倍时将所有计数器减半，使频率随时间衰减。
+ * 草图按照条目数量分配：按数量限制时由最大数量决定；按权重限制时无法预知条目数量，因此从较小的草图开始，随条目增加而扩容。</p>
+ * <p>条目保存在 {@link ConcurrentHashMap} 中，读取不加锁：命中的条目被记录到按线程分段的读缓冲区中，
+ * 缓冲区写满时尝试获取锁，将其中的访问重放到频率草图和各区域的访问顺序中；获取锁失败时不等待，缓冲区写满后的访问直接丢弃，
+ * 因此访问频率与顺序是近似的，但读取不会因写入、淘汰或其他读取而阻塞。写入、淘汰及重放由同一把锁保护，加载在锁外执行。
+ * 正在进行的加载同样记录在 {@link ConcurrentHashMap} 中，使同一个键的并发加载合并为一次；
+ * 加载期间若该键被写入或失效，加载的结果将返回给调用方，但不会写入缓存。</p>
+ *
+ * @param <K> 表示键的类型。
+ * @param <V> 表示值的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultLoadingCache<K, V> implements LoadingCache<K, V> {
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final long INITIAL_SKETCH_CAPACITY = 16;
+    private static final int READ_BUFFERS = Math.min(64, Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    private final Function<? super K, ? extends V> loader;
+    private final long maximum;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterWrite;
+    private final long expireAfterAccess;
+    private final LongSupplier ticker;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private final Lock lock = new ReentrantLock();
+    private final ConcurrentMap<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+    private final ReadBuffer<K, V>[] buffers;
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protection = new AccessQueue<>();
+    private final FrequencySketch sketch;
+    private final ConcurrentMap<K, Load<V>> loading = new ConcurrentHashMap<>();
+    private long weight;
+    private long windowWeight;
+    private long protectedWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private DefaultLoadingCache(Builder<K, V> builder, Function<? super K, ? extends V> loader) {
+        this.loader = loader;
+        this.maximum = builder.maximum;
+        this.weigher = builder.weigher;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.expireAfterAccess = builder.expireAfterAccess;
+        this.ticker = builder.ticker;
+        this.windowMaximum = Math.max(1L, this.maximum / 100);
+        this.protectedMaximum = (this.maximum - this.windowMaximum) / 5 * 4;
+        this.sketch = new FrequencySketch(builder.weighted ? INITIAL_SKETCH_CAPACITY : this.maximum);
+        this.buffers = buffers();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> ReadBuffer<K, V>[] buffers() {
+        ReadBuffer<K, V>[] buffers = new ReadBuffer[READ_BUFFERS];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new ReadBuffer<>();
+        }
+        return buffers;
+    }
+
+    @Override
+    public V get(K key) {
+        Validation.notNull(key, "The key of a cache entry cannot be null.");
+        V cached = this.lookup(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+        this.misses.increment();
+        Load<V> load = new Load<>();
+        Load<V> existing = this.loading.putIfAbsent(key, load);
+        if (existing != null) {
+            if (existing.owner == Thread.currentThread()) {
+                throw new IllegalStateException(String.format(Locale.ROOT,
+                        "The loading cache is invoked recursively while loading the key. [key=%s]", key));
+            }
+            return await(existing);
+        }
+        try {
+            // Another caller may have stored the value between the lookup and the registration above.
+            V value = this.peek(key);
+            if (value == null) {
+                value = this.load(key, load);
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.loading.remove(key, load);
+        }
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        Validation.notNull(key, "The key of a cache entry cannot be null.");
+        V cached = this.lookup(key);
+        if (cached != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+            this.record(key);
+        }
+        return cached;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Validation.notNull(key, "The key of a cache entry cannot be null.");
+        Validation.notNull(value, "The value of a cache entry cannot be null.");
+        int weight = this.weigh(key, value);
+        this.lock.lock();
+        try {
+            this.drain();
+            this.sketch.increment(spread(key.hashCode()));
+            this.discard(key);
+            this.store(key, value, weight);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(K key) {
+        this.lock.lock();
+        try {
+            this.discard(key);
+            Node<K, V> node = this.nodes.get(key);
+            if (node != null) {
+                this.remove(node);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.lock.lock();
+        try {
+            for (Load<V> load : this.loading.values()) {
+                load.discarded = true;
+            }
+            this.drain();
+            for (Node<K, V> node : this.nodes.values()) {
+                node.region = null;
+            }
+            this.nodes.clear();
+            this.window.clear();
+            this.probation.clear();
+            this.protection.clear();
+            this.weight = 0;
+            this.windowWeight = 0;
+            this.protectedWeight = 0;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void cleanUp() {
+        if (this.expireAfterWrite == NEVER && this.expireAfterAccess == NEVER) {
+            return;
+        }
+        this.lock.lock();
+        try {
+            long now = this.ticker.getAsLong();
+            List<Node<K, V>> expired = new ArrayList<>();
+            for (Node<K, V> node : this.nodes.values()) {
+                if (this.expired(node, now)) {
+                    expired.add(node);
+                }
+            }
+            for (Node<K, V> node : expired) {
+                this.evict(node);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.nodes.size();
+    }
+
+    @Override
+    public Stats stats() {
+        return new Snapshot(this.hits.sum(), this.misses.sum(), this.loads.sum(), this.failures.sum(),
+                this.loadTime.sum(), this.evictions.sum());
+    }
+
+    private V lookup(K key) {
+        Node<K, V> node = this.nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (this.expireAfterWrite != NEVER || this.expireAfterAccess != NEVER) {
+            long now = this.ticker.getAsLong();
+            if (this.expired(node, now)) {
+                this.expire(node, now);
+                return null;
+            }
+            if (this.expireAfterAccess != NEVER) {
+                node.accessed = now;
+            }
+        }
+        V value = node.value;
+        ReadBuffer<K, V> buffer = this.buffers[spread((int) Thread.currentThread().getId()) & (READ_BUFFERS - 1)];
+        if (buffer.offer(node) && this.lock.tryLock()) {
+            try {
+                this.drain();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    private V peek(K key) {
+        Node<K, V> node = this.nodes.get(key);
+        if (node == null || this.expired(node, this.ticker.getAsLong())) {
+            return null;
+        }
+        return node.value;
+    }
+
+    private void expire(Node<K, V> node, long now) {
+        this.lock.lock();
+        try {
+            if (node.region != null && this.expired(node, now)) {
+                this.evict(node);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void record(K key) {
+        // Misses only feed the sketch, so they are recorded when the lock is free and dropped otherwise.
+        if (this.lock.tryLock()) {
+            try {
+                this.drain();
+                this.sketch.increment(spread(key.hashCode()));
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        for (ReadBuffer<K, V> buffer : this.buffers) {
+            Node<K, V> node;
+            while ((node = buffer.poll()) != null) {
+                this.sketch.increment(node.hash);
+                if (node.region != null) {
+                    this.touch(node);
+                }
+            }
+        }
+    }
+
+    private V load(K key, Load<V> load) {
+        long start = this.ticker.getAsLong();
+        V value;
+        try {
+            value = this.loader.apply(key);
+        } catch (RuntimeException | Error ex) {
+            this.failures.increment();
+            throw ex;
+        } finally {
+            this.loads.increment();
+            this.loadTime.add(this.ticker.getAsLong() - start);
+        }
+        if (value != null) {
+            int weight = this.weigh(key, value);
+            this.lock.lock();
+            try {
+                this.drain();
+                this.sketch.increment(spread(key.hashCode()));
+                if (!load.discarded) {
+                    this.store(key, value, weight);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    private int weigh(K key, V value) {
+        int weight = this.weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The weight of a cache entry cannot be negative. [key=%s, weight=%d]", key, weight));
+        }
+        return weight;
+    }
+
+    private void discard(K key) {
+        Load<V> load = this.loading.get(key);
+        if (load != null) {
+            load.discarded = true;
+        }
+    }
+
+    private void store(K key, V value, int weight) {
+        long now = this.ticker.getAsLong();
+        Node<K, V> node = this.nodes.get(key);
+        if (node == null) {
+            node = new Node<>(key, spread(key.hashCode()), value, weight, now);
+            this.nodes.put(key, node);
+            this.sketch.ensureCapacity(this.nodes.size());
+            node.region = Region.WINDOW;
+            this.window.add(node);
+            this.windowWeight += weight;
+            this.weight += weight;
+        } else {
+            this.resize(node, weight);
+            node.value = value;
+            node.written = now;
+            node.accessed = now;
+            this.touch(node);
+        }
+        this.evict();
+    }
+
+    private void resize(Node<K, V> node, int weight) {
+        long delta = weight - node.weight;
+        node.weight = weight;
+        this.weight += delta;
+        if (node.region == Region.WINDOW) {
+            this.windowWeight += delta;
+        } else if (node.region == Region.PROTECTED) {
+            this.protectedWeight += delta;
+        }
+    }
+
+    private void touch(Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW:
+                this.window.moveToBack(node);
+                break;
+            case PROBATION:
+                this.probation.remove(node);
+                node.region = Region.PROTECTED;
+                this.protection.add(node);
+                this.protectedWeight += node.weight;
+                this.demote();
+                break;
+            default:
+                this.protection.moveToBack(node);
+                break;
+        }
+    }
+
+    private void demote() {
+        while (this.protectedWeight > this.protectedMaximum) {
+            Node<K, V> node = this.protection.first();
+            this.protection.remove(node);
+            node.region = Region.PROBATION;
+            this.probation.add(node);
+            this.protectedWeight -= node.weight;
+        }
+    }
+
+    private void evict() {
+        // Entries leaving the window are appended to the probation queue and compete with its eldest entries.
+        Node<K, V> candidate = null;
+        while (this.windowWeight > this.windowMaximum) {
+            Node<K, V> node = this.window.first();
+            this.window.remove(node);
+            node.region = Region.PROBATION;
+            this.probation.add(node);
+            this.windowWeight -= node.weight;
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (this.weight > this.maximum) {
+            Node<K, V> victim = this.probation.first();
+            if (victim == null) {
+                victim = this.protection.first();
+            }
+            if (victim == null) {
+                victim = this.window.first();
+            }
+            if (candidate == null || candidate == victim) {
+                if (candidate != null) {
+                    candidate = this.probation.next(candidate);
+                }
+                this.evict(victim);
+            } else if (candidate.weight <= this.maximum
+                    && this.sketch.frequency(candidate.hash) > this.sketch.frequency(victim.hash)) {
+                this.evict(victim);
+            } else {
+                Node<K, V> rejected = candidate;
+                candidate = this.probation.next(candidate);
+                this.evict(rejected);
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        this.remove(node);
+        this.evictions.increment();
+    }
+
+    private void remove(Node<K, V> node) {
+        this.nodes.remove(node.key, node);
+        this.weight -= node.weight;
+        switch (node.region) {
+            case WINDOW:
+                this.window.remove(node);
+                this.windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                this.probation.remove(node);
+                break;
+            default:
+                this.protection.remove(node);
+                this.protectedWeight -= node.weight;
+                break;
+        }
+        node.region = null;
+    }
+
+    private boolean expired(Node<K, V> node, long now) {
+        return (this.expireAfterWrite != NEVER && now - node.written >= this.expireAfterWrite)
+                || (this.expireAfterAccess != NEVER && now - node.accessed >= this.expireAfterAccess);
+    }
+
+    private static int spread(int hash) {
+        int spread = hash * 0x9e3779b9;
+        return spread ^ (spread >>> 16);
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    private enum Region {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    /**
+     * 表示缓存的条目。
+     * <p>读取不加锁，因此值及时间使用 {@code volatile} 字段；其余字段由缓存的锁保护，{@link #region} 为 {@code null}
+     * 表示条目已被移除，读缓冲区中残留的访问将被忽略。</p>
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final int hash;
+        private volatile V value;
+        private int weight;
+        private volatile long written;
+        private volatile long accessed;
+        private Region region;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, int hash, V value, int weight, long now) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+            this.written = now;
+            this.accessed = now;
+        }
+    }
+
+    private static final class AccessQueue<K, V> {
+        private final Node<K, V> head = new Node<>(null, 0, null, 0, 0L);
+
+        private AccessQueue() {
+            this.clear();
+        }
+
+        private Node<K, V> first() {
+            return this.next(this.head);
+        }
+
+        private Node<K, V> next(Node<K, V> node) {
+            return node.next == this.head ? null : node.next;
+        }
+
+        private void add(Node<K, V> node) {
+            node.previous = this.head.previous;
+            node.next = this.head;
+            this.head.previous.next = node;
+            this.head.previous = node;
+        }
+
+        private void remove(Node<K, V> node) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+        }
+
+        private void moveToBack(Node<K, V> node) {
+            this.remove(node);
+            this.add(node);
+        }
+
+        private void clear() {
+            this.head.previous = this.head;
+            this.head.next = this.head;
+        }
+    }
+
+    /**
+     * 表示有损的读缓冲区。
+     * <p>读取的线程通过 CAS 占用槽位并写入访问的条目，缓冲区已满或占用失败时直接丢弃该次访问；
+     * 持有缓存的锁的线程按照写入的顺序取出条目并重放。</p>
+     */
+    private static final class ReadBuffer<K, V> {
+        private static final int SIZE = 16;
+
+        private final AtomicReferenceArray<Node<K, V>> slots = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writes = new AtomicLong();
+        private volatile long reads;
+
+        private boolean offer(Node<K, V> node) {
+            long reads = this.reads;
+            long writes = this.writes.get();
+            if (writes - reads >= SIZE) {
+                return true;
+            }
+            if (!this.writes.compareAndSet(writes, writes + 1)) {
+                return false;
+            }
+            this.slots.lazySet((int) (writes & (SIZE - 1)), node);
+            return writes + 1 - reads >= SIZE;
+        }
+
+        private Node<K, V> poll() {
+            long reads = this.reads;
+            if (reads == this.writes.get()) {
+                return null;
+            }
+            int index = (int) (reads & (SIZE - 1));
+            Node<K, V> node = this.slots.get(index);
+            if (node == null) {
+                // The slot is claimed, but the reader has not published the entry yet.
+                return null;
+            }
+            this.slots.lazySet(index, null);
+            this.reads = reads + 1;
+            return node;
+        }
+    }
+
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f};
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int MAXIMUM_LENGTH = 1 << 20;
+
+        private long[] table;
+        private int sampleSize;
+        private int additions;
+
+        private FrequencySketch(long capacity) {
+            this.allocate(capacity);
+        }
+
+        private void ensureCapacity(long entries) {
+            if (entries > this.table.length && this.table.length < MAXIMUM_LENGTH) {
+                // Growing discards the recorded frequencies, which only happens while a weighted cache fills up.
+                this.allocate(Math.max(entries, this.table.length * 2L));
+            }
+        }
+
+        private void allocate(long capacity) {
+            // Each slot holds sixteen 4-bit counters.
+            int length = (int) Math.min(Math.max(capacity, 16L), MAXIMUM_LENGTH);
+            this.table = new long[Integer.highestOneBit(length - 1) << 1];
+            this.sampleSize = this.table.length * 10;
+            this.additions = 0;
+        }
+
+        private int frequency(int hash) {
+            int frequency = 15;
+            for (int seed : SEEDS) {
+                int index = index(hash, seed);
+                int shift = shift(index);
+                frequency = Math.min(frequency, (int) (this.table[index & (this.table.length - 1)] >>> shift) & 15);
+            }
+            return frequency;
+        }
+
+        private void increment(int hash) {
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = index(hash, seed);
+                int shift = shift(index);
+                int slot = index & (this.table.length - 1);
+                if (((this.table[slot] >>> shift) & 15) < 15) {
+                    this.table[slot] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++this.additions >= this.sampleSize) {
+                this.reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < this.table.length; i++) {
+                this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+            }
+            this.additions /= 2;
+        }
+
+        private static int index(int hash, int seed) {
+            int index = (hash ^ seed) * 0x9e3779b9;
+            return index ^ (index >>> 16);
+        }
+
+        private static int shift(int index) {
+            // The slot uses at most the lowest 20 bits, so the counter is chosen by higher bits.
+            return ((index >>> 24) & 15) << 2;
+        }
+    }
+
+    private static final class Load<V> extends CompletableFuture<V> {
+        private final Thread owner = Thread.currentThread();
+        private volatile boolean discarded;
+    }
+
+    private static final class Snapshot implements Stats {
+        private final long hits;
+        private final long misses;
+        private final long loads;
+        private final long failures;
+        private final long loadTime;
+        private final long evictions;
+
+        private Snapshot(long hits, long misses, long loads, long failures, long loadTime, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.loads = loads;
+            this.failures = failures;
+            this.loadTime = loadTime;
+            this.evictions = evictions;
+        }
+
+        @Override
+        public long hits() {
+            return this.hits;
+        }
+
+        @Override
+        public long misses() {
+            return this.misses;
+        }
+
+        @Override
+        public long loads() {
+            return this.loads;
+        }
+
+        @Override
+        public long failures() {
+            return this.failures;
+        }
+
+        @Override
+        public long loadTime() {
+            return this.loadTime;
+        }
+
+        @Override
+        public long evictions() {
+            return this.evictions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "[hits=%d, misses=%d, loads=%d, failures=%d, loadTime=%d, evictions=%d]",
+                    this.hits, this.misses, this.loads, this.failures, this.loadTime, this.evictions);
+        }
+    }
+
+    /**
+     * 为 {@link DefaultLoadingCache} 提供构建程序。
+     *
+     * @param <K> 表示键的类型。
+     * @param <V> 表示值的类型。
+     */
+    public static final class Builder<K, V> implements LoadingCache.Builder<K, V> {
+        private long maximum;
+        private ToIntBiFunction<? super K, ? super V> weigher;
+        private boolean weighted;
+        private long expireAfterWrite;
+        private long expireAfterAccess;
+        private LongSupplier ticker;
+
+        /**
+         * 初始化 {@link Builder} 类的新实例。
+         */
+        public Builder() {
+            this.maximum = 1024;
+            this.weigher = (key, value) -> 1;
+            this.expireAfterWrite = NEVER;
+            this.expireAfterAccess = NEVER;
+            this.ticker = System::nanoTime;
+        }
+
+        @Override
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximum = positive(maximumSize, "maximum size");
+            this.weigher = (key, value) -> 1;
+            this.weighted = false;
+            return this;
+        }
+
+        @Override
+        public Builder<K, V> maximumWeight(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+            this.maximum = positive(maximumWeight, "maximum weight");
+            this.weigher = Validation.notNull(weigher, "The weigher of loading cache cannot be null.");
+            this.weighted = true;
+            return this;
+        }
+
+        @Override
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWrite = expiration(duration, "write");
+            return this;
+        }
+
+        @Override
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            this.expireAfterAccess = expiration(duration, "access");
+            return this;
+        }
+
+        @Override
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = ticker == null ? System::nanoTime : ticker;
+            return this;
+        }
+
+        @Override
+        public LoadingCache<K, V> build(Function<? super K, ? extends V> loader) {
+            Validation.notNull(loader, "The loader of loading cache cannot be null.");
+            return new DefaultLoadingCache<>(this, loader);
+        }
+
+        private static long positive(long value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The %s of loading cache must be positive. [value=%d]", name, value));
+            }
+            return value;
+        }
+
+        private static long expiration(Duration duration, String name) {
+            Validation.notNull(duration, String.format(Locale.ROOT,
+                    "The duration to expire entries after %s cannot be null.", name));
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The duration to expire entries after %s must be positive. [duration=%s]", name, duration));
+            }
+            try {
+                return duration.toNanos();
+            } catch (ArithmeticException ex) {
+                return NEVER;
+            }
+        }
+    }
+}
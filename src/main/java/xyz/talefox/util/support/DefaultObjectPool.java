@@ -0,0 +1,324 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.ObjectPool;
+import xyz.talefox.util.Validation;
+
+import java.lang.ref.Cleaner;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 为 {@link ObjectPool} 提供默认实现。
+ * <p>空闲对象保存在 {@link AtomicReferenceArray} 的槽位中，每次借出和归还从随机的槽位开始探测，以分散竞争。
+ * 借出上限通过 {@link Semaphore} 实现，其等待过程基于 {@link java.util.concurrent.locks.LockSupport#park()}，
+ * 不会固定虚拟线程的载体线程。</p>
+ * <p>借出和归还的路径上不维护共享的状态。在调试模式下，借出的对象另外按照引用记录在 {@link ConcurrentHashMap} 中，
+ * 每个名额与一次借出绑定，重复归还或归还并非从池中借出的对象将被拒绝，并以此检测泄漏的租约；
+ * 非调试模式下不做检查，租约本身保证只归还一次。</p>
+ *
+ * @param <T> 表示池中对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultObjectPool<T> implements ObjectPool<T> {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Supplier<T> factory;
+    private final Consumer<? super T> reset;
+    private final AtomicReferenceArray<T> slots;
+    private final Semaphore permits;
+    private final Set<Borrowed> borrowed;
+    private final boolean debug;
+    private final Consumer<? super Throwable> leakListener;
+    private final AtomicLong leaks;
+
+    private DefaultObjectPool(Builder<T> builder) {
+        this.factory = builder.factory;
+        this.reset = builder.reset;
+        this.slots = new AtomicReferenceArray<>(Math.min(builder.capacity, builder.maximum));
+        this.permits = builder.maximum == Integer.MAX_VALUE ? null : new Semaphore(builder.maximum);
+        this.debug = builder.debug;
+        this.borrowed = this.debug ? ConcurrentHashMap.newKeySet() : null;
+        this.leakListener = builder.leakListener;
+        this.leaks = new AtomicLong();
+    }
+
+    @Override
+    public T borrow() {
+        if (this.permits != null) {
+            this.permits.acquireUninterruptibly();
+        }
+        return this.acquire();
+    }
+
+    @Override
+    public T borrow(long timeout, TimeUnit unit) {
+        Validation.notNull(unit, "The unit of timeout cannot be null.");
+        if (this.permits != null) {
+            try {
+                if (!this.permits.tryAcquire(timeout, unit)) {
+                    return null;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return this.acquire();
+    }
+
+    private T acquire() {
+        T object = this.take();
+        if (this.borrowed != null) {
+            this.borrowed.add(new Borrowed(object));
+        }
+        return object;
+    }
+
+    private T take() {
+        int length = this.slots.length();
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            T object = this.slots.get(index);
+            if (object != null && this.slots.compareAndSet(index, object, null)) {
+                return object;
+            }
+        }
+        try {
+            return Validation.notNull(this.factory.get(), "The factory of object pool cannot create null object.");
+        } catch (RuntimeException | Error ex) {
+            this.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public void release(T object) {
+        Validation.notNull(object, "The object to release to pool cannot be null.");
+        if (this.borrowed != null && !this.borrowed.remove(new Borrowed(object))) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The object to release is not borrowed from the pool. [object=%s]", object));
+        }
+        try {
+            this.reset.accept(object);
+            this.offer(object);
+        } finally {
+            this.release();
+        }
+    }
+
+    private void offer(T object) {
+        int length = this.slots.length();
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            if (this.slots.get(index) == null && this.slots.compareAndSet(index, null, object)) {
+                return;
+            }
+        }
+    }
+
+    private void release() {
+        if (this.permits != null) {
+            this.permits.release();
+        }
+    }
+
+    @Override
+    public Lease<T> lease() {
+        T object = this.borrow();
+        if (this.debug) {
+            return new TrackedLease<>(this, object);
+        } else {
+            return new DefaultLease<>(this, object);
+        }
+    }
+
+    @Override
+    public int idle() {
+        int idle = 0;
+        for (int i = 0; i < this.slots.length(); i++) {
+            if (this.slots.get(i) != null) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    @Override
+    public long leaks() {
+        return this.leaks.get();
+    }
+
+    private void leak(Object object, Throwable site) {
+        if (this.borrowed.remove(new Borrowed(object))) {
+            this.leaks.incrementAndGet();
+            this.release();
+            this.leakListener.accept(site);
+        }
+    }
+
+    /**
+     * 按照引用比较借出的对象，避免对象自身的 {@code equals} 将不同的实例视为同一次借出。
+     */
+    private static final class Borrowed {
+        private final Object object;
+
+        Borrowed(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.object);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Borrowed && ((Borrowed) obj).object == this.object;
+        }
+    }
+
+    private static class DefaultLease<T> implements Lease<T> {
+        private final DefaultObjectPool<T> pool;
+        private T object;
+
+        DefaultLease(DefaultObjectPool<T> pool, T object) {
+            this.pool = pool;
+            this.object = object;
+        }
+
+        @Override
+        public T get() {
+            if (this.object == null) {
+                throw new IllegalStateException("The lease of pooled object has been closed.");
+            } else {
+                return this.object;
+            }
+        }
+
+        @Override
+        public void close() {
+            T actual = this.object;
+            if (actual != null) {
+                this.object = null;
+                this.closed();
+                this.pool.release(actual);
+            }
+        }
+
+        void closed() {}
+    }
+
+    private static final class TrackedLease<T> extends DefaultLease<T> {
+        private final LeakDetector detector;
+        private final Cleaner.Cleanable cleanable;
+
+        TrackedLease(DefaultObjectPool<T> pool, T object) {
+            super(pool, object);
+            this.detector = new LeakDetector(pool, object);
+            this.cleanable = CLEANER.register(this, this.detector);
+        }
+
+        @Override
+        void closed() {
+            this.detector.closed = true;
+            this.cleanable.clean();
+        }
+    }
+
+    /**
+     * 检测租约泄漏的清理程序，不可引用租约本身，否则租约永远不会被回收。
+     */
+    private static final class LeakDetector implements Runnable {
+        private final DefaultObjectPool<?> pool;
+        private final Object object;
+        private final Throwable site;
+        private volatile boolean closed;
+
+        LeakDetector(DefaultObjectPool<?> pool, Object object) {
+            this.pool = pool;
+            this.object = object;
+            this.site = new IllegalStateException("The lease of pooled object is not closed before collected.");
+        }
+
+        @Override
+        public void run() {
+            if (!this.closed) {
+                this.pool.leak(this.object, this.site);
+            }
+        }
+    }
+
+    /**
+     * 为 {@link DefaultObjectPool} 提供构建程序。
+     *
+     * @param <T> 表示池中对象的类型。
+     */
+    public static final class Builder<T> implements ObjectPool.Builder<T> {
+        private final Supplier<T> factory;
+        private Consumer<? super T> reset;
+        private int capacity;
+        private int maximum;
+        private boolean debug;
+        private Consumer<? super Throwable> leakListener;
+
+        /**
+         * 使用创建对象的方法初始化 {@link Builder} 类的新实例。
+         *
+         * @param factory 表示用以创建对象的方法的 {@link Supplier}。
+         * @throws IllegalArgumentException {@code factory} 为 {@code null}。
+         */
+        public Builder(Supplier<T> factory) {
+            this.factory = Validation.notNull(factory, "The factory of object pool cannot be null.");
+            this.reset = object -> {};
+            this.capacity = Runtime.getRuntime().availableProcessors() * 2;
+            this.maximum = Integer.MAX_VALUE;
+            this.leakListener = site -> {};
+        }
+
+        @Override
+        public Builder<T> reset(Consumer<? super T> reset) {
+            this.reset = reset == null ? object -> {} : reset;
+            return this;
+        }
+
+        @Override
+        public Builder<T> capacity(int capacity) {
+            this.capacity = Validation.greaterThan(capacity, 0, "The capacity of object pool must be positive.");
+            return this;
+        }
+
+        @Override
+        public Builder<T> maximum(int maximum) {
+            this.maximum = Validation.greaterThan(maximum, 0, "The maximum of object pool must be positive.");
+            return this;
+        }
+
+        @Override
+        public Builder<T> debug(boolean debug) {
+            this.debug = debug;
+            return this;
+        }
+
+        @Override
+        public Builder<T> leakListener(Consumer<? super Throwable> listener) {
+            this.leakListener = listener == null ? site -> {} : listener;
+            return this;
+        }
+
+        @Override
+        public ObjectPool<T> build() {
+            return new DefaultObjectPool<>(this);
+        }
+    }
+}
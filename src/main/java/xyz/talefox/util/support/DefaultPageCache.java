@@ -0,0 +1,534 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Hashing;
+import xyz.talefox.util.PageCache;
+import xyz.talefox.util.Range;
+import xyz.talefox.util.RangeResult;
+import xyz.talefox.util.RangedResultSet;
+import xyz.talefox.util.Validation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 为 {@link PageCache} 提供默认实现。
+ * <p>页保存在按访问顺序排列的 {@link LinkedHashMap} 中，所有索引由同一把锁保护，加载在锁外执行。
+ * 正在进行的加载记录在 {@link ConcurrentHashMap} 中，使同一个页的并发加载合并为一次。
+ * 加载期间若其查询被失效，加载的结果将返回给调用方，但不会写入缓存；其他查询正在进行的加载不受影响。</p>
+ *
+ * @param <K> 表示查询键的类型。
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultPageCache<K, T> implements PageCache<K, T> {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final int maximumSize;
+    private final long expiration;
+    private final Function<? super K, ? extends Collection<String>> tagger;
+    private final LongSupplier ticker;
+
+    private final Lock lock = new ReentrantLock();
+    private final LinkedHashMap<PageKey<K>, Page<T>> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, Query<K>> queries = new HashMap<>();
+    private final Map<String, Set<K>> tags = new HashMap<>();
+    private final ConcurrentMap<PageKey<K>, Load<K, T>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private DefaultPageCache(Builder<K, T> builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expiration = builder.expiration;
+        this.tagger = builder.tagger;
+        this.ticker = builder.ticker;
+    }
+
+    @Override
+    public RangedResultSet<T> get(K query, Range range, Function<Range, ? extends RangedResultSet<T>> loader) {
+        Validation.notNull(query, "The query of a page cannot be null.");
+        Validation.notNull(range, "The range of a page cannot be null.");
+        Validation.notNull(loader, "The loader of a page cannot be null.");
+        PageKey<K> key = new PageKey<>(query, range.offset(), range.limit());
+        RangedResultSet<T> cached = this.lookup(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+        this.misses.increment();
+        Load<K, T> future = new Load<>();
+        Load<K, T> existing = this.loading.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            // Another caller may have stored the page between the lookup and the registration above.
+            RangedResultSet<T> result = this.lookup(key);
+            if (result == null) {
+                result = this.load(key, range, loader, future);
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.loading.remove(key, future);
+        }
+    }
+
+    @Override
+    public void invalidate(K query) {
+        this.lock.lock();
+        try {
+            for (Map.Entry<PageKey<K>, Load<K, T>> entry : this.loading.entrySet()) {
+                if (Objects.equals(entry.getKey().query, query)) {
+                    entry.getValue().discarded = true;
+                }
+            }
+            this.drop(query);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateTag(String tag) {
+        this.lock.lock();
+        try {
+            for (Load<K, T> load : this.loading.values()) {
+                if (load.tags != null && load.tags.contains(tag)) {
+                    load.discarded = true;
+                }
+            }
+            Set<K> tagged = this.tags.get(tag);
+            if (tagged != null) {
+                for (K query : new ArrayList<>(tagged)) {
+                    this.drop(query);
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.lock.lock();
+        try {
+            for (Load<K, T> load : this.loading.values()) {
+                load.discarded = true;
+            }
+            this.pages.clear();
+            this.queries.clear();
+            this.tags.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.pages.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Stats stats() {
+        return new Snapshot(this.hits.sum(), this.misses.sum(), this.loads.sum(), this.failures.sum(),
+                this.loadTime.sum(), this.evictions.sum());
+    }
+
+    private RangedResultSet<T> lookup(PageKey<K> key) {
+        this.lock.lock();
+        try {
+            Page<T> page = this.pages.get(key);
+            if (page == null) {
+                return null;
+            } else if (this.expired(page.written)) {
+                this.remove(key);
+                this.evictions.increment();
+                return null;
+            } else {
+                return page.result;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private RangedResultSet<T> load(PageKey<K> key, Range range, Function<Range, ? extends RangedResultSet<T>> loader,
+            Load<K, T> load) {
+        long total;
+        this.lock.lock();
+        try {
+            // Tags are resolved before loading so that invalidating a tag can discard the load while it runs.
+            Query<K> state = this.queries.get(key.query);
+            load.tags = state == null ? this.tags(key.query) : state.tags;
+            total = this.total(key.query);
+        } finally {
+            this.lock.unlock();
+        }
+        long start = this.ticker.getAsLong();
+        RangedResultSet<T> loaded;
+        try {
+            loaded = loader.apply(range);
+        } catch (RuntimeException | Error ex) {
+            this.failures.increment();
+            throw ex;
+        } finally {
+            this.loads.increment();
+            this.loadTime.add(this.ticker.getAsLong() - start);
+        }
+        if (loaded == null) {
+            this.failures.increment();
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "The loader returned no page. [query=%s, range=%s]", key.query, range));
+        }
+        RangeResult loadedRange = loaded.range();
+        RangedResultSet<T> result = loaded;
+        long counted = -1;
+        if (loadedRange.exact()) {
+            if (loadedRange instanceof LazyRangeResult && !((LazyRangeResult) loadedRange).counted()) {
+                result = this.share(key.query, loaded, total, load);
+            } else {
+                counted = loadedRange.total();
+            }
+        }
+        this.lock.lock();
+        try {
+            if (!load.discarded) {
+                load.state = this.store(key, result, counted, load.tags);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        return result;
+    }
+
+    private RangedResultSet<T> share(K query, RangedResultSet<T> loaded, long total, Load<K, T> load) {
+        RangeResult range = loaded.range();
+        RangeResult shared;
+        if (total >= 0) {
+            shared = RangeResult.create(range, total);
+        } else {
+            shared = RangeResult.lazy(range, () -> {
+                long counted = range.total();
+                this.remember(query, counted, load);
+                return counted;
+            });
+        }
+        return RangedResultSet.create(loaded.results(), shared, loaded.previous(), loaded.next());
+    }
+
+    private void remember(K query, long total, Load<K, T> load) {
+        this.lock.lock();
+        try {
+            // The query state is replaced once invalidated, so only the state the page was stored into is updated.
+            Query<K> state = this.queries.get(query);
+            if (state != null && state == load.state) {
+                state.total = total;
+                state.counted = this.ticker.getAsLong();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private long total(K query) {
+        Query<K> state = this.queries.get(query);
+        if (state == null || state.total < 0 || this.expired(state.counted)) {
+            return -1;
+        } else {
+            return state.total;
+        }
+    }
+
+    private Query<K> store(PageKey<K> key, RangedResultSet<T> result, long total, Set<String> tags) {
+        long now = this.ticker.getAsLong();
+        this.pages.put(key, new Page<>(result, now));
+        Query<K> state = this.queries.get(key.query);
+        if (state == null) {
+            state = this.register(key.query, tags);
+        }
+        state.pages.add(key);
+        if (total >= 0) {
+            state.total = total;
+            state.counted = now;
+        }
+        Iterator<PageKey<K>> iterator = this.pages.keySet().iterator();
+        while (this.pages.size() > this.maximumSize) {
+            PageKey<K> eldest = iterator.next();
+            iterator.remove();
+            this.detach(eldest);
+            this.evictions.increment();
+        }
+        return state;
+    }
+
+    private Set<String> tags(K query) {
+        Collection<String> labels = this.tagger.apply(query);
+        return labels == null ? Collections.emptySet() : new HashSet<>(labels);
+    }
+
+    private Query<K> register(K query, Set<String> tags) {
+        Query<K> state = new Query<>(tags);
+        this.queries.put(query, state);
+        for (String tag : state.tags) {
+            this.tags.computeIfAbsent(tag, ignored -> new HashSet<>()).add(query);
+        }
+        return state;
+    }
+
+    private void remove(PageKey<K> key) {
+        this.pages.remove(key);
+        this.detach(key);
+    }
+
+    private void detach(PageKey<K> key) {
+        Query<K> state = this.queries.get(key.query);
+        if (state != null) {
+            state.pages.remove(key);
+            if (state.pages.isEmpty()) {
+                this.drop(key.query);
+            }
+        }
+    }
+
+    private void drop(K query) {
+        Query<K> state = this.queries.remove(query);
+        if (state == null) {
+            return;
+        }
+        for (PageKey<K> key : state.pages) {
+            this.pages.remove(key);
+        }
+        for (String tag : state.tags) {
+            Set<K> tagged = this.tags.get(tag);
+            if (tagged != null && tagged.remove(query) && tagged.isEmpty()) {
+                this.tags.remove(tag);
+            }
+        }
+    }
+
+    private boolean expired(long written) {
+        return this.expiration != NEVER && this.ticker.getAsLong() - written >= this.expiration;
+    }
+
+    private static <T> RangedResultSet<T> await(CompletableFuture<RangedResultSet<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * 表示一次正在进行的加载，等待同一个页的调用方共享其结果。
+     * <p>除结果外的字段都由缓存的锁保护。</p>
+     */
+    private static final class Load<K, T> extends CompletableFuture<RangedResultSet<T>> {
+        private Set<String> tags;
+        private Query<K> state;
+        private boolean discarded;
+    }
+
+    private static final class PageKey<K> {
+        private final K query;
+        private final long offset;
+        private final int limit;
+
+        private PageKey(K query, long offset, int limit) {
+            this.query = query;
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        @Override
+        public int hashCode() {
+            return Hashing.combine(this.query.hashCode(), Hashing.hash(this.offset), this.limit);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof PageKey) {
+                PageKey<?> another = (PageKey<?>) obj;
+                return another.offset == this.offset && another.limit == this.limit
+                        && Objects.equals(another.query, this.query);
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private static final class Page<T> {
+        private final RangedResultSet<T> result;
+        private final long written;
+
+        private Page(RangedResultSet<T> result, long written) {
+            this.result = result;
+            this.written = written;
+        }
+    }
+
+    private static final class Query<K> {
+        private final Set<String> tags;
+        private final Set<PageKey<K>> pages = new HashSet<>();
+        private long total = -1;
+        private long counted;
+
+        private Query(Set<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    private static final class Snapshot implements Stats {
+        private final long hits;
+        private final long misses;
+        private final long loads;
+        private final long failures;
+        private final long loadTime;
+        private final long evictions;
+
+        private Snapshot(long hits, long misses, long loads, long failures, long loadTime, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.loads = loads;
+            this.failures = failures;
+            this.loadTime = loadTime;
+            this.evictions = evictions;
+        }
+
+        @Override
+        public long hits() {
+            return this.hits;
+        }
+
+        @Override
+        public long misses() {
+            return this.misses;
+        }
+
+        @Override
+        public long loads() {
+            return this.loads;
+        }
+
+        @Override
+        public long failures() {
+            return this.failures;
+        }
+
+        @Override
+        public long loadTime() {
+            return this.loadTime;
+        }
+
+        @Override
+        public long evictions() {
+            return this.evictions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "[hits=%d, misses=%d, loads=%d, failures=%d, loadTime=%d, evictions=%d]",
+                    this.hits, this.misses, this.loads, this.failures, this.loadTime, this.evictions);
+        }
+    }
+
+    /**
+     * 为 {@link DefaultPageCache} 提供构建程序。
+     *
+     * @param <K> 表示查询键的类型。
+     * @param <T> 表示数据记录的类型。
+     */
+    public static final class Builder<K, T> implements PageCache.Builder<K, T> {
+        private int maximumSize;
+        private long expiration;
+        private Function<? super K, ? extends Collection<String>> tagger;
+        private LongSupplier ticker;
+
+        /**
+         * 初始化 {@link Builder} 类的新实例。
+         */
+        public Builder() {
+            this.maximumSize = 1024;
+            this.expiration = NEVER;
+            this.tagger = query -> Collections.emptySet();
+            this.ticker = System::nanoTime;
+        }
+
+        @Override
+        public Builder<K, T> maximumSize(int maximumSize) {
+            this.maximumSize = Validation.greaterThan(maximumSize, 0, "The maximum size of page cache must be positive.");
+            return this;
+        }
+
+        @Override
+        public Builder<K, T> expireAfterWrite(Duration duration) {
+            Validation.notNull(duration, "The duration to expire pages cannot be null.");
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The duration to expire pages must be positive. [duration=%s]", duration));
+            }
+            try {
+                this.expiration = duration.toNanos();
+            } catch (ArithmeticException ex) {
+                this.expiration = NEVER;
+            }
+            return this;
+        }
+
+        @Override
+        public Builder<K, T> tagger(Function<? super K, ? extends Collection<String>> tagger) {
+            this.tagger = tagger == null ? query -> Collections.emptySet() : tagger;
+            return this;
+        }
+
+        @Override
+        public Builder<K, T> ticker(LongSupplier ticker) {
+            this.ticker = ticker == null ? System::nanoTime : ticker;
+            return this;
+        }
+
+        @Override
+        public PageCache<K, T> build() {
+            return new DefaultPageCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.PageIterator;
+import xyz.talefox.util.Range;
+import xyz.talefox.util.RangeResult;
+import xyz.talefox.util.RangedResultSet;
+import xyz.talefox.util.Validation;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * 为 {@link PageIterator} 提供默认实现。
+ * <p>第一页返回后，根据其中的数据总量计算后续各页的偏移量，并始终保持至多指定数量的页在获取或等待消费，
+ * 因此内存中至多同时存在这些页和正在消费的页。获取到空页或达到数据总量时迭代结束。
+ * 若页中的数据总量不是准确值，则逐页获取，直到获取到不满的页。</p>
+ *
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultPageIterator<T> implements PageIterator<T> {
+    private final Function<Range, ? extends RangedResultSet<T>> fetcher;
+    private final int limit;
+    private final int prefetch;
+    private final Executor executor;
+    private final Queue<CompletableFuture<RangedResultSet<T>>> pending = new ConcurrentLinkedQueue<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private long next;
+    private long total = -1;
+    private boolean exhausted;
+    private volatile boolean closed;
+    private volatile CompletableFuture<RangedResultSet<T>> awaiting;
+
+    /**
+     * 初始化 {@link DefaultPageIterator} 类的新实例。
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每页的数量限制的32位整数。
+     * @param prefetch 表示至多预取的页的数量的32位整数。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @throws IllegalArgumentException {@code fetcher} 或 {@code executor} 为 {@code null}，或 {@code limit} 或 {@code prefetch} 不是正数。
+     */
+    public DefaultPageIterator(Function<Range, ? extends RangedResultSet<T>> fetcher, int limit, int prefetch,
+            Executor executor) {
+        this.fetcher = Validation.notNull(fetcher, "The fetcher of pages cannot be null.");
+        this.limit = Validation.greaterThan(limit, 0, "The limit of a page must be positive.");
+        this.prefetch = Validation.greaterThan(prefetch, 0, "The number of pages to prefetch must be positive.");
+        this.executor = Validation.notNull(executor, "The executor to fetch pages cannot be null.");
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.closed && !this.current.hasNext()) {
+            this.fill();
+            CompletableFuture<RangedResultSet<T>> future = this.pending.poll();
+            if (future == null) {
+                return false;
+            }
+            RangedResultSet<T> page = this.await(future);
+            if (page == null) {
+                return false;
+            }
+            this.total = this.total(page);
+            if (page.results().isEmpty()) {
+                // The data shrank while iterating, so the pages scheduled beyond it are pointless.
+                this.exhausted = true;
+                this.cancel();
+            }
+            this.current = page.results().iterator();
+            this.fill();
+        }
+        return !this.closed;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.current.next();
+    }
+
+    @Override
+    public int buffered() {
+        return this.pending.size();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.cancel();
+        CompletableFuture<RangedResultSet<T>> future = this.awaiting;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private void fill() {
+        // Before the first page arrives the total is unknown, so only that page can be requested.
+        while (!this.closed && !this.exhausted && this.pending.size() < this.prefetch
+                && (this.total < 0 ? this.next == 0 : this.next < this.total)) {
+            Range range = Range.create(this.next, this.limit);
+            CompletableFuture<RangedResultSet<T>> future = new CompletableFuture<>();
+            this.pending.add(future);
+            this.next += this.limit;
+            try {
+                this.executor.execute(() -> {
+                    // A page cancelled before its turn came is skipped rather than fetched and discarded.
+                    if (!future.isDone()) {
+                        try {
+                            future.complete(this.fetch(range));
+                        } catch (Throwable ex) {
+                            future.completeExceptionally(ex);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                // The queued future would otherwise never complete, so the consumer fails when it reaches the page.
+                future.completeExceptionally(ex);
+                return;
+            }
+        }
+    }
+
+    private long total(RangedResultSet<T> page) {
+        RangeResult range = page.range();
+        if (range.exact()) {
+            return range.total();
+        }
+        // An inexact total cannot tell where the data ends, so only the page after a full one is worth fetching.
+        int size = page.results().size();
+        return range.offset() + size + (size < this.limit ? 0 : 1);
+    }
+
+    private RangedResultSet<T> fetch(Range range) {
+        RangedResultSet<T> page = this.fetcher.apply(range);
+        if (page == null) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "The fetcher returned no page. [range=%s]", range));
+        }
+        return page;
+    }
+
+    private RangedResultSet<T> await(CompletableFuture<RangedResultSet<T>> future) {
+        this.awaiting = future;
+        if (this.closed) {
+            future.cancel(false);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.close();
+            throw new IllegalStateException("Interrupted while waiting for a page.", ex);
+        } catch (ExecutionException ex) {
+            this.close();
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException("Failed to fetch a page.", cause);
+            }
+        } catch (CancellationException ex) {
+            // Closed by another thread while waiting, which ends the iteration rather than failing it.
+            return null;
+        } finally {
+            this.awaiting = null;
+        }
+    }
+
+    private void cancel() {
+        CompletableFuture<RangedResultSet<T>> future;
+        while ((future = this.pending.poll()) != null) {
+            future.cancel(false);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package xyz.talefox.util.support;
 
+import xyz.talefox.util.Hashing;
 import xyz.talefox.util.Range;
 
-import java.util.Arrays;
 import java.util.Locale;
 
 /**
@@ -47,7 +47,7 @@ public final class DefaultRange implements Range {
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(new long[] { this.offset(), this.limit() });
+        return Hashing.combine(this.offset(), this.limit());
     }
 
     @Override
@@ -0,0 +1,318 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Range;
+import xyz.talefox.util.RangePartitioner;
+import xyz.talefox.util.Validation;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 为 {@link RangePartitioner} 提供默认实现。
+ * <p>每次处理开始至多 {@code parallelism} 个工作链，每个工作链处理完一个区间后，从共享的游标处划分下一个区间，
+ * 并将其作为新任务提交到执行程序，因此在工作窃取的线程池中不会长时间占用线程。
+ * 设置了目标耗时时，每个区间完成后按照实际耗时与目标耗时的比例调整区间大小，并与当前大小取平均以平滑抖动。</p>
+ * <p>检查点在划分区间的锁外通知，由单独的锁保证通知的顺序；通知正在进行时，其他工作链不等待而直接继续处理，
+ * 由正在通知的线程补发最新的位置。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultRangePartitioner implements RangePartitioner {
+    private final int parallelism;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int minimum;
+    private final int maximum;
+    private final long target;
+    private final Progress progress;
+    private final LongConsumer checkpoint;
+    private final LongSupplier ticker;
+
+    private DefaultRangePartitioner(Builder builder) {
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.minimum = builder.minimum;
+        this.maximum = builder.maximum;
+        this.chunkSize = Math.max(this.minimum, Math.min(this.maximum, builder.chunkSize));
+        this.target = builder.target;
+        this.progress = builder.progress;
+        this.checkpoint = builder.checkpoint;
+        this.ticker = builder.ticker;
+    }
+
+    @Override
+    public CompletableFuture<Void> run(long start, long end, Consumer<? super Range> worker) {
+        Validation.notNull(worker, "The worker to process ranges cannot be null.");
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The span to partition is not valid. [start=%d, end=%d]", start, end));
+        }
+        Execution execution = new Execution(start, end, worker);
+        if (start == end) {
+            execution.result.complete(null);
+        } else {
+            for (int i = 0; i < this.parallelism; i++) {
+                execution.submit();
+            }
+        }
+        return execution.result;
+    }
+
+    private final class Execution {
+        private final long end;
+        private final Consumer<? super Range> worker;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final Map<Long, Long> completed = new HashMap<>();
+        private final Lock reporting = new ReentrantLock();
+        private long cursor;
+        private long watermark;
+        private volatile long reported;
+        private int chunk;
+
+        private Execution(long start, long end, Consumer<? super Range> worker) {
+            this.end = end;
+            this.worker = worker;
+            this.cursor = start;
+            this.watermark = start;
+            this.reported = start;
+            this.chunk = DefaultRangePartitioner.this.chunkSize;
+        }
+
+        private synchronized Range take() {
+            if (this.result.isDone() || this.cursor >= this.end) {
+                return null;
+            }
+            int size = (int) Math.min(this.chunk, this.end - this.cursor);
+            Range range = Range.create(this.cursor, size);
+            this.cursor += size;
+            return range;
+        }
+
+        private void submit() {
+            // An executor that runs the step before returning hands the chain back to this loop instead of recursing.
+            Range range;
+            while ((range = this.take()) != null) {
+                Step step = new Step(range);
+                try {
+                    DefaultRangePartitioner.this.executor.execute(step);
+                } catch (RuntimeException ex) {
+                    this.result.completeExceptionally(ex);
+                    return;
+                }
+                if (step.compareAndSet(Step.SUBMITTING, Step.DETACHED)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean process(Range range) {
+            if (this.result.isDone()) {
+                return false;
+            }
+            boolean finished;
+            try {
+                long begin = DefaultRangePartitioner.this.ticker.getAsLong();
+                this.worker.accept(range);
+                long elapsed = DefaultRangePartitioner.this.ticker.getAsLong() - begin;
+                DefaultRangePartitioner.this.progress.completed(range, elapsed);
+                finished = this.complete(range, elapsed);
+                this.report(finished);
+            } catch (Throwable ex) {
+                this.result.completeExceptionally(ex);
+                return false;
+            }
+            if (finished) {
+                this.result.complete(null);
+                return false;
+            }
+            return true;
+        }
+
+        private synchronized boolean complete(Range range, long elapsed) {
+            this.completed.put(range.offset(), range.offset() + range.limit());
+            long advanced = this.watermark;
+            Long next;
+            while ((next = this.completed.remove(advanced)) != null) {
+                advanced = next;
+            }
+            this.watermark = advanced;
+            if (range.offset() + range.limit() < this.end) {
+                // The last range of a span is usually truncated, and says little about the throughput.
+                this.adapt(range.limit(), elapsed);
+            }
+            return this.watermark == this.end;
+        }
+
+        private synchronized long watermark() {
+            return this.watermark;
+        }
+
+        private void report(boolean finished) {
+            if (finished) {
+                // The result must not complete before the end of the span is reported.
+                this.reporting.lock();
+            } else if (!this.reporting.tryLock()) {
+                // The thread holding the lock reports the advanced watermark once its callback returns.
+                return;
+            }
+            while (true) {
+                try {
+                    long current = this.watermark();
+                    if (current > this.reported) {
+                        this.reported = current;
+                        DefaultRangePartitioner.this.checkpoint.accept(current);
+                    }
+                } finally {
+                    this.reporting.unlock();
+                }
+                if (this.watermark() <= this.reported || !this.reporting.tryLock()) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 表示工作链中的一步，即处理一个区间的任务。
+         * <p>若在提交返回前就已处理完成，则由提交的循环继续划分下一个区间；否则由处理的线程继续提交。</p>
+         */
+        private final class Step extends AtomicInteger implements Runnable {
+            private static final int SUBMITTING = 0;
+            private static final int DETACHED = 1;
+            private static final int CONTINUED = 2;
+
+            private final Range range;
+
+            private Step(Range range) {
+                this.range = range;
+            }
+
+            @Override
+            public void run() {
+                if (Execution.this.process(this.range) && !this.compareAndSet(SUBMITTING, CONTINUED)) {
+                    Execution.this.submit();
+                }
+            }
+        }
+
+        private void adapt(int size, long elapsed) {
+            long target = DefaultRangePartitioner.this.target;
+            if (target <= 0) {
+                return;
+            }
+            double proposed = (double) size * target / Math.max(elapsed, 1L);
+            double smoothed = (this.chunk + proposed) / 2;
+            this.chunk = (int) Math.max(DefaultRangePartitioner.this.minimum,
+                    Math.min(DefaultRangePartitioner.this.maximum, smoothed));
+        }
+    }
+
+    /**
+     * 为 {@link DefaultRangePartitioner} 提供构建程序。
+     */
+    public static final class Builder implements RangePartitioner.Builder {
+        private int parallelism;
+        private Executor executor;
+        private int chunkSize;
+        private int minimum;
+        private int maximum;
+        private long target;
+        private Progress progress;
+        private LongConsumer checkpoint;
+        private LongSupplier ticker;
+
+        /**
+         * 初始化 {@link Builder} 类的新实例。
+         */
+        public Builder() {
+            this.parallelism = Runtime.getRuntime().availableProcessors();
+            this.executor = ForkJoinPool.commonPool();
+            this.chunkSize = 1000;
+            this.minimum = 1;
+            this.maximum = Integer.MAX_VALUE;
+            this.progress = (range, elapsed) -> {};
+            this.checkpoint = watermark -> {};
+            this.ticker = System::nanoTime;
+        }
+
+        @Override
+        public Builder parallelism(int parallelism) {
+            this.parallelism = Validation.greaterThan(parallelism, 0, "The parallelism to process ranges must be positive.");
+            return this;
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = Validation.notNull(executor, "The executor to process ranges cannot be null.");
+            return this;
+        }
+
+        @Override
+        public Builder chunkSize(int size) {
+            this.chunkSize = Validation.greaterThan(size, 0, "The size of a partition must be positive.");
+            return this;
+        }
+
+        @Override
+        public Builder chunkSizeBounds(int minimum, int maximum) {
+            if (minimum < 1 || maximum < minimum) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The bounds of partition size are not valid. [minimum=%d, maximum=%d]", minimum, maximum));
+            }
+            this.minimum = minimum;
+            this.maximum = maximum;
+            return this;
+        }
+
+        @Override
+        public Builder targetLatency(Duration latency) {
+            if (latency == null) {
+                this.target = 0;
+            } else if (latency.isNegative() || latency.isZero()) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The target latency of a partition must be positive. [latency=%s]", latency));
+            } else {
+                try {
+                    this.target = latency.toNanos();
+                } catch (ArithmeticException ex) {
+                    this.target = Long.MAX_VALUE;
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public Builder progress(Progress progress) {
+            this.progress = progress == null ? (range, elapsed) -> {} : progress;
+            return this;
+        }
+
+        @Override
+        public Builder checkpoint(LongConsumer checkpoint) {
+            this.checkpoint = checkpoint == null ? watermark -> {} : checkpoint;
+            return this;
+        }
+
+        @Override
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker == null ? System::nanoTime : ticker;
+            return this;
+        }
+
+        @Override
+        public RangePartitioner build() {
+            return new DefaultRangePartitioner(this);
+        }
+    }
+}
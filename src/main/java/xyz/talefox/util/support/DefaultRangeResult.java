@@ -1,8 +1,8 @@
 package xyz.talefox.util.support;
 
+import xyz.talefox.util.Hashing;
 import xyz.talefox.util.RangeResult;
 
-import java.util.Arrays;
 import java.util.Locale;
 
 /**
@@ -15,6 +15,7 @@ public final class DefaultRangeResult implements RangeResult {
     private final long offset;
     private final int limit;
     private final long total;
+    private final boolean exact;
 
     /**
      * 使用偏移量、数量限制及数据总量初始化 {@link DefaultRangeResult} 类的新实例。
@@ -25,6 +26,19 @@ public final class DefaultRangeResult implements RangeResult {
      * @throws IllegalArgumentException {@code offset} 是一个负数、{@code limit} 不是一个正数，或 {@code total} 是一个负数。
      */
     public DefaultRangeResult(long offset, int limit, long total) {
+        this(offset, limit, total, true);
+    }
+
+    /**
+     * 使用偏移量、数量限制、数据总量及数据总量是否准确初始化 {@link DefaultRangeResult} 类的新实例。
+     *
+     * @param offset 表示偏移量的64位整数。
+     * @param limit 表示数量限制的32位整数。
+     * @param total 表示数据总量的64位整数。
+     * @param exact 若数据总量是准确值，则为 {@code true}；否则为 {@code false}。
+     * @throws IllegalArgumentException {@code offset} 是一个负数、{@code limit} 不是一个正数，或 {@code total} 是一个负数。
+     */
+    public DefaultRangeResult(long offset, int limit, long total, boolean exact) {
         if (offset < 0) {
             throw new IllegalArgumentException(String.format(Locale.ROOT,
                     "The offset of a range result cannot be negative. [offset=%d]", offset));
@@ -38,6 +52,7 @@ public final class DefaultRangeResult implements RangeResult {
             this.offset = offset;
             this.limit = limit;
             this.total = total;
+            this.exact = exact;
         }
     }
 
@@ -56,9 +71,15 @@ public final class DefaultRangeResult implements RangeResult {
         return this.total;
     }
 
+    @Override
+    public boolean exact() {
+        return this.exact;
+    }
+
     @Override
     public int hashCode() {
-        return Arrays.hashCode(new long[] { this.offset(), this.limit(), this.total() });
+        int hash = Hashing.combine(this.offset(), this.limit(), this.total());
+        return this.exact ? hash : Hashing.combine(hash, 1);
     }
 
     @Override
@@ -67,7 +88,8 @@ public final class DefaultRangeResult implements RangeResult {
             DefaultRangeResult another = (DefaultRangeResult) obj;
             return another.offset() == this.offset()
                     && another.limit() == this.limit()
-                    && another.total() == this.total();
+                    && another.total() == this.total()
+                    && another.exact() == this.exact();
         } else {
             return false;
         }
@@ -75,7 +97,12 @@ public final class DefaultRangeResult implements RangeResult {
 
     @Override
     public String toString() {
-        return String.format(Locale.ROOT, "[offset=%d, limit=%d, total=%d]",
-                this.offset(), this.limit(), this.total());
+        if (this.exact) {
+            return String.format(Locale.ROOT, "[offset=%d, limit=%d, total=%d]",
+                    this.offset(), this.limit(), this.total());
+        } else {
+            return String.format(Locale.ROOT, "[offset=%d, limit=%d, total=%d, exact=false]",
+                    this.offset(), this.limit(), this.total());
+        }
     }
 }
@@ -1,11 +1,13 @@
 package xyz.talefox.util.support;
 
+import xyz.talefox.util.Cursor;
+import xyz.talefox.util.Hashing;
 import xyz.talefox.util.RangeResult;
 import xyz.talefox.util.RangedResultSet;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * 为 {@link RangedResultSet} 提供默认实现。
@@ -17,6 +19,8 @@ import java.util.Locale;
 public class DefaultRangedResultSet<T> implements RangedResultSet<T> {
     private final List<T> results;
     private final RangeResult range;
+    private final Cursor previous;
+    private final Cursor next;
 
     /**
      * 使用区间的数据集及区间结果初始化 {@link DefaultRangedResultSet} 类的新实例。
@@ -26,6 +30,19 @@ public class DefaultRangedResultSet<T> implements RangedResultSet<T> {
      * @throws IllegalArgumentException {@code results} 或 {@code range} 为 {@code null}。
      */
     public DefaultRangedResultSet(List<T> results, RangeResult range) {
+        this(results, range, null, null);
+    }
+
+    /**
+     * 使用区间的数据集、区间结果及相邻页的游标初始化 {@link DefaultRangedResultSet} 类的新实例。
+     *
+     * @param results 表示数据集的 {@link List}{@code <}{@link T}{@code >}。
+     * @param range 表示区间结果的 {@link RangeResult}。
+     * @param previous 表示上一页的游标的 {@link Cursor}，不存在上一页时为 {@code null}。
+     * @param next 表示下一页的游标的 {@link Cursor}，不存在下一页时为 {@code null}。
+     * @throws IllegalArgumentException {@code results} 或 {@code range} 为 {@code null}。
+     */
+    public DefaultRangedResultSet(List<T> results, RangeResult range, Cursor previous, Cursor next) {
         if (results == null) {
             throw new IllegalArgumentException("The results of a ranged result set cannot be null.");
         } else if (range == null) {
@@ -33,6 +50,8 @@ public class DefaultRangedResultSet<T> implements RangedResultSet<T> {
         } else {
             this.results = results;
             this.range = range;
+            this.previous = previous;
+            this.next = next;
         }
     }
 
@@ -46,9 +65,24 @@ public class DefaultRangedResultSet<T> implements RangedResultSet<T> {
         return this.range;
     }
 
+    @Override
+    public Cursor next() {
+        return this.next;
+    }
+
+    @Override
+    public Cursor previous() {
+        return this.previous;
+    }
+
     @Override
     public int hashCode() {
-        return Arrays.hashCode(new int[] { this.results().hashCode(), this.range().hashCode() });
+        int hash = Hashing.combine(this.results().hashCode(), this.range().hashCode());
+        if (this.previous() == null && this.next() == null) {
+            return hash;
+        } else {
+            return Hashing.combine(hash, Objects.hashCode(this.previous()), Objects.hashCode(this.next()));
+        }
     }
 
     @Override
@@ -56,7 +90,8 @@ public class DefaultRangedResultSet<T> implements RangedResultSet<T> {
         if (obj instanceof DefaultRangedResultSet) {
             @SuppressWarnings("unchecked")
             DefaultRangedResultSet<T> another = (DefaultRangedResultSet<T>) obj;
-            return another.results().equals(this.results()) && another.range().equals(this.range());
+            return another.results().equals(this.results()) && another.range().equals(this.range())
+                    && Objects.equals(another.previous(), this.previous()) && Objects.equals(another.next(), this.next());
         } else {
             return false;
         }
@@ -64,7 +99,12 @@ public class DefaultRangedResultSet<T> implements RangedResultSet<T> {
 
     @Override
     public String toString() {
-        return String.format(Locale.ROOT, "[results=%s, range=%s]",
-                this.results(), this.range());
+        if (this.previous() == null && this.next() == null) {
+            return String.format(Locale.ROOT, "[results=%s, range=%s]",
+                    this.results(), this.range());
+        } else {
+            return String.format(Locale.ROOT, "[results=%s, range=%s, previous=%s, next=%s]",
+                    this.results(), this.range(), this.previous(), this.next());
+        }
     }
 }
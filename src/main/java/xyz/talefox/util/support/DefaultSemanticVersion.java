@@ -0,0 +1,411 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Hashing;
+import xyz.talefox.util.SemanticVersion;
+import xyz.talefox.util.Validation;
+import xyz.talefox.util.Version;
+import xyz.talefox.util.VersionFormatException;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 为 {@link SemanticVersion} 提供默认实现。
+ * <p>先行版本号在解析时被拆分为标识符，数字标识符同时被转换为整数，因此比较时不需要再次解析先行版本号。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultSemanticVersion implements SemanticVersion {
+    private static final String[] PARTS = { "major", "minor", "patch" };
+    private static final long ALPHANUMERIC = -1L;
+
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final PreRelease preRelease;
+    private final String metadata;
+    private String text;
+
+    private DefaultSemanticVersion(int major, int minor, int patch, PreRelease preRelease, String metadata) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public int major() {
+        return this.major;
+    }
+
+    @Override
+    public int minor() {
+        return this.minor;
+    }
+
+    @Override
+    public int revision() {
+        return this.patch;
+    }
+
+    @Override
+    public int build() {
+        return 0;
+    }
+
+    @Override
+    public String preRelease() {
+        return this.preRelease == null ? null : this.preRelease.text;
+    }
+
+    @Override
+    public String metadata() {
+        return this.metadata;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        } else if (obj instanceof Version) {
+            Version another = (Version) obj;
+            if (another.major() != this.major || another.minor() != this.minor || another.revision() != this.patch
+                    || another.build() != 0) {
+                return false;
+            }
+            String anotherPreRelease = another instanceof SemanticVersion
+                    ? ((SemanticVersion) another).preRelease() : null;
+            return Objects.equals(this.preRelease(), anotherPreRelease);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Without a pre-release the hash must match the numeric versions this instance is equal to.
+        int hash = Hashing.combine(this.major, this.minor, this.patch, 0);
+        return this.preRelease == null ? hash : Hashing.combine(hash, this.preRelease.text.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        String actual = this.text;
+        if (actual == null) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(this.major).append(SEPARATOR).append(this.minor).append(SEPARATOR).append(this.patch);
+            if (this.preRelease != null) {
+                builder.append('-').append(this.preRelease.text);
+            }
+            if (this.metadata != null) {
+                builder.append('+').append(this.metadata);
+            }
+            actual = builder.toString();
+            this.text = actual;
+        }
+        return actual;
+    }
+
+    @Override
+    public StringBuilder appendTo(StringBuilder builder) {
+        Validation.notNull(builder, "The builder to append version to cannot be null.");
+        return builder.append(this.toString());
+    }
+
+    @Override
+    public void appendTo(Appendable appendable) throws IOException {
+        Validation.notNull(appendable, "The appendable to append version to cannot be null.");
+        appendable.append(this.toString());
+    }
+
+    @Override
+    public int writeTo(byte[] buffer, int offset) {
+        Validation.notNull(buffer, "The buffer to write version to cannot be null.");
+        String actual = this.toString();
+        int length = actual.length();
+        if (offset < 0 || offset > buffer.length - length) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The buffer is not large enough to write version. [offset=%d, length=%d, capacity=%d]",
+                    offset, length, buffer.length));
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[offset + i] = (byte) actual.charAt(i);
+        }
+        return length;
+    }
+
+    /**
+     * 比较两个版本号相同的版本的先行版本号。
+     *
+     * @param v1 表示第一个版本的 {@link Version}。
+     * @param v2 表示第二个版本的 {@link Version}。
+     * @return 若第一个版本的先行版本号低于、等于或高于第二个版本，则分别为负数、{@code 0} 或正数。没有先行版本号的版本高于有先行版本号的版本。
+     */
+    static int comparePreRelease(Version v1, Version v2) {
+        PreRelease p1 = preRelease(v1);
+        PreRelease p2 = preRelease(v2);
+        if (p1 == null) {
+            return p2 == null ? 0 : 1;
+        } else if (p2 == null) {
+            return -1;
+        } else {
+            return p1.compareTo(p2);
+        }
+    }
+
+    private static PreRelease preRelease(Version version) {
+        if (version instanceof DefaultSemanticVersion) {
+            return ((DefaultSemanticVersion) version).preRelease;
+        } else if (version instanceof SemanticVersion) {
+            String text = ((SemanticVersion) version).preRelease();
+            return text == null ? null : PreRelease.split(text);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * 检查指定的版本是否是先行版本。
+     *
+     * @param version 表示待检查的版本的 {@link Version}。
+     * @return 若版本是具有先行版本号的 {@link SemanticVersion}，则为 {@code true}；否则为 {@code false}。
+     */
+    public static boolean preReleased(Version version) {
+        return version instanceof SemanticVersion && ((SemanticVersion) version).preRelease() != null;
+    }
+
+    /**
+     * 从字符序的指定区域中解析语义化版本。
+     *
+     * @param s 表示包含语义化版本信息的字符序的 {@link CharSequence}。
+     * @param start 表示区域的起始位置（包含）的32位整数。
+     * @param end 表示区域的结束位置（不包含）的32位整数。
+     * @return 若区域为空白，则为 {@code null}；否则为表示从区域中解析到的语义化版本的 {@link DefaultSemanticVersion}。
+     * @throws IllegalArgumentException {@code s} 为 {@code null} 或区域超出了字符序的范围。
+     * @throws VersionFormatException 区域中包含的语义化版本信息的格式不正确。
+     */
+    public static DefaultSemanticVersion parse(CharSequence s, int start, int end) {
+        return scan(s, start, end, true);
+    }
+
+    /**
+     * 尝试从字符序的指定区域中解析语义化版本。
+     *
+     * @param s 表示包含语义化版本信息的字符序的 {@link CharSequence}。
+     * @param start 表示区域的起始位置（包含）的32位整数。
+     * @param end 表示区域的结束位置（不包含）的32位整数。
+     * @return 若区域为空白或格式不正确，则为 {@code null}；否则为表示从区域中解析到的语义化版本的 {@link DefaultSemanticVersion}。
+     * @throws IllegalArgumentException {@code s} 为 {@code null} 或区域超出了字符序的范围。
+     */
+    public static DefaultSemanticVersion tryParse(CharSequence s, int start, int end) {
+        return scan(s, start, end, false);
+    }
+
+    private static DefaultSemanticVersion scan(CharSequence s, int start, int end, boolean throwing) {
+        Validation.notNull(s, "The text to parse semantic version cannot be null.");
+        if (start < 0 || end > s.length() || start > end) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The region to parse version is out of bounds. [start=%d, end=%d, length=%d]",
+                    start, end, s.length()));
+        }
+        if (DefaultVersion.blank(s, start, end)) {
+            return null;
+        }
+        int plus = end;
+        int dash = end;
+        for (int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch == '+') {
+                plus = i;
+                break;
+            } else if (ch == '-' && dash == end) {
+                dash = i;
+            }
+        }
+        int coreEnd = Math.min(dash, plus);
+        int[] core = new int[PARTS.length];
+        int parts = 0;
+        int partStart = start;
+        for (int i = start; i <= coreEnd; i++) {
+            if (i < coreEnd && s.charAt(i) != SEPARATOR) {
+                continue;
+            }
+            if (parts >= PARTS.length) {
+                return fail(throwing, "A semantic version can only contain 3 numeric parts at most. [version=%s]",
+                        s.subSequence(start, end));
+            }
+            long value = number(s, partStart, i, Integer.MAX_VALUE);
+            if (value < 0) {
+                return fail(throwing, "The %s version must be a non-negative integer without leading zeros. [actual=%s]",
+                        PARTS[parts], s.subSequence(partStart, i));
+            }
+            core[parts++] = (int) value;
+            partStart = i + 1;
+        }
+        if (parts < 2) {
+            return fail(throwing, "A semantic version must have major and minor at least. [version=%s]",
+                    s.subSequence(start, end));
+        }
+        PreRelease preRelease = null;
+        if (dash < plus) {
+            preRelease = PreRelease.scan(s, dash + 1, plus);
+            if (preRelease == null) {
+                return fail(throwing, "The pre-release of a semantic version is not valid. [actual=%s]",
+                        s.subSequence(dash + 1, plus));
+            }
+        }
+        String metadata = null;
+        if (plus < end) {
+            if (identifiers(s, plus + 1, end) < 0) {
+                return fail(throwing, "The metadata of a semantic version is not valid. [actual=%s]",
+                        s.subSequence(plus + 1, end));
+            }
+            metadata = s.subSequence(plus + 1, end).toString();
+        }
+        return new DefaultSemanticVersion(core[0], core[1], core[2], preRelease, metadata);
+    }
+
+    private static DefaultSemanticVersion fail(boolean throwing, String format, Object... args) {
+        if (throwing) {
+            throw VersionFormatException.create(String.format(Locale.ROOT, format, args));
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * 解析不包含前导零的非负整数。
+     *
+     * @return 若区域是不超过最大值的非负整数，则为该整数；否则为 {@code -1}。
+     */
+    private static long number(CharSequence s, int start, int end, long maximum) {
+        if (start >= end || (s.charAt(start) == '0' && end - start > 1)) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch < '0' || ch > '9' || value > (maximum - (ch - '0')) / 10) {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 检查由点号分隔的标识符是否合法。
+     *
+     * @return 若所有标识符都非空，且只包含 ASCII 字母、数字和连字符，则为标识符的数量；否则为 {@code -1}。
+     */
+    private static int identifiers(CharSequence s, int start, int end) {
+        int count = 0;
+        int identifierStart = start;
+        for (int i = start; i <= end; i++) {
+            char ch = i < end ? s.charAt(i) : SEPARATOR;
+            if (ch == SEPARATOR) {
+                if (i == identifierStart) {
+                    return -1;
+                }
+                count++;
+                identifierStart = i + 1;
+            } else if (!identifierCharacter(ch)) {
+                return -1;
+            }
+        }
+        return count;
+    }
+
+    private static boolean identifierCharacter(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || ch == '-';
+    }
+
+    private static boolean digits(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char ch = s.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 表示预先拆分的先行版本号，作为比较时使用的键。
+     */
+    private static final class PreRelease implements Comparable<PreRelease> {
+        private final String text;
+        private final String[] identifiers;
+        private final long[] numbers;
+
+        private PreRelease(String text, String[] identifiers, long[] numbers) {
+            this.text = text;
+            this.identifiers = identifiers;
+            this.numbers = numbers;
+        }
+
+        private static PreRelease scan(CharSequence s, int start, int end) {
+            int count = identifiers(s, start, end);
+            if (count < 0) {
+                return null;
+            }
+            String text = s.subSequence(start, end).toString();
+            String[] identifiers = new String[count];
+            long[] numbers = new long[count];
+            int index = 0;
+            int identifierStart = 0;
+            for (int i = 0; i <= text.length(); i++) {
+                if (i < text.length() && text.charAt(i) != SEPARATOR) {
+                    continue;
+                }
+                if (digits(text, identifierStart, i)) {
+                    numbers[index] = number(text, identifierStart, i, Long.MAX_VALUE);
+                    if (numbers[index] < 0) {
+                        // Numeric identifiers must not have leading zeros, and must fit the precomputed key.
+                        return null;
+                    }
+                } else {
+                    numbers[index] = ALPHANUMERIC;
+                }
+                identifiers[index++] = text.substring(identifierStart, i);
+                identifierStart = i + 1;
+            }
+            return new PreRelease(text, identifiers, numbers);
+        }
+
+        private static PreRelease split(String text) {
+            PreRelease preRelease = scan(text, 0, text.length());
+            if (preRelease == null) {
+                // Other implementations may hold identifiers this parser rejects; compare them as plain text.
+                return new PreRelease(text, new String[] {text}, new long[] {ALPHANUMERIC});
+            }
+            return preRelease;
+        }
+
+        @Override
+        public int compareTo(PreRelease another) {
+            int count = Math.min(this.identifiers.length, another.identifiers.length);
+            for (int i = 0; i < count; i++) {
+                long n1 = this.numbers[i];
+                long n2 = another.numbers[i];
+                int result;
+                if (n1 != ALPHANUMERIC && n2 != ALPHANUMERIC) {
+                    result = Long.compare(n1, n2);
+                } else if (n1 != ALPHANUMERIC) {
+                    return -1;
+                } else if (n2 != ALPHANUMERIC) {
+                    return 1;
+                } else {
+                    result = this.identifiers[i].compareTo(another.identifiers[i]);
+                }
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(this.identifiers.length, another.identifiers.length);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.StringUtils;
+import xyz.talefox.util.TypeUtils;
+import xyz.talefox.util.UuidUtils;
+import xyz.talefox.util.Validation;
+import xyz.talefox.util.Validator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * 为 {@link Validator} 提供默认实现。
+ * <p>字段的读取程序在构建时通过 {@link MethodHandle} 生成，并按类型缓存，同一类型的多个校验程序共享读取程序。</p>
+ *
+ * @param <T> 表示待校验的对象的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultValidator<T> implements Validator<T> {
+    private static final ClassValue<Map<String, MethodHandle>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType INT_GETTER = MethodType.methodType(int.class, Object.class);
+
+    private final Rule[] rules;
+
+    private DefaultValidator(List<Rule> rules) {
+        this.rules = rules.toArray(new Rule[0]);
+    }
+
+    @Override
+    public T validate(T object) {
+        Validation.notNull(object, "The object to validate cannot be null.");
+        for (Rule rule : this.rules) {
+            if (!rule.test(object)) {
+                throw Validation.exception(rule.error);
+            }
+        }
+        return object;
+    }
+
+    @Override
+    public List<String> violations(T object) {
+        Validation.notNull(object, "The object to validate cannot be null.");
+        List<String> violations = null;
+        for (Rule rule : this.rules) {
+            if (!rule.test(object)) {
+                if (violations == null) {
+                    violations = new ArrayList<>(this.rules.length);
+                }
+                violations.add(rule.error);
+            }
+        }
+        return violations == null ? Collections.emptyList() : Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * 为 {@link DefaultValidator} 提供构建程序。
+     *
+     * @param <T> 表示待校验的对象的类型。
+     */
+    public static final class Builder<T> implements Validator.Builder<T> {
+        private final Class<T> type;
+        private final List<Rule> rules;
+
+        /**
+         * 使用待校验的对象的类型初始化 {@link Builder} 类的新实例。
+         *
+         * @param type 表示待校验的对象的类型的 {@link Class}。
+         * @throws IllegalArgumentException {@code type} 为 {@code null}。
+         */
+        public Builder(Class<T> type) {
+            this.type = Validation.notNull(type, "The type of object to validate cannot be null.");
+            this.rules = new ArrayList<>();
+        }
+
+        @Override
+        public Builder<T> notNull(String field, String error) {
+            return this.rule(field, Object.class, value -> value != null, error);
+        }
+
+        @Override
+        public Builder<T> notBlank(String field, String error) {
+            return this.rule(field, CharSequence.class, StringUtils::notBlank, error);
+        }
+
+        @Override
+        public Builder<T> notEmpty(String field, String error) {
+            return this.rule(field, CharSequence.class, StringUtils::notEmpty, error);
+        }
+
+        @Override
+        public Builder<T> uuid(String field, String error) {
+            return this.rule(field, CharSequence.class, UuidUtils::valid, error);
+        }
+
+        @Override
+        public Builder<T> greaterThan(String field, int minimum, String error) {
+            return this.rule(field, value -> value > minimum, error);
+        }
+
+        @Override
+        public Builder<T> greaterThanOrEquals(String field, int minimum, String error) {
+            return this.rule(field, value -> value >= minimum, error);
+        }
+
+        @Override
+        public Builder<T> rule(String field, IntPredicate predicate, String error) {
+            Validation.notNull(predicate, "The predicate to validate field cannot be null.");
+            Field actual = field(this.type, field);
+            Class<?> fieldType = actual.getType();
+            if (fieldType == int.class || fieldType == short.class || fieldType == byte.class
+                    || fieldType == char.class) {
+                this.rules.add(new IntRule(getter(actual).asType(INT_GETTER), predicate, error));
+            } else if (fieldType == Integer.class || fieldType == Short.class || fieldType == Byte.class) {
+                this.rules.add(new ObjectRule(getter(actual).asType(OBJECT_GETTER),
+                        value -> value != null && predicate.test(((Number) value).intValue()), error));
+            } else {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The field to validate is not an integer. [class=%s, field=%s, type=%s]",
+                        this.type.getName(), field, fieldType.getName()));
+            }
+            return this;
+        }
+
+        @Override
+        public <V> Builder<T> rule(String field, Class<V> type, Predicate<? super V> predicate, String error) {
+            Validation.notNull(type, "The type of field to validate cannot be null.");
+            Validation.notNull(predicate, "The predicate to validate field cannot be null.");
+            Field actual = field(this.type, field);
+            if (!type.isAssignableFrom(TypeUtils.ignorePrimitive(actual.getType()))) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The type of field to validate is not supported. [class=%s, field=%s, expected=%s, actual=%s]",
+                        this.type.getName(), field, type.getName(), actual.getType().getName()));
+            }
+            @SuppressWarnings("unchecked")
+            Predicate<Object> actualPredicate = (Predicate<Object>) predicate;
+            this.rules.add(new ObjectRule(getter(actual).asType(OBJECT_GETTER), actualPredicate, error));
+            return this;
+        }
+
+        @Override
+        public Validator<T> build() {
+            return new DefaultValidator<>(this.rules);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        Validation.notBlank(name, "The name of field to validate cannot be blank.");
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            } catch (NoSuchFieldException ignored) {
+                // Continue to find field in super class.
+            }
+        }
+        throw new IllegalArgumentException(String.format(Locale.ROOT,
+                "The field to validate is not found. [class=%s, field=%s]", type.getName(), name));
+    }
+
+    private static MethodHandle getter(Field field) {
+        // The cached getter keeps its exact type, so that primitive fields are never boxed.
+        return GETTERS.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), name -> {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(),
+                        MethodHandles.lookup());
+                return lookup.unreflectGetter(field);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(String.format(Locale.ROOT,
+                        "Failed to access field to validate. [class=%s, field=%s]",
+                        field.getDeclaringClass().getName(), field.getName()), ex);
+            }
+        });
+    }
+
+    private abstract static class Rule {
+        private final String error;
+
+        Rule(String error) {
+            this.error = error;
+        }
+
+        abstract boolean test(Object object);
+    }
+
+    private static final class ObjectRule extends Rule {
+        private final MethodHandle getter;
+        private final Predicate<Object> predicate;
+
+        ObjectRule(MethodHandle getter, Predicate<Object> predicate, String error) {
+            super(error);
+            this.getter = getter;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(Object object) {
+            Object value;
+            try {
+                value = (Object) this.getter.invokeExact(object);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Failed to read field to validate.", ex);
+            }
+            return this.predicate.test(value);
+        }
+    }
+
+    private static final class IntRule extends Rule {
+        private final MethodHandle getter;
+        private final IntPredicate predicate;
+
+        IntRule(MethodHandle getter, IntPredicate predicate, String error) {
+            super(error);
+            this.getter = getter;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(Object object) {
+            int value;
+            try {
+                value = (int) this.getter.invokeExact(object);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Failed to read field to validate.", ex);
+            }
+            return this.predicate.test(value);
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package xyz.talefox.util.support;
 
-import xyz.talefox.util.StringUtils;
+import xyz.talefox.util.Hashing;
 import xyz.talefox.util.Validation;
 import xyz.talefox.util.Version;
 import xyz.talefox.util.VersionFormatException;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
-import java.util.List;
 import java.util.Locale;
 
 /**
@@ -20,15 +20,16 @@ public class DefaultVersion implements Version {
     /**
      * 为版本提供默认的比较程序。
      */
-    public static final Comparator<Version> COMPARATOR = Comparator.comparingInt(Version::major)
-            .thenComparingInt(Version::minor)
-            .thenComparingInt(Version::revision)
-            .thenComparingInt(Version::build);
+    public static final Comparator<Version> COMPARATOR = VersionComparator.INSTANCE;
+
+    private static final String[] PARTS = { "major", "minor", "revision", "build" };
 
     private final int major;
     private final int minor;
     private final int revision;
     private final int build;
+    private int hash;
+    private String text;
 
     /**
      * 使用主版本号、次版本号、修订版本号和构建版本号初始化 {@link DefaultVersion} 类的新实例。
@@ -68,19 +69,123 @@ public class DefaultVersion implements Version {
 
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-        builder.append(this.major()).append(SEPARATOR).append(this.minor());
-        if (this.build() > 0) {
-            builder.append(SEPARATOR).append(this.revision()).append(SEPARATOR).append(this.build());
-        } else if (this.revision() > 0) {
-            builder.append(SEPARATOR).append(this.revision());
+        // Racy single-check as for the hash: the text is derived from final fields and String is immutable.
+        String actual = this.text;
+        if (actual == null) {
+            actual = format(this.major, this.minor, this.revision, this.build);
+            this.text = actual;
         }
-        return builder.toString();
+        return actual;
+    }
+
+    @Override
+    public void appendTo(Appendable appendable) throws IOException {
+        Validation.notNull(appendable, "The appendable to append version to cannot be null.");
+        appendable.append(this.toString());
+    }
+
+    /**
+     * 获取版本的规范文本。
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 表示规范文本的 {@link String}。
+     */
+    public static String format(int major, int minor, int revision, int build) {
+        byte[] bytes = new byte[length(major, minor, revision, build)];
+        write(bytes, 0, major, minor, revision, build);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 计算版本的规范文本的长度。
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 表示规范文本中字符数量的32位整数。
+     */
+    public static int length(int major, int minor, int revision, int build) {
+        int length = digits(major) + 1 + digits(minor);
+        if (build > 0) {
+            length += digits(revision) + 1 + digits(build) + 1;
+        } else if (revision > 0) {
+            length += digits(revision) + 1;
+        }
+        return length;
+    }
+
+    /**
+     * 将版本的规范文本以 ASCII 编码写入字节数组。
+     * <p>构建版本号为 {@code 0} 时省略构建版本号，修订版本号同时为 {@code 0} 时一并省略，与 {@link #toString()} 一致。</p>
+     *
+     * @param buffer 表示待写入的字节数组的 {@code byte[]}。
+     * @param offset 表示开始写入的位置的32位整数。
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 表示写入的字节数量的32位整数。
+     * @throws IllegalArgumentException {@code buffer} 为 {@code null}，或从 {@code offset} 开始的剩余空间不足。
+     */
+    public static int write(byte[] buffer, int offset, int major, int minor, int revision, int build) {
+        Validation.notNull(buffer, "The buffer to write version to cannot be null.");
+        int length = length(major, minor, revision, build);
+        if (offset < 0 || offset > buffer.length - length) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The buffer is not large enough to write version. [offset=%d, length=%d, capacity=%d]",
+                    offset, length, buffer.length));
+        }
+        int position = put(buffer, offset, major);
+        buffer[position++] = SEPARATOR;
+        position = put(buffer, position, minor);
+        if (build > 0) {
+            buffer[position++] = SEPARATOR;
+            position = put(buffer, position, revision);
+            buffer[position++] = SEPARATOR;
+            put(buffer, position, build);
+        } else if (revision > 0) {
+            buffer[position++] = SEPARATOR;
+            put(buffer, position, revision);
+        }
+        return length;
+    }
+
+    private static int digits(int value) {
+        long remaining = value;
+        int digits = 1;
+        if (remaining < 0) {
+            remaining = -remaining;
+            digits++;
+        }
+        while (remaining >= 10) {
+            remaining /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static int put(byte[] buffer, int offset, int value) {
+        int end = offset + digits(value);
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[offset] = '-';
+            remaining = -remaining;
+        }
+        int position = end;
+        do {
+            buffer[--position] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        return end;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj instanceof Version) {
+        if (obj instanceof Version && !DefaultSemanticVersion.preReleased((Version) obj)) {
             Version another = (Version) obj;
             return another.major() == this.major() && another.minor() == this.minor()
                     && another.revision() == this.revision() && another.build() == this.build();
@@ -91,7 +196,13 @@ public class DefaultVersion implements Version {
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(new int[] { this.major(), this.minor(), this.revision(), this.build() });
+        // The racy single-check is safe: the hash is derived from final fields and any thread computes the same value.
+        int actual = this.hash;
+        if (actual == 0) {
+            actual = Hashing.combine(this.major, this.minor, this.revision, this.build);
+            this.hash = actual;
+        }
+        return actual;
     }
 
     /**
@@ -102,36 +213,119 @@ public class DefaultVersion implements Version {
      * @throws VersionFormatException 字符串中包含的版本号信息的格式不正确。
      */
     public static DefaultVersion parse(String s) {
-        if (StringUtils.blank(s)) {
+        return s == null ? null : parse(s, 0, s.length());
+    }
+
+    /**
+     * 从字符序的指定区域中解析版本号默认实现的信息。
+     * <p>解析过程逐个扫描字符，不创建中间的子串或集合。</p>
+     *
+     * @param s 表示包含版本号信息的字符序的 {@link CharSequence}。
+     * @param start 表示区域的起始位置（包含）的32位整数。
+     * @param end 表示区域的结束位置（不包含）的32位整数。
+     * @return 若区域为空白，则为 {@code null}；否则为表示从区域中解析到的版本号的信息的 {@link DefaultVersion}。
+     * @throws IllegalArgumentException 区域超出了字符序的范围。
+     * @throws VersionFormatException 区域中包含的版本号信息的格式不正确。
+     */
+    public static DefaultVersion parse(CharSequence s, int start, int end) {
+        return scan(s, start, end, true);
+    }
+
+    /**
+     * 尝试从字符序的指定区域中解析版本号默认实现的信息。
+     *
+     * @param s 表示包含版本号信息的字符序的 {@link CharSequence}。
+     * @param start 表示区域的起始位置（包含）的32位整数。
+     * @param end 表示区域的结束位置（不包含）的32位整数。
+     * @return 若区域为空白或格式不正确，则为 {@code null}；否则为表示从区域中解析到的版本号的信息的 {@link DefaultVersion}。
+     * @throws IllegalArgumentException 区域超出了字符序的范围。
+     */
+    public static DefaultVersion tryParse(CharSequence s, int start, int end) {
+        return scan(s, start, end, false);
+    }
+
+    private static DefaultVersion scan(CharSequence s, int start, int end, boolean throwing) {
+        if (s == null) {
             return null;
-        } else {
-            List<String> parts = StringUtils.split('.', s);
-            if (parts.size() < 2) {
-                throw new VersionFormatException("A version must have major and minor at least.");
-            } else if (parts.size() > 4) {
-                throw new VersionFormatException(String.format(Locale.ROOT,
-                        "A version can only contain 4 parts at most. [actual=%d]", parts.size()));
-            } else {
-                return new DefaultVersion(
-                        parse(parts, 0, "major"),
-                        parse(parts, 1, "minor"),
-                        parse(parts, 2, "revision"),
-                        parse(parts, 3, "build"));
+        } else if (start < 0 || end > s.length() || start > end) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The region to parse version is out of bounds. [start=%d, end=%d, length=%d]",
+                    start, end, s.length()));
+        } else if (blank(s, start, end)) {
+            return null;
+        }
+        int major = 0;
+        int minor = 0;
+        int revision = 0;
+        int build = 0;
+        int parts = 0;
+        int invalidPart = -1;
+        int invalidStart = 0;
+        int invalidEnd = 0;
+        int partStart = start;
+        long value = 0;
+        boolean digits = false;
+        boolean valid = true;
+        for (int i = start; i <= end; i++) {
+            char ch = i < end ? s.charAt(i) : SEPARATOR;
+            if (ch == SEPARATOR) {
+                if (invalidPart < 0 && (!valid || !digits)) {
+                    invalidPart = parts;
+                    invalidStart = partStart;
+                    invalidEnd = i;
+                }
+                switch (parts) {
+                    case 0:
+                        major = (int) value;
+                        break;
+                    case 1:
+                        minor = (int) value;
+                        break;
+                    case 2:
+                        revision = (int) value;
+                        break;
+                    case 3:
+                        build = (int) value;
+                        break;
+                    default:
+                        break;
+                }
+                parts++;
+                partStart = i + 1;
+                value = 0;
+                digits = false;
+                valid = true;
+            } else if (ch >= '0' && ch <= '9') {
+                value = value * 10 + (ch - '0');
+                digits = true;
+                valid &= value <= Integer.MAX_VALUE;
+            } else if (ch != '+' || i != partStart) {
+                // A leading plus sign is accepted, as it was by Integer.parseUnsignedInt.
+                valid = false;
             }
         }
+        if (parts >= 2 && parts <= 4 && invalidPart < 0) {
+            return new DefaultVersion(major, minor, revision, build);
+        } else if (!throwing) {
+            return null;
+        } else if (parts < 2) {
+            throw VersionFormatException.create("A version must have major and minor at least.");
+        } else if (parts > 4) {
+            throw VersionFormatException.create(String.format(Locale.ROOT,
+                    "A version can only contain 4 parts at most. [actual=%d]", parts));
+        } else {
+            throw VersionFormatException.create(String.format(Locale.ROOT,
+                    "The %s version must be a non-negative integer. [actual=%s]",
+                    PARTS[invalidPart], s.subSequence(invalidStart, invalidEnd)));
+        }
     }
 
-    private static int parse(List<String> parts, int index, String part) {
-        if (index < parts.size()) {
-            try {
-                return Integer.parseUnsignedInt(parts.get(index));
-            } catch (NumberFormatException ex) {
-                throw new VersionFormatException(String.format(Locale.ROOT,
-                        "The %s version must be a non-negative integer. [actual=%s]",
-                        part, parts.get(index)), ex);
+    static boolean blank(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(s.charAt(i))) {
+                return false;
             }
-        } else {
-            return 0;
         }
+        return true;
     }
 }
@@ -0,0 +1,444 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Hashing;
+import xyz.talefox.util.Validation;
+import xyz.talefox.util.Version;
+import xyz.talefox.util.VersionConstraint;
+import xyz.talefox.util.VersionFormatException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 为 {@link VersionConstraint} 提供默认实现。
+ * <p>约束被编译为若干个有序且互不相交的闭区间，区间的边界是{@link PackedVersion 编码后的版本}，
+ * 因此匹配过程是一次对边界数组的二分查找。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class DefaultVersionConstraint implements VersionConstraint {
+    private static final int CACHE_SIZE = 1024;
+    private static final AtomicReferenceArray<DefaultVersionConstraint> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+    private static final long UNBOUNDED = -1L;
+
+    private final String text;
+    private final long[] lowers;
+    private final long[] uppers;
+    private final Term[] terms;
+
+    private DefaultVersionConstraint(String text, long[] lowers, long[] uppers, Term[] terms) {
+        this.text = text;
+        this.lowers = lowers;
+        this.uppers = uppers;
+        this.terms = terms;
+    }
+
+    /**
+     * 获取约束中区间的数量。
+     *
+     * @return 表示区间数量的32位整数。
+     */
+    public int intervals() {
+        return this.lowers.length;
+    }
+
+    /**
+     * 获取指定区间的下界。
+     * <p>区间按照下界升序排列，且互不相交。</p>
+     *
+     * @param index 表示区间的索引的32位整数。
+     * @return 表示区间的下界（包含）的编码后的版本的64位整数。
+     */
+    public long lower(int index) {
+        return this.lowers[index];
+    }
+
+    /**
+     * 获取指定区间的上界。
+     *
+     * @param index 表示区间的索引的32位整数。
+     * @return 表示区间的上界（包含）的编码后的版本的64位整数。
+     */
+    public long upper(int index) {
+        return this.uppers[index];
+    }
+
+    @Override
+    public boolean matches(Version version) {
+        long key = PackedVersion.pack(Validation.notNull(version, "The version to match cannot be null."));
+        if (key != PackedVersion.NOT_PACKABLE) {
+            return this.matches(key);
+        }
+        // The compiled intervals only cover packable versions, so the rare others are checked against the terms.
+        for (Term term : this.terms) {
+            if (term.matches(version)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean matches(long key) {
+        int index = floor(this.lowers, key);
+        return index >= 0 && key <= this.uppers[index];
+    }
+
+    @Override
+    public <V extends Version> List<V> filter(Collection<? extends V> versions) {
+        Validation.notNull(versions, "The versions to filter cannot be null.");
+        List<V> matched = new ArrayList<>();
+        for (V version : versions) {
+            if (this.matches(version)) {
+                matched.add(version);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 查找不大于指定键的最大下界的索引。
+     *
+     * @param lowers 表示升序排列的下界的 {@code long[]}。
+     * @param key 表示待查找的键的64位整数。
+     * @return 若存在这样的下界，则为其索引；否则为 {@code -1}。
+     */
+    static int floor(long[] lowers, long key) {
+        int low = 0;
+        int high = lowers.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lowers[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DefaultVersionConstraint) {
+            DefaultVersionConstraint another = (DefaultVersionConstraint) obj;
+            // The intervals only describe packable versions, so the terms decide how the others are matched.
+            return Arrays.equals(another.lowers, this.lowers) && Arrays.equals(another.uppers, this.uppers)
+                    && Arrays.equals(another.terms, this.terms);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.combine(Arrays.hashCode(this.lowers), Arrays.hashCode(this.uppers), Arrays.hashCode(this.terms));
+    }
+
+    @Override
+    public String toString() {
+        return this.text;
+    }
+
+    /**
+     * 解析版本约束。
+     *
+     * @param constraint 表示版本约束的 {@link String}。
+     * @return 表示解析到的版本约束的 {@link DefaultVersionConstraint}。
+     * @throws IllegalArgumentException {@code constraint} 是空白字符串。
+     * @throws VersionFormatException 版本约束的格式不正确，或其中的区间不包含任何版本。
+     */
+    public static DefaultVersionConstraint parse(String constraint) {
+        Validation.notBlank(constraint, "The version constraint to parse cannot be blank.");
+        int index = constraint.hashCode() & (CACHE_SIZE - 1);
+        DefaultVersionConstraint cached = CACHE.get(index);
+        if (cached != null && cached.text.equals(constraint)) {
+            return cached;
+        } else {
+            DefaultVersionConstraint compiled = compile(constraint);
+            CACHE.set(index, compiled);
+            return compiled;
+        }
+    }
+
+    private static DefaultVersionConstraint compile(String constraint) {
+        List<Term> terms = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        int length = constraint.length();
+        for (int i = 0; i <= length; i++) {
+            char ch = i < length ? constraint.charAt(i) : ',';
+            if (ch == '[' || ch == '(') {
+                depth++;
+            } else if (ch == ']' || ch == ')') {
+                depth--;
+            } else if (depth == 0 && (ch == ',' || (ch == '|' && i + 1 < length && constraint.charAt(i + 1) == '|'))) {
+                terms.add(term(constraint, constraint.substring(start, i).trim()));
+                start = ch == ',' ? i + 1 : i + 2;
+                i = start - 1;
+            }
+            if (depth < 0 || depth > 1) {
+                throw invalid(constraint);
+            }
+        }
+        if (depth != 0) {
+            throw invalid(constraint);
+        }
+        return merge(constraint, terms);
+    }
+
+    private static DefaultVersionConstraint merge(String constraint, List<Term> terms) {
+        List<Term> sorted = new ArrayList<>(terms);
+        sorted.removeIf(term -> term.lower > term.upper);
+        sorted.sort((t1, t2) -> Long.compare(t1.lower, t2.lower));
+        long[] lowers = new long[sorted.size()];
+        long[] uppers = new long[sorted.size()];
+        int count = 0;
+        for (Term term : sorted) {
+            if (count > 0 && term.lower - 1 <= uppers[count - 1]) {
+                uppers[count - 1] = Math.max(uppers[count - 1], term.upper);
+            } else {
+                lowers[count] = term.lower;
+                uppers[count] = term.upper;
+                count++;
+            }
+        }
+        return new DefaultVersionConstraint(constraint, Arrays.copyOf(lowers, count), Arrays.copyOf(uppers, count),
+                terms.toArray(new Term[0]));
+    }
+
+    private static Term term(String constraint, String term) {
+        if (term.isEmpty()) {
+            throw invalid(constraint);
+        } else if (term.equals("*")) {
+            return new IntervalTerm(UNBOUNDED, true, UNBOUNDED, true);
+        }
+        char first = term.charAt(0);
+        if (first == '[' || first == '(') {
+            return interval(constraint, term);
+        }
+        char last = term.charAt(term.length() - 1);
+        if (last == '*' || last == 'x' || last == 'X') {
+            return wildcard(constraint, term);
+        } else {
+            long key = key(constraint, term);
+            return new IntervalTerm(key, true, key, true);
+        }
+    }
+
+    private static Term interval(String constraint, String term) {
+        char first = term.charAt(0);
+        char last = term.charAt(term.length() - 1);
+        if (term.length() < 2 || (last != ']' && last != ')')) {
+            throw invalid(constraint);
+        }
+        String body = term.substring(1, term.length() - 1);
+        int comma = body.indexOf(',');
+        if (comma < 0) {
+            if (first != '[' || last != ']') {
+                throw invalid(constraint);
+            }
+            long key = key(constraint, body.trim());
+            return new IntervalTerm(key, true, key, true);
+        }
+        String lower = body.substring(0, comma).trim();
+        String upper = body.substring(comma + 1).trim();
+        long lowerKey = lower.isEmpty() ? UNBOUNDED : key(constraint, lower);
+        long upperKey = upper.isEmpty() ? UNBOUNDED : key(constraint, upper);
+        if (lowerKey != UNBOUNDED && upperKey != UNBOUNDED
+                && (lowerKey > upperKey || (lowerKey == upperKey && (first != '[' || last != ']')))) {
+            throw empty(constraint, term);
+        }
+        return new IntervalTerm(lowerKey, first == '[', upperKey, last == ']');
+    }
+
+    private static Term wildcard(String constraint, String term) {
+        if (term.length() < 3 || term.charAt(term.length() - 2) != Version.SEPARATOR) {
+            throw invalid(constraint);
+        }
+        int[] components = new int[3];
+        int count = 0;
+        int start = 0;
+        int end = term.length() - 2;
+        for (int i = 0; i <= end; i++) {
+            if (i == end || term.charAt(i) == Version.SEPARATOR) {
+                if (count > 2) {
+                    throw invalid(constraint);
+                }
+                components[count++] = component(constraint, term, start, i);
+                start = i + 1;
+            }
+        }
+        if (components[0] > PackedVersion.MAX_MAJOR) {
+            throw outOfRange(constraint, term);
+        }
+        return new PrefixTerm(components, count);
+    }
+
+    private static int component(String constraint, String term, int start, int end) {
+        if (start >= end) {
+            throw invalid(constraint);
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char ch = term.charAt(i);
+            if (ch < '0' || ch > '9') {
+                throw invalid(constraint);
+            }
+            value = value * 10 + (ch - '0');
+            if (value > PackedVersion.MAX_COMPONENT) {
+                throw outOfRange(constraint, term);
+            }
+        }
+        return value;
+    }
+
+    private static long key(String constraint, String version) {
+        Version parsed = Version.tryParse(version);
+        if (parsed == null) {
+            throw invalid(constraint);
+        }
+        long key = PackedVersion.pack(parsed);
+        if (key == PackedVersion.NOT_PACKABLE) {
+            throw outOfRange(constraint, version);
+        }
+        return key;
+    }
+
+    /**
+     * 表示约束中的一个条件。
+     * <p>{@link #lower} 和 {@link #upper} 是条件在编码后的版本上对应的闭区间，用以编译快速匹配的区间；
+     * {@link #matches(Version)} 则按照条件的原始语义匹配不可编码的版本。</p>
+     */
+    private abstract static class Term {
+        final long lower;
+        final long upper;
+
+        Term(long lower, long upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        abstract boolean matches(Version version);
+    }
+
+    private static final class IntervalTerm extends Term {
+        private final long lowerBound;
+        private final boolean lowerInclusive;
+        private final long upperBound;
+        private final boolean upperInclusive;
+
+        IntervalTerm(long lowerBound, boolean lowerInclusive, long upperBound, boolean upperInclusive) {
+            super(lower(lowerBound, lowerInclusive), upper(upperBound, upperInclusive));
+            this.lowerBound = lowerBound;
+            this.lowerInclusive = lowerInclusive;
+            this.upperBound = upperBound;
+            this.upperInclusive = upperInclusive;
+        }
+
+        private static long lower(long bound, boolean inclusive) {
+            if (bound == UNBOUNDED) {
+                return 0;
+            } else if (inclusive) {
+                return bound;
+            } else {
+                // An exclusive lower bound at the largest key leaves an empty interval, which is dropped when merging.
+                return bound == Long.MAX_VALUE ? Long.MAX_VALUE : bound + 1;
+            }
+        }
+
+        private static long upper(long bound, boolean inclusive) {
+            if (bound == UNBOUNDED) {
+                return Long.MAX_VALUE;
+            } else {
+                return inclusive ? bound : bound - 1;
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof IntervalTerm) {
+                IntervalTerm another = (IntervalTerm) obj;
+                return another.lowerBound == this.lowerBound && another.lowerInclusive == this.lowerInclusive
+                        && another.upperBound == this.upperBound && another.upperInclusive == this.upperInclusive;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Hashing.combine(Hashing.hash(this.lowerBound), Boolean.hashCode(this.lowerInclusive),
+                    Hashing.hash(this.upperBound), Boolean.hashCode(this.upperInclusive));
+        }
+
+        @Override
+        boolean matches(Version version) {
+            if (this.lowerBound != UNBOUNDED) {
+                int result = DefaultVersion.COMPARATOR.compare(version, PackedVersion.fromKey(this.lowerBound));
+                if (result < 0 || (result == 0 && !this.lowerInclusive)) {
+                    return false;
+                }
+            }
+            if (this.upperBound != UNBOUNDED) {
+                int result = DefaultVersion.COMPARATOR.compare(version, PackedVersion.fromKey(this.upperBound));
+                return result < 0 || (result == 0 && this.upperInclusive);
+            }
+            return true;
+        }
+    }
+
+    private static final class PrefixTerm extends Term {
+        private final int[] components;
+        private final int count;
+
+        PrefixTerm(int[] components, int count) {
+            super(PackedVersion.pack(components[0], components[1], components[2], 0),
+                    PackedVersion.pack(components[0], components[1], components[2], 0)
+                            | ((1L << (16 * (4 - count))) - 1));
+            this.components = components;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof PrefixTerm) {
+                PrefixTerm another = (PrefixTerm) obj;
+                return another.count == this.count && Arrays.equals(another.components, this.components);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(this.components) + this.count;
+        }
+
+        @Override
+        boolean matches(Version version) {
+            return version.major() == this.components[0]
+                    && (this.count < 2 || version.minor() == this.components[1])
+                    && (this.count < 3 || version.revision() == this.components[2]);
+        }
+    }
+
+    private static VersionFormatException invalid(String constraint) {
+        return VersionFormatException.create(String.format(Locale.ROOT,
+                "The version constraint is not valid. [constraint=%s]", constraint));
+    }
+
+    private static VersionFormatException empty(String constraint, String interval) {
+        return VersionFormatException.create(String.format(Locale.ROOT,
+                "The interval in a version constraint is empty. [constraint=%s, interval=%s]", constraint, interval));
+    }
+
+    private static VersionFormatException outOfRange(String constraint, String version) {
+        return VersionFormatException.create(String.format(Locale.ROOT,
+                "The version in a constraint is out of range. [constraint=%s, version=%s]", constraint, version));
+    }
+}
@@ -0,0 +1,104 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.RangeResult;
+import xyz.talefox.util.Validation;
+
+import java.util.Locale;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 为 {@link RangeResult} 提供在首次访问时才计算数据总量的实现。
+ * <p>数据总量至多计算一次，计算完成后释放计算方法的引用。为使比较及计算哈希值既不触发计算，
+ * 其结果也不因是否已经计算而改变，实例只与自身相等，也不与具有相同偏移量、数量限制及数据总量的其他 {@link RangeResult} 相等。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class LazyRangeResult implements RangeResult {
+    private static final long UNCOUNTED = -1L;
+
+    private final long offset;
+    private final int limit;
+    private final Lock lock = new ReentrantLock();
+    private LongSupplier counter;
+    private volatile long total = UNCOUNTED;
+
+    /**
+     * 使用偏移量、数量限制及计算数据总量的方法初始化 {@link LazyRangeResult} 类的新实例。
+     *
+     * @param offset 表示偏移量的64位整数。
+     * @param limit 表示数量限制的32位整数。
+     * @param counter 表示计算数据总量的方法的 {@link LongSupplier}。
+     * @throws IllegalArgumentException {@code offset} 是一个负数、{@code limit} 不是一个正数，或 {@code counter} 为 {@code null}。
+     */
+    public LazyRangeResult(long offset, int limit, LongSupplier counter) {
+        if (offset < 0) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The offset of a range result cannot be negative. [offset=%d]", offset));
+        } else if (limit < 1) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The limit of a range result must be positive. [limit=%d]", limit));
+        } else {
+            this.offset = offset;
+            this.limit = limit;
+            this.counter = Validation.notNull(counter, "The counter of a range result cannot be null.");
+        }
+    }
+
+    @Override
+    public long offset() {
+        return this.offset;
+    }
+
+    @Override
+    public int limit() {
+        return this.limit;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>首次调用时计算数据总量，并发的调用将等待同一次计算的结果。若计算失败，下次调用时将重新计算。</p>
+     *
+     * @throws IllegalStateException 计算得到的数据总量是一个负数。
+     */
+    @Override
+    public long total() {
+        long current = this.total;
+        if (current == UNCOUNTED) {
+            this.lock.lock();
+            try {
+                current = this.total;
+                if (current == UNCOUNTED) {
+                    current = this.counter.getAsLong();
+                    if (current < 0) {
+                        throw new IllegalStateException(String.format(Locale.ROOT,
+                                "The counted total of a range result cannot be negative. [total=%d]", current));
+                    }
+                    this.total = current;
+                    this.counter = null;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 指示数据总量是否已经计算。
+     *
+     * @return 若数据总量已经计算，则为 {@code true}；否则为 {@code false}。
+     */
+    public boolean counted() {
+        return this.total != UNCOUNTED;
+    }
+
+    @Override
+    public String toString() {
+        long current = this.total;
+        return String.format(Locale.ROOT, "[offset=%d, limit=%d, total=%s]", this.offset(), this.limit(),
+                current == UNCOUNTED ? "?" : Long.toString(current));
+    }
+}
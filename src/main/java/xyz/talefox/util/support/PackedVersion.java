@@ -0,0 +1,255 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Hashing;
+import xyz.talefox.util.Validation;
+import xyz.talefox.util.Version;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 为 {@link Version} 提供将所有版本号编码在一个64位整数中的紧凑实现。
+ * <p>编码后的键从高到低依次为15位的主版本号、16位的次版本号、16位的修订版本号和16位的构建版本号，
+ * 因此键总是非负数，且键的大小关系与版本的大小关系一致。</p>
+ * <p>通过 {@link #of(int, int, int, int)} 获取的实例来自一个有界的直接映射缓存，相同的版本通常得到相同的实例；
+ * 当缓存槽位被其他版本占用时，将创建新的实例并替换该槽位，因此不保证实例唯一。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class PackedVersion implements Version {
+    /**
+     * 表示可编码的主版本号的最大值。
+     */
+    public static final int MAX_MAJOR = 0x7FFF;
+
+    /**
+     * 表示可编码的次版本号、修订版本号和构建版本号的最大值。
+     */
+    public static final int MAX_COMPONENT = 0xFFFF;
+
+    /**
+     * 表示版本不可编码时返回的键。
+     */
+    public static final long NOT_PACKABLE = -1L;
+
+    private static final int CACHE_SIZE = 4096;
+    private static final AtomicReferenceArray<PackedVersion> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private final long key;
+    private String text;
+
+    private PackedVersion(long key) {
+        this.key = key;
+    }
+
+    /**
+     * 获取编码后的键。
+     *
+     * @return 表示编码后的键的64位整数。
+     */
+    public long key() {
+        return this.key;
+    }
+
+    @Override
+    public int major() {
+        return major(this.key);
+    }
+
+    @Override
+    public int minor() {
+        return minor(this.key);
+    }
+
+    @Override
+    public int revision() {
+        return revision(this.key);
+    }
+
+    @Override
+    public int build() {
+        return build(this.key);
+    }
+
+    @Override
+    public int compareTo(Version another) {
+        if (another instanceof PackedVersion) {
+            return Long.compare(this.key, ((PackedVersion) another).key);
+        } else {
+            return Version.super.compareTo(another);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof PackedVersion) {
+            return ((PackedVersion) obj).key == this.key;
+        } else if (obj instanceof Version && !DefaultSemanticVersion.preReleased((Version) obj)) {
+            Version another = (Version) obj;
+            return another.major() == this.major() && another.minor() == this.minor()
+                    && another.revision() == this.revision() && another.build() == this.build();
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        // Must stay consistent with DefaultVersion, since instances of both types can be equal.
+        return Hashing.combine(this.major(), this.minor(), this.revision(), this.build());
+    }
+
+    @Override
+    public String toString() {
+        // Instances are shared through the cache, so the text is formatted once per distinct version in practice.
+        String actual = this.text;
+        if (actual == null) {
+            actual = DefaultVersion.format(this.major(), this.minor(), this.revision(), this.build());
+            this.text = actual;
+        }
+        return actual;
+    }
+
+    @Override
+    public void appendTo(Appendable appendable) throws IOException {
+        Validation.notNull(appendable, "The appendable to append version to cannot be null.");
+        appendable.append(this.toString());
+    }
+
+    /**
+     * 检查指定的版本号是否可以被编码。
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 若所有版本号都是非负数且不超过可编码的最大值，则为 {@code true}；否则为 {@code false}。
+     */
+    public static boolean packable(int major, int minor, int revision, int build) {
+        return (major & ~MAX_MAJOR) == 0 && ((minor | revision | build) & ~MAX_COMPONENT) == 0;
+    }
+
+    /**
+     * 将指定的版本号编码为键。
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 若版本号可以被编码，则为编码后的键；否则为 {@link #NOT_PACKABLE}。
+     */
+    public static long pack(int major, int minor, int revision, int build) {
+        if (packable(major, minor, revision, build)) {
+            return ((long) major << 48) | ((long) minor << 32) | ((long) revision << 16) | build;
+        } else {
+            return NOT_PACKABLE;
+        }
+    }
+
+    /**
+     * 将指定的版本编码为键。
+     *
+     * @param version 表示待编码的版本的 {@link Version}。
+     * @return 若版本可以被编码，则为编码后的键；否则为 {@link #NOT_PACKABLE}。先行版本总是不能被编码。
+     * @throws IllegalArgumentException {@code version} 为 {@code null}。
+     */
+    public static long pack(Version version) {
+        if (version instanceof PackedVersion) {
+            return ((PackedVersion) version).key;
+        } else if (version == null) {
+            throw new IllegalArgumentException("The version to pack cannot be null.");
+        } else if (DefaultSemanticVersion.preReleased(version)) {
+            return NOT_PACKABLE;
+        } else {
+            return pack(version.major(), version.minor(), version.revision(), version.build());
+        }
+    }
+
+    /**
+     * 从键中获取主版本号。
+     *
+     * @param key 表示编码后的键的64位整数。
+     * @return 表示主版本号的32位整数。
+     */
+    public static int major(long key) {
+        return (int) (key >>> 48);
+    }
+
+    /**
+     * 从键中获取次版本号。
+     *
+     * @param key 表示编码后的键的64位整数。
+     * @return 表示次版本号的32位整数。
+     */
+    public static int minor(long key) {
+        return (int) (key >>> 32) & MAX_COMPONENT;
+    }
+
+    /**
+     * 从键中获取修订版本号。
+     *
+     * @param key 表示编码后的键的64位整数。
+     * @return 表示修订版本号的32位整数。
+     */
+    public static int revision(long key) {
+        return (int) (key >>> 16) & MAX_COMPONENT;
+    }
+
+    /**
+     * 从键中获取构建版本号。
+     *
+     * @param key 表示编码后的键的64位整数。
+     * @return 表示构建版本号的32位整数。
+     */
+    public static int build(long key) {
+        return (int) key & MAX_COMPONENT;
+    }
+
+    /**
+     * 获取指定版本号的规范实例。
+     * <p>若版本号可以被编码，则从缓存中获取 {@link PackedVersion} 的实例；否则创建 {@link DefaultVersion} 的新实例。</p>
+     *
+     * @param major 表示主版本号的32位整数。
+     * @param minor 表示次版本号的32位整数。
+     * @param revision 表示修订版本号的32位整数。
+     * @param build 表示构建版本号的32位整数。
+     * @return 表示版本的 {@link Version}。
+     * @throws IllegalArgumentException {@code major}、{@code minor}、{@code revision} 或 {@code build} 为负数。
+     */
+    public static Version of(int major, int minor, int revision, int build) {
+        long key = pack(major, minor, revision, build);
+        if (key == NOT_PACKABLE) {
+            return new DefaultVersion(major, minor, revision, build);
+        } else {
+            return fromKey(key);
+        }
+    }
+
+    /**
+     * 从缓存中获取指定键所表示的版本的实例。
+     *
+     * @param key 表示编码后的键的64位整数。
+     * @return 表示版本的 {@link PackedVersion}。
+     * @throws IllegalArgumentException {@code key} 是一个负数。
+     */
+    public static PackedVersion fromKey(long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("The key of a packed version cannot be negative.");
+        }
+        int index = slot(key);
+        PackedVersion cached = CACHE.get(index);
+        if (cached != null && cached.key == key) {
+            return cached;
+        } else {
+            PackedVersion version = new PackedVersion(key);
+            CACHE.set(index, version);
+            return version;
+        }
+    }
+
+    private static int slot(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 52) & (CACHE_SIZE - 1);
+    }
+}
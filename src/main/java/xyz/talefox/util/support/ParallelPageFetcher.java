@@ -0,0 +1,158 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Range;
+import xyz.talefox.util.RangeResult;
+import xyz.talefox.util.RangedResultSet;
+import xyz.talefox.util.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 以有界的并发度获取所有页，并按照原始顺序合并结果。
+ * <p>第一页返回后，根据其中的数据总量将剩余的数据划分为若干个区间。至多 {@code parallelism} 个区间同时获取，
+ * 每个区间完成后立即开始获取下一个尚未开始的区间。任一区间失败或结果被取消时，不再开始新的区间。
+ * 若第一页中的数据总量不是准确值，则无法预先划分区间，此时逐页获取，直到获取到不满的页。</p>
+ *
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class ParallelPageFetcher<T> {
+    private final Function<Range, ? extends RangedResultSet<T>> fetcher;
+    private final int limit;
+    private final int parallelism;
+    private final Executor executor;
+    private final CompletableFuture<RangedResultSet<T>> result = new CompletableFuture<>();
+    private final AtomicInteger started = new AtomicInteger();
+    private final AtomicInteger remaining = new AtomicInteger();
+
+    // Written once by the first page, before any other chunk is handed to the executor.
+    private AtomicReferenceArray<List<T>> pages;
+    private long total;
+
+    /**
+     * 初始化 {@link ParallelPageFetcher} 类的新实例。
+     *
+     * @param fetcher 表示获取指定区间的数据的 {@link Function}{@code <}{@link Range}{@code , ? extends }{@link RangedResultSet}{@code <T>>}。
+     * @param limit 表示每个区间的数量限制的32位整数。
+     * @param parallelism 表示至多同时获取的区间数量的32位整数。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @throws IllegalArgumentException {@code fetcher} 或 {@code executor} 为 {@code null}，或 {@code limit} 或 {@code parallelism} 不是正数。
+     */
+    public ParallelPageFetcher(Function<Range, ? extends RangedResultSet<T>> fetcher, int limit, int parallelism,
+            Executor executor) {
+        this.fetcher = Validation.notNull(fetcher, "The fetcher of pages cannot be null.");
+        this.limit = Validation.greaterThan(limit, 0, "The limit of a page must be positive.");
+        this.parallelism = Validation.greaterThan(parallelism, 0, "The parallelism to fetch pages must be positive.");
+        this.executor = Validation.notNull(executor, "The executor to fetch pages cannot be null.");
+    }
+
+    /**
+     * 开始获取所有页。
+     * <p>该方法只能调用一次。取消返回的 {@link CompletableFuture} 将停止开始新的区间。</p>
+     *
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}，
+     * 其中区间结果的偏移量为 {@code 0}，数据总量为第一页所报告的数据总量。
+     */
+    public CompletableFuture<RangedResultSet<T>> fetch() {
+        this.run(Range.create(0, this.limit), this::first);
+        return this.result;
+    }
+
+    private void first(RangedResultSet<T> page) {
+        if (!page.range().exact()) {
+            this.follow(new ArrayList<>(page.results()), 0, page);
+            return;
+        }
+        this.total = page.range().total();
+        long rest = this.total - this.limit;
+        long chunks = rest > 0 ? (rest + this.limit - 1) / this.limit : 0;
+        if (this.total > Integer.MAX_VALUE || chunks + 1 > Integer.MAX_VALUE) {
+            this.result.completeExceptionally(new IllegalStateException(String.format(Locale.ROOT,
+                    "The data is too large to merge in memory. [total=%d]", this.total)));
+            return;
+        }
+        this.pages = new AtomicReferenceArray<>((int) chunks + 1);
+        this.pages.set(0, page.results());
+        if (chunks == 0) {
+            this.merge();
+            return;
+        }
+        this.remaining.set((int) chunks);
+        int workers = (int) Math.min(this.parallelism, chunks);
+        for (int i = 0; i < workers; i++) {
+            this.next();
+        }
+    }
+
+    private void next() {
+        int chunk = this.started.incrementAndGet();
+        if (chunk >= this.pages.length() || this.result.isDone()) {
+            return;
+        }
+        Range range = Range.create((long) chunk * this.limit, this.limit);
+        this.run(range, page -> {
+            this.pages.set(chunk, page.results());
+            if (this.remaining.decrementAndGet() == 0) {
+                this.merge();
+            } else {
+                this.next();
+            }
+        });
+    }
+
+    private void follow(List<T> results, long offset, RangedResultSet<T> page) {
+        if (page.results().size() < this.limit) {
+            this.result.complete(RangedResultSet.create(results,
+                    RangeResult.create(0, Math.max(1, results.size()), results.size())));
+            return;
+        }
+        long next = offset + this.limit;
+        this.run(Range.create(next, this.limit), following -> {
+            results.addAll(following.results());
+            this.follow(results, next, following);
+        });
+    }
+
+    private void run(Range range, Consumer<RangedResultSet<T>> then) {
+        try {
+            this.executor.execute(() -> {
+                if (this.result.isDone()) {
+                    return;
+                }
+                try {
+                    RangedResultSet<T> page = this.fetcher.apply(range);
+                    if (page == null) {
+                        throw new IllegalStateException(String.format(Locale.ROOT,
+                                "The fetcher returned no page. [range=%s]", range));
+                    }
+                    then.accept(page);
+                } catch (Throwable ex) {
+                    this.result.completeExceptionally(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            this.result.completeExceptionally(ex);
+        }
+    }
+
+    private void merge() {
+        int size = 0;
+        for (int i = 0; i < this.pages.length(); i++) {
+            size += this.pages.get(i).size();
+        }
+        List<T> results = new ArrayList<>(size);
+        for (int i = 0; i < this.pages.length(); i++) {
+            results.addAll(this.pages.get(i));
+        }
+        this.result.complete(RangedResultSet.create(results, RangeResult.create(0, Math.max(1, size), this.total)));
+    }
+}
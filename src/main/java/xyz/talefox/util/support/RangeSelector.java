@@ -0,0 +1,180 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Range;
+import xyz.talefox.util.RangedResultSet;
+import xyz.talefox.util.Validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * 从数据记录中选出排序后位于指定区间中的数据记录，而无需对所有数据记录排序。
+ * <p>使用容量为 {@code offset + limit} 的最大堆保留当前最小的数据记录，因此时间复杂度为 {@code O(n log k)}，
+ * 空间复杂度为 {@code O(k)}。比较结果相同的数据记录保持原始顺序，与稳定排序的结果一致。</p>
+ * <p>可以通过 {@link #collector(Comparator, Range)} 在并行流中使用，每个分段各自选择后再合并。</p>
+ *
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class RangeSelector<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Comparator<? super T> comparator;
+    private final Range range;
+    private final int capacity;
+
+    private Object[] elements;
+    private long[] orders;
+    private int size;
+    private long count;
+
+    /**
+     * 使用比较器和需要选出的区间初始化 {@link RangeSelector} 类的新实例。
+     *
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param range 表示需要选出的区间的 {@link Range}。
+     * @throws IllegalArgumentException {@code comparator} 或 {@code range} 为 {@code null}。
+     */
+    public RangeSelector(Comparator<? super T> comparator, Range range) {
+        this.comparator = Validation.notNull(comparator, "The comparator to select records cannot be null.");
+        this.range = Validation.notNull(range, "The range to select cannot be null.");
+        this.capacity = (int) Math.min(Math.min(range.offset(), MAX_CAPACITY) + range.limit(), MAX_CAPACITY);
+        int initial = Math.min(this.capacity, INITIAL_CAPACITY);
+        this.elements = new Object[initial];
+        this.orders = new long[initial];
+    }
+
+    /**
+     * 创建选出排序后位于指定区间中的数据记录的 {@link Collector}。
+     *
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param range 表示需要选出的区间的 {@link Range}。
+     * @param <T> 表示数据记录的类型。
+     * @return 表示收集器的 {@link Collector}{@code <T, ?, }{@link RangedResultSet}{@code <T>>}。
+     * @throws IllegalArgumentException {@code comparator} 或 {@code range} 为 {@code null}。
+     */
+    public static <T> Collector<T, ?, RangedResultSet<T>> collector(Comparator<? super T> comparator, Range range) {
+        Validation.notNull(comparator, "The comparator to select records cannot be null.");
+        Validation.notNull(range, "The range to select cannot be null.");
+        return Collector.of(() -> new RangeSelector<T>(comparator, range), RangeSelector::add,
+                RangeSelector::merge, RangeSelector::result);
+    }
+
+    /**
+     * 添加一条数据记录。
+     *
+     * @param element 表示待添加的数据记录的 {@link Object}。
+     */
+    public void add(T element) {
+        this.offer(element, this.count++);
+    }
+
+    /**
+     * 将另一个选择器中的数据记录合并到当前选择器中。
+     * <p>另一个选择器中的数据记录视为位于当前选择器中所有数据记录之后。</p>
+     *
+     * @param another 表示另一个选择器的 {@link RangeSelector}{@code <T>}。
+     * @return 表示当前选择器的 {@link RangeSelector}{@code <T>}。
+     */
+    public RangeSelector<T> merge(RangeSelector<T> another) {
+        for (int i = 0; i < another.size; i++) {
+            this.offer(another.element(i), this.count + another.orders[i]);
+        }
+        this.count += another.count;
+        return this;
+    }
+
+    /**
+     * 获取位于区间中的数据记录。
+     * <p>返回的结果集中的数据记录是选择器内部数组的只读视图，此后不应再向选择器添加数据记录。</p>
+     *
+     * @return 表示结果集的 {@link RangedResultSet}{@code <T>}，其中数据总量为已添加的数据记录的数量。
+     */
+    public RangedResultSet<T> result() {
+        for (int last = this.size - 1; last > 0; last--) {
+            this.swap(0, last);
+            this.down(0, last);
+        }
+        List<T> results;
+        if (this.range.offset() >= this.size) {
+            results = Collections.emptyList();
+        } else {
+            @SuppressWarnings("unchecked")
+            List<T> selected = (List<T>) Arrays.asList(this.elements);
+            results = Collections.unmodifiableList(selected.subList((int) this.range.offset(), this.size));
+        }
+        return RangedResultSet.create(results, this.range, this.count);
+    }
+
+    private void offer(T element, long order) {
+        if (this.size < this.capacity) {
+            if (this.size == this.elements.length) {
+                int length = (int) Math.min((long) this.size << 1, this.capacity);
+                this.elements = Arrays.copyOf(this.elements, length);
+                this.orders = Arrays.copyOf(this.orders, length);
+            }
+            this.elements[this.size] = element;
+            this.orders[this.size] = order;
+            this.up(this.size++);
+        } else if (this.compare(element, order, 0) < 0) {
+            this.elements[0] = element;
+            this.orders[0] = order;
+            this.down(0, this.size);
+        }
+    }
+
+    private void up(int index) {
+        int child = index;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (this.compare(parent, child) >= 0) {
+                break;
+            }
+            this.swap(parent, child);
+            child = parent;
+        }
+    }
+
+    private void down(int index, int bound) {
+        int parent = index;
+        int child;
+        while ((child = (parent << 1) + 1) < bound) {
+            if (child + 1 < bound && this.compare(child + 1, child) > 0) {
+                child++;
+            }
+            if (this.compare(parent, child) >= 0) {
+                break;
+            }
+            this.swap(parent, child);
+            parent = child;
+        }
+    }
+
+    private int compare(int i, int j) {
+        return this.compare(this.element(i), this.orders[i], j);
+    }
+
+    private int compare(T element, long order, int index) {
+        int result = this.comparator.compare(element, this.element(index));
+        return result != 0 ? result : Long.compare(order, this.orders[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) this.elements[index];
+    }
+
+    private void swap(int i, int j) {
+        Object element = this.elements[i];
+        this.elements[i] = this.elements[j];
+        this.elements[j] = element;
+        long order = this.orders[i];
+        this.orders[i] = this.orders[j];
+        this.orders[j] = order;
+    }
+}
@@ -0,0 +1,180 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Cursor;
+import xyz.talefox.util.Range;
+import xyz.talefox.util.RangeResult;
+import xyz.talefox.util.RangedResultSet;
+import xyz.talefox.util.Validation;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 从多个分片中获取数据，并将各分片中已排序的结果按照全局顺序合并为一页。
+ * <p>所有分片的查询同时执行。合并时使用以分片为元素的最小堆，每次取出当前最小的数据记录，
+ * 比较结果相同时按照分片的顺序排列，因此结果是确定的。合并后记录每个分片已消费的位置，并将其编码在下一页的游标中，
+ * 使下一页只需从每个分片的该位置开始获取至多 {@code limit} 条数据记录。</p>
+ *
+ * @param <T> 表示数据记录的类型。
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class ShardedPageFetcher<T> {
+    private final List<Function<Range, ? extends RangedResultSet<T>>> shards;
+    private final Comparator<? super T> comparator;
+    private final Executor executor;
+
+    /**
+     * 初始化 {@link ShardedPageFetcher} 类的新实例。
+     *
+     * @param shards 表示获取各分片中指定区间的数据的 {@link List}{@code <? extends }{@link Function}{@code >}，
+     * 每个分片返回的数据记录须已按照 {@code comparator} 排序。
+     * @param comparator 表示数据记录的比较器的 {@link Comparator}{@code <? super T>}。
+     * @param executor 表示用以获取数据的 {@link Executor}。
+     * @throws IllegalArgumentException {@code shards}、{@code comparator} 或 {@code executor} 为 {@code null}，
+     * 或 {@code shards} 为空或包含 {@code null}。
+     */
+    public ShardedPageFetcher(List<? extends Function<Range, ? extends RangedResultSet<T>>> shards,
+            Comparator<? super T> comparator, Executor executor) {
+        Validation.notNull(shards, "The shards to fetch cannot be null.");
+        if (shards.isEmpty() || shards.contains(null)) {
+            throw new IllegalArgumentException("The shards to fetch cannot be empty or contain null.");
+        }
+        this.shards = new ArrayList<>(shards);
+        this.comparator = Validation.notNull(comparator, "The comparator to merge shards cannot be null.");
+        this.executor = Validation.notNull(executor, "The executor to fetch shards cannot be null.");
+    }
+
+    /**
+     * 获取按照全局顺序排列时位于指定区间中的数据记录。
+     * <p>由于不知道各分片在区间之前的数据记录的数量，每个分片都需要获取 {@code offset + limit} 条数据记录。
+     * 获取后续的页时，应使用结果集中的下一页的游标。</p>
+     *
+     * @param range 表示区间的 {@link Range}。
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}。
+     * @throws IllegalArgumentException {@code range} 为 {@code null}，或 {@code offset + limit} 超过了32位整数的范围。
+     */
+    public CompletableFuture<RangedResultSet<T>> fetch(Range range) {
+        Validation.notNull(range, "The range to fetch cannot be null.");
+        if (range.offset() + range.limit() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The range is too far to merge across shards. [offset=%d, limit=%d]",
+                    range.offset(), range.limit()));
+        }
+        return this.fetch(new long[this.shards.size()], (int) range.offset(), range.limit());
+    }
+
+    /**
+     * 获取指定游标之后的数据记录。
+     *
+     * @param cursor 表示由上一页返回的游标的 {@link Cursor}，为 {@code null} 时获取第一页。
+     * @param limit 表示数量限制的32位整数。
+     * @return 表示合并后的结果集的 {@link CompletableFuture}{@code <}{@link RangedResultSet}{@code <T>>}。
+     * @throws IllegalArgumentException {@code cursor} 不是由当前分片返回的向后游标，或 {@code limit} 不是一个正数。
+     */
+    public CompletableFuture<RangedResultSet<T>> fetch(Cursor cursor, int limit) {
+        Validation.greaterThan(limit, 0, "The limit of a page must be positive.");
+        long[] positions = cursor == null ? new long[this.shards.size()] : this.decode(cursor);
+        return this.fetch(positions, 0, limit);
+    }
+
+    private CompletableFuture<RangedResultSet<T>> fetch(long[] positions, int skip, int limit) {
+        List<CompletableFuture<RangedResultSet<T>>> pages = new ArrayList<>(this.shards.size());
+        for (int i = 0; i < this.shards.size(); i++) {
+            Function<Range, ? extends RangedResultSet<T>> shard = this.shards.get(i);
+            Range range = Range.create(positions[i], skip + limit);
+            pages.add(CompletableFuture.supplyAsync(() -> fetch(shard, range), this.executor));
+        }
+        return CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> this.merge(positions, skip, limit, pages));
+    }
+
+    private static <T> RangedResultSet<T> fetch(Function<Range, ? extends RangedResultSet<T>> shard, Range range) {
+        RangedResultSet<T> page = shard.apply(range);
+        if (page == null) {
+            throw new IllegalStateException(String.format(Locale.ROOT,
+                    "The shard returned no page. [range=%s]", range));
+        }
+        return page;
+    }
+
+    private RangedResultSet<T> merge(long[] positions, int skip, int limit,
+            List<CompletableFuture<RangedResultSet<T>>> pages) {
+        int count = pages.size();
+        List<List<T>> results = new ArrayList<>(count);
+        int[] heads = new int[count];
+        long total = 0;
+        long offset = skip;
+        boolean exact = true;
+        for (int i = 0; i < count; i++) {
+            RangedResultSet<T> page = pages.get(i).join();
+            results.add(page.results());
+            total += page.range().total();
+            offset += positions[i];
+            exact &= page.range().exact();
+        }
+        PriorityQueue<Integer> heap = new PriorityQueue<>(count, (a, b) -> {
+            int result = this.comparator.compare(results.get(a).get(heads[a]), results.get(b).get(heads[b]));
+            return result != 0 ? result : Integer.compare(a, b);
+        });
+        for (int i = 0; i < count; i++) {
+            if (!results.get(i).isEmpty()) {
+                heap.add(i);
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, 1024));
+        for (int taken = 0; taken < skip + limit && !heap.isEmpty(); taken++) {
+            int shard = heap.poll();
+            if (taken >= skip) {
+                merged.add(results.get(shard).get(heads[shard]));
+            }
+            if (++heads[shard] < results.get(shard).size()) {
+                heap.add(shard);
+            }
+        }
+        long[] next = new long[count];
+        boolean more = false;
+        for (int i = 0; i < count; i++) {
+            next[i] = positions[i] + heads[i];
+            // A shard that returned less than requested is exhausted, whatever its total says.
+            more |= heads[i] < results.get(i).size()
+                    || (results.get(i).size() >= skip + limit && pages.get(i).join().range().hasMore());
+        }
+        RangeResult range = exact ? RangeResult.create(offset, limit, total)
+                : RangeResult.estimated(Range.create(offset, limit), total);
+        return RangedResultSet.create(merged, range, null, more ? encode(next) : null);
+    }
+
+    private static Cursor encode(long[] positions) {
+        ByteBuffer buffer = ByteBuffer.allocate(positions.length * Long.BYTES);
+        for (long position : positions) {
+            buffer.putLong(position);
+        }
+        return Cursor.after(buffer.array());
+    }
+
+    private long[] decode(Cursor cursor) {
+        byte[] key = cursor.key();
+        if (cursor.direction() != Cursor.Direction.AFTER || key.length != this.shards.size() * Long.BYTES) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The cursor does not match the shards. [cursor=%s, shards=%d]", cursor, this.shards.size()));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(key);
+        long[] positions = new long[this.shards.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = buffer.getLong();
+            if (positions[i] < 0) {
+                throw new IllegalArgumentException(String.format(Locale.ROOT,
+                        "The cursor does not match the shards. [cursor=%s, shards=%d]", cursor, this.shards.size()));
+            }
+        }
+        return positions;
+    }
+}
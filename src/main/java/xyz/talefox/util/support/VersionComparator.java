@@ -0,0 +1,47 @@
+package xyz.talefox.util.support;
+
+import xyz.talefox.util.Version;
+
+import java.util.Comparator;
+
+/**
+ * 为 {@link Version} 提供比较程序。
+ * <p>当两个版本都是 {@link PackedVersion} 时只比较编码后的键；否则依次读取两个版本的版本号并逐一比较，
+ * 每个版本号只读取一次，避免组合式比较程序中多次通过函数式接口提取版本号的开销。
+ * 版本号都相同时，先行版本低于正式版本，两个先行版本使用预先拆分的先行版本号比较。</p>
+ *
+ * @author 梁济时
+ * @since 2026/10/19
+ */
+public final class VersionComparator implements Comparator<Version> {
+    /**
+     * 表示比较程序的唯一实例。
+     */
+    public static final VersionComparator INSTANCE = new VersionComparator();
+
+    private VersionComparator() {}
+
+    @Override
+    public int compare(Version v1, Version v2) {
+        if (v1 instanceof PackedVersion && v2 instanceof PackedVersion) {
+            return Long.compare(((PackedVersion) v1).key(), ((PackedVersion) v2).key());
+        }
+        int result = Integer.compare(v1.major(), v2.major());
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(v1.minor(), v2.minor());
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(v1.revision(), v2.revision());
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(v1.build(), v2.build());
+        if (result != 0) {
+            return result;
+        }
+        return DefaultSemanticVersion.comparePreRelease(v1, v2);
+    }
+}
@@ -0,0 +1,98 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 AsyncLazyLoader 工具类")
+class AsyncLazyLoaderTest {
+    @Test
+    @DisplayName("只开始一次加载，并由所有调用方共享加载结果")
+    void should_start_once_and_share_result() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Runnable> queued = new ArrayList<>();
+        AsyncLazyLoader<String> loader = new AsyncLazyLoader<>(() -> "v" + loads.incrementAndGet(), queued::add);
+        CompletableFuture<String> first = loader.get();
+        CompletableFuture<String> second = loader.get();
+        assertNotSame(first, second);
+        assertFalse(first.isDone());
+        assertFalse(loader.loaded());
+        assertEquals(1, queued.size());
+        queued.get(0).run();
+        assertEquals("v1", first.join());
+        assertEquals("v1", second.join());
+        assertTrue(loader.loaded());
+        assertEquals("v1", loader.get().join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("加载失败后在下次获取时重新加载")
+    void should_retry_after_failure() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AsyncLazyLoader<String> loader = new AsyncLazyLoader<>(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return "loaded";
+        }, Runnable::run);
+        CompletableFuture<String> failed = loader.get();
+        ExecutionException ex = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        CompletableFuture<String> retried = loader.get();
+        assertNotSame(failed, retried);
+        assertEquals("loaded", retried.get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("调用方完成或取消自己的 CompletableFuture 时不影响其他调用方")
+    void should_isolate_callers() {
+        List<CompletableFuture<String>> stages = new ArrayList<>();
+        AsyncLazyLoader<String> loader = AsyncLazyLoader.fromStage(() -> {
+            CompletableFuture<String> stage = new CompletableFuture<>();
+            stages.add(stage);
+            return stage;
+        });
+        CompletableFuture<String> cancelled = loader.get();
+        CompletableFuture<String> completed = loader.get();
+        CompletableFuture<String> waiting = loader.get();
+        cancelled.cancel(false);
+        completed.complete("wrong");
+        stages.get(0).complete("done");
+        assertEquals(1, stages.size());
+        assertEquals("done", waiting.join());
+        assertEquals("done", loader.get().join());
+        assertTrue(cancelled.isCancelled());
+    }
+
+    @Test
+    @DisplayName("数据源取消加载后重新加载")
+    void should_restart_after_cancellation() {
+        List<CompletableFuture<String>> stages = new ArrayList<>();
+        AsyncLazyLoader<String> loader = AsyncLazyLoader.fromStage(() -> {
+            CompletableFuture<String> stage = new CompletableFuture<>();
+            stages.add(stage);
+            return stage;
+        });
+        CompletableFuture<String> first = loader.get();
+        stages.get(0).cancel(false);
+        assertTrue(first.isCompletedExceptionally());
+        CompletableFuture<String> restarted = loader.get();
+        assertEquals(2, stages.size());
+        stages.get(1).complete("done");
+        assertEquals("done", restarted.join());
+    }
+}
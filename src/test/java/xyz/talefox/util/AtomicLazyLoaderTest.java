@@ -0,0 +1,206 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 AtomicLazyLoader 工具类")
+class AtomicLazyLoaderTest {
+    @Test
+    @DisplayName("并发调用时只加载一次并返回相同的实例")
+    void should_load_once_under_contention() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(1, race(new AtomicLazyLoader<>(slow(loads)), 8));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("并发调用时与 LazyLoader 的加载次数及结果一致")
+    void should_behave_as_lazy_loader_under_contention() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            AtomicInteger atomicLoads = new AtomicInteger();
+            AtomicInteger lockedLoads = new AtomicInteger();
+            assertEquals(1, race(new AtomicLazyLoader<>(slow(atomicLoads)), 16));
+            assertEquals(1, race(new LazyLoader<>(slow(lockedLoads)), 16));
+            assertEquals(lockedLoads.get(), atomicLoads.get());
+            assertEquals(1, atomicLoads.get());
+        }
+    }
+
+    @Test
+    @DisplayName("实例占用的字段及对象少于 LazyLoader")
+    void should_take_less_memory_than_lazy_loader() throws Exception {
+        Field field = LazyLoader.class.getDeclaredField("lock");
+        field.setAccessible(true);
+        Object lock = field.get(new LazyLoader<>(Object::new));
+        assertSame(ReentrantLock.class, lock.getClass());
+
+        // A LazyLoader also allocates a ReentrantLock, which in turn allocates its synchronizer.
+        Class<?> sync = Class.forName("java.util.concurrent.locks.ReentrantLock$NonfairSync");
+        int locked = instanceFields(LazyLoader.class) + instanceFields(ReentrantLock.class) + instanceFields(sync);
+        int atomic = instanceFields(AtomicLazyLoader.class);
+        assertEquals(2, atomic);
+        assertTrue(atomic * 4 <= locked, String.format(Locale.ROOT, "[atomic=%d, locked=%d]", atomic, locked));
+    }
+
+    @Test
+    @DisplayName("加载结果为 null 时同样被缓存")
+    void should_cache_null() {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicLazyLoader<Object> loader = new AtomicLazyLoader<>(() -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        assertFalse(loader.loaded());
+        assertNull(loader.get());
+        assertNull(loader.get());
+        assertTrue(loader.loaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("加载失败后再次调用时重新加载")
+    void should_retry_after_failure() {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicLazyLoader<String> loader = new AtomicLazyLoader<>(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return "loaded";
+        });
+        assertEquals("boom", assertThrows(IllegalStateException.class, loader::get).getMessage());
+        assertEquals("loaded", loader.get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("加载过程中递归调用时抛出异常")
+    void should_throw_exception_when_loading_recursively() {
+        AtomicReference<AtomicLazyLoader<Object>> self = new AtomicReference<>();
+        self.set(new AtomicLazyLoader<>(() -> self.get().get()));
+        String message = assertThrows(IllegalStateException.class, () -> self.get().get()).getMessage();
+        assertEquals("The lazy loader is invoked recursively while loading.", message);
+    }
+
+    @Test
+    @DisplayName("等待期间被中断时继续等待加载完成，并保留中断状态")
+    void should_keep_interrupt_status_of_waiter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLazyLoader<String> loader = new AtomicLazyLoader<>(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "loaded";
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> owner = executor.submit(loader::get);
+            started.await();
+            Future<Boolean> waiter = executor.submit(() -> {
+                Thread.currentThread().interrupt();
+                String value = loader.get();
+                return "loaded".equals(value) && Thread.interrupted();
+            });
+            Thread.sleep(20);
+            release.countDown();
+            assertEquals("loaded", owner.get(1, TimeUnit.SECONDS));
+            assertTrue(waiter.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("加载成功后释放加载方法，使其捕获的对象可以被回收")
+    void should_release_loader_after_loading() throws InterruptedException {
+        WeakReference<Object> captured = new WeakReference<>(new Object());
+        AtomicLazyLoader<String> loader = capture(captured);
+        assertEquals("loaded", loader.get());
+        for (int i = 0; i < 100 && captured.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(captured.get());
+        assertEquals("loaded", loader.get());
+    }
+
+    private static AtomicLazyLoader<String> capture(WeakReference<Object> captured) {
+        Object strong = captured.get();
+        return new AtomicLazyLoader<>(() -> strong == null ? "missing" : "loaded");
+    }
+
+    private static Supplier<Object> slow(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        };
+    }
+
+    private static int race(Supplier<Object> loader, int threads) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return loader.get();
+                }));
+            }
+            start.countDown();
+            Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<Object> result : results) {
+                distinct.add(result.get(1, TimeUnit.SECONDS));
+            }
+            return distinct.size();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int instanceFields(Class<?> clazz) {
+        int count = 0;
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
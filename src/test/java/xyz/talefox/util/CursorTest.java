@@ -0,0 +1,77 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 Cursor 与 CursorRange 工具类")
+class CursorTest {
+    @Test
+    @DisplayName("编码后的游标可以被还原")
+    void should_decode_encoded_cursor() {
+        byte[] key = "2026-10-19|42".getBytes(StandardCharsets.UTF_8);
+        Cursor cursor = Cursor.after(key);
+        String encoded = cursor.encode();
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        Cursor decoded = Cursor.decode(encoded);
+        assertEquals(cursor, decoded);
+        assertEquals(Cursor.Direction.AFTER, decoded.direction());
+        assertArrayEquals(key, decoded.key());
+        assertEquals(Cursor.Direction.BEFORE, Cursor.decode(Cursor.before(key).encode()).direction());
+    }
+
+    @Test
+    @DisplayName("游标的定位键不受外部修改的影响")
+    void should_copy_key() {
+        byte[] key = {1, 2, 3};
+        Cursor cursor = Cursor.after(key);
+        key[0] = 9;
+        cursor.key()[1] = 9;
+        assertArrayEquals(new byte[] {1, 2, 3}, cursor.key());
+    }
+
+    @Test
+    @DisplayName("当编码后的游标无效时抛出异常")
+    void should_throw_when_cursor_is_not_valid() {
+        String message = assertThrows(IllegalArgumentException.class, () -> Cursor.decode("x1")).getMessage();
+        assertEquals("The cursor is not valid. [cursor=x1]", message);
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("a*"));
+    }
+
+    @Test
+    @DisplayName("第一页可以与按偏移量定义的区间相互转换")
+    void should_convert_first_page() {
+        CursorRange first = CursorRange.first(Range.create(0, 20));
+        assertTrue(first.first());
+        assertNull(first.cursor());
+        assertEquals(Range.create(0, 20), first.toRange());
+        assertEquals(CursorRange.first(20), first);
+    }
+
+    @Test
+    @DisplayName("当区间不是第一页时不能转换")
+    void should_throw_when_range_is_not_first_page() {
+        String message = assertThrows(IllegalArgumentException.class,
+                () -> CursorRange.first(Range.create(40, 20))).getMessage();
+        assertEquals("Only the first page of a range can be converted to a cursor range. [offset=40]", message);
+        CursorRange range = CursorRange.create(Cursor.after(new byte[] {7}), 20);
+        assertFalse(range.first());
+        assertThrows(IllegalStateException.class, range::toRange);
+    }
+
+    @Test
+    @DisplayName("当数量限制不为正数时抛出异常")
+    void should_throw_when_limit_is_not_positive() {
+        String message = assertThrows(IllegalArgumentException.class, () -> CursorRange.first(0)).getMessage();
+        assertEquals("The limit of a cursor range must be positive. [limit=0]", message);
+    }
+}
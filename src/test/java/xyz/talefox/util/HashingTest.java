@@ -0,0 +1,34 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("测试 Hashing 工具类")
+class HashingTest {
+    @Test
+    @DisplayName("64位整数的散列码与 Long.hashCode 相同")
+    void should_return_same_hash_code_as_long() {
+        assertEquals(Long.hashCode(-123456789012345L), Hashing.hash(-123456789012345L));
+    }
+
+    @Test
+    @DisplayName("组合32位整数的结果与 Arrays.hashCode(int[]) 相同")
+    void should_combine_ints_as_arrays() {
+        assertEquals(Arrays.hashCode(new int[] { 1, -2 }), Hashing.combine(1, -2));
+        assertEquals(Arrays.hashCode(new int[] { 1, -2, 3 }), Hashing.combine(1, -2, 3));
+        assertEquals(Arrays.hashCode(new int[] { 1, -2, 3, Integer.MAX_VALUE }),
+                Hashing.combine(1, -2, 3, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("组合64位整数的结果与 Arrays.hashCode(long[]) 相同")
+    void should_combine_longs_as_arrays() {
+        assertEquals(Arrays.hashCode(new long[] { 1L << 40, -2 }), Hashing.combine(1L << 40, -2));
+        assertEquals(Arrays.hashCode(new long[] { 1L << 40, -2, Long.MIN_VALUE }),
+                Hashing.combine(1L << 40, -2, Long.MIN_VALUE));
+    }
+}
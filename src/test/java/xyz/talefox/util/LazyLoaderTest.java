@@ -3,10 +3,16 @@ package xyz.talefox.util;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @DisplayName("测试 LazyLoader 工具类")
@@ -38,4 +44,70 @@ class LazyLoaderTest {
         }
         assertSame(r1.get(), r2.get());
     }
+
+    @Test
+    @DisplayName("加载结果为 null 时只加载一次")
+    void should_cache_null_instance() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyLoader<Object> loader = new LazyLoader<>(() -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        assertNull(loader.get());
+        assertNull(loader.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("默认在加载失败后立即重新加载")
+    void should_retry_immediately_by_default() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyLoader<String> loader = new LazyLoader<>(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return "loaded";
+        });
+        assertThrows(IllegalStateException.class, loader::get);
+        assertEquals("loaded", loader.get());
+    }
+
+    @Test
+    @DisplayName("缓存失败时总是抛出相同的异常")
+    void should_cache_failure() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyLoader<String> loader = new LazyLoader<>(() -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }, LazyLoader.FailurePolicy.cache());
+        IllegalStateException first = assertThrows(IllegalStateException.class, loader::get);
+        assertSame(first, assertThrows(IllegalStateException.class, loader::get));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("按照指数退避的间隔重新加载")
+    void should_retry_after_backoff() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        LazyLoader<String> loader = new LazyLoader<>(() -> {
+            if (loads.incrementAndGet() <= 2) {
+                throw new IllegalStateException("boom");
+            }
+            return "loaded";
+        }, LazyLoader.FailurePolicy.backoff(Duration.ofNanos(10), Duration.ofNanos(15)), now::get);
+        assertThrows(IllegalStateException.class, loader::get);
+        now.addAndGet(9);
+        assertThrows(IllegalStateException.class, loader::get);
+        assertEquals(1, loads.get());
+        now.addAndGet(1);
+        assertThrows(IllegalStateException.class, loader::get);
+        assertEquals(2, loads.get());
+        now.addAndGet(14);
+        assertThrows(IllegalStateException.class, loader::get);
+        assertEquals(2, loads.get());
+        now.addAndGet(1);
+        assertEquals("loaded", loader.get());
+        assertEquals(3, loads.get());
+    }
 }
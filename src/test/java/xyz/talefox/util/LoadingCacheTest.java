@@ -0,0 +1,289 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 LoadingCache 工具类")
+class LoadingCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(Integer key) {
+        this.loads.incrementAndGet();
+        return "value-" + key;
+    }
+
+    @Test
+    @DisplayName("再次获取相同的键时命中缓存")
+    void should_hit_cache_for_same_key() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().build(this::load);
+        assertEquals("value-1", cache.get(1));
+        assertEquals("value-1", cache.get(1));
+        assertEquals("value-1", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+        assertEquals(1, this.loads.get());
+        assertEquals(2, cache.stats().hits());
+        assertEquals(2, cache.stats().misses());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    @DisplayName("条目数量不超过最大数量")
+    void should_bound_size() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().maximumSize(100).build(this::load);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("经常访问的条目不会被一次性访问的条目冲掉")
+    void should_keep_frequent_entries_when_scanning() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().maximumSize(100).build(this::load);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get(i);
+            }
+        }
+        // Between two accesses to a hot key there are 150 distinct keys, which a plain LRU cache could not hold.
+        for (int i = 0; i < 10000; i++) {
+            cache.get(1000 + i * 2);
+            cache.get(1001 + i * 2);
+            cache.get(i % 50);
+        }
+        for (int i = 0; i < 50; i++) {
+            assertNotNull(cache.getIfPresent(i));
+        }
+        assertEquals(50 + 20000, this.loads.get());
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    @DisplayName("总权重不超过最大权重，且不保留超过最大权重的条目")
+    void should_bound_weight() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder()
+                .maximumWeight(10, (key, value) -> value.length()).build(this::load);
+        cache.put(1, "aaaa");
+        cache.put(2, "bbbb");
+        assertEquals(2, cache.size());
+        cache.put(3, "cccc");
+        assertEquals(2, cache.size());
+        cache.put(4, "dddddddddddd");
+        assertNull(cache.getIfPresent(4));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("超过写入后的存活时间时重新加载")
+    void should_reload_after_write_expiration() {
+        AtomicLong now = new AtomicLong();
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder()
+                .expireAfterWrite(Duration.ofSeconds(30)).ticker(now::get).build(this::load);
+        cache.get(1);
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        cache.get(1);
+        assertEquals(1, this.loads.get());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.get(1);
+        assertEquals(2, this.loads.get());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("访问延长访问后的存活时间，清理时移除过期的条目")
+    void should_expire_after_access() {
+        AtomicLong now = new AtomicLong();
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder()
+                .expireAfterAccess(Duration.ofSeconds(10)).ticker(now::get).build(this::load);
+        cache.get(1);
+        cache.get(2);
+        for (int i = 0; i < 3; i++) {
+            now.addAndGet(Duration.ofSeconds(6).toNanos());
+            cache.get(1);
+        }
+        assertEquals(2, cache.size());
+        cache.cleanUp();
+        assertEquals(1, cache.size());
+        assertEquals(2, this.loads.get());
+    }
+
+    @Test
+    @DisplayName("并发获取同一个键时只加载一次，且不阻塞其他键")
+    void should_load_once_for_concurrent_misses() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().build(key -> {
+            if (key == 1) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return this.load(key);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> cache.get(1));
+            started.await();
+            Future<String> second = executor.submit(() -> cache.get(1));
+            assertEquals("value-2", cache.get(2));
+            Thread.sleep(20);
+            release.countDown();
+            assertEquals("value-1", first.get(1, TimeUnit.SECONDS));
+            assertEquals("value-1", second.get(1, TimeUnit.SECONDS));
+            assertEquals(2, this.loads.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("写入或淘汰持有锁时，命中的读取不被阻塞")
+    void should_not_block_hits_behind_writes() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> writer = new AtomicReference<>();
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().maximumSize(2).ticker(() -> {
+            // The ticker is read while storing, so the writer blocks here with the lock of the cache held.
+            if (Thread.currentThread() == writer.get()) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return 0L;
+        }).build(this::load);
+        assertEquals("value-1", cache.get(1));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> written = executor.submit(() -> {
+                writer.set(Thread.currentThread());
+                cache.put(2, "two");
+                cache.put(3, "three");
+            });
+            assertTrue(entered.await(1, TimeUnit.SECONDS));
+            Future<Integer> first = executor.submit(() -> this.hit(cache, 1_000));
+            Future<Integer> second = executor.submit(() -> this.hit(cache, 1_000));
+            assertEquals(1_000, first.get(1, TimeUnit.SECONDS));
+            assertEquals(1_000, second.get(1, TimeUnit.SECONDS));
+            release.countDown();
+            written.get(1, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, cache.size());
+        assertEquals(2_000, cache.stats().hits());
+    }
+
+    private int hit(LoadingCache<Integer, String> cache, int times) {
+        int hits = 0;
+        for (int i = 0; i < times; i++) {
+            if ("value-1".equals(cache.get(1))) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Test
+    @DisplayName("加载期间被写入或失效时不缓存加载的结果")
+    void should_discard_load_when_invalidated() {
+        AtomicReference<LoadingCache<Integer, String>> self = new AtomicReference<>();
+        self.set(LoadingCache.<Integer, String>builder().build(key -> {
+            if (key == 1) {
+                self.get().invalidate(key);
+            } else {
+                self.get().put(key, "put");
+            }
+            return this.load(key);
+        }));
+        LoadingCache<Integer, String> cache = self.get();
+        assertEquals("value-1", cache.get(1));
+        assertNull(cache.getIfPresent(1));
+        assertEquals("value-2", cache.get(2));
+        assertEquals("put", cache.getIfPresent(2));
+    }
+
+    @Test
+    @DisplayName("加载过程中递归获取同一个键时抛出异常")
+    void should_throw_exception_when_loading_recursively() {
+        AtomicReference<LoadingCache<Integer, String>> self = new AtomicReference<>();
+        self.set(LoadingCache.<Integer, String>builder().build(key -> self.get().get(key)));
+        String message = assertThrows(IllegalStateException.class, () -> self.get().get(1)).getMessage();
+        assertEquals("The loading cache is invoked recursively while loading the key. [key=1]", message);
+        assertEquals(0, self.get().size());
+    }
+
+    @Test
+    @DisplayName("加载结果为 null 时不缓存")
+    void should_not_cache_null() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().build(key -> {
+            this.loads.incrementAndGet();
+            return null;
+        });
+        assertNull(cache.get(1));
+        assertNull(cache.get(1));
+        assertEquals(2, this.loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("加载失败时记录失败次数并抛出原始异常")
+    void should_record_failure() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().build(key -> {
+            if (this.loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            return "loaded";
+        });
+        assertEquals("boom", assertThrows(IllegalStateException.class, () -> cache.get(1)).getMessage());
+        assertEquals(1, cache.stats().failures());
+        assertEquals(0, cache.size());
+        assertEquals("loaded", cache.get(1));
+        assertEquals(2, cache.stats().loads());
+        assertTrue(cache.stats().averageLoadTime() >= 0);
+    }
+
+    @Test
+    @DisplayName("失效后重新加载")
+    void should_reload_after_invalidation() {
+        LoadingCache<Integer, String> cache = LoadingCache.<Integer, String>builder().build(this::load);
+        cache.get(1);
+        cache.get(2);
+        cache.invalidate(1);
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        cache.get(1);
+        assertEquals(3, this.loads.get());
+    }
+
+    @Test
+    @DisplayName("最大数量不是正数时抛出异常")
+    void should_throw_exception_when_maximum_size_is_not_positive() {
+        LoadingCache.Builder<Integer, String> builder = LoadingCache.builder();
+        String message = assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0)).getMessage();
+        assertEquals("The maximum size of loading cache must be positive. [value=0]", message);
+    }
+}
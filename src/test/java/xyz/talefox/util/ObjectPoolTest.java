@@ -0,0 +1,138 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 ObjectPool 工具类")
+class ObjectPoolTest {
+    @Test
+    @DisplayName("归还的对象被重置，并在下次借出时复用")
+    void should_reuse_released_object_after_reset() {
+        ObjectPool<StringBuilder> pool = ObjectPool.builder(StringBuilder::new)
+                .reset(builder -> builder.setLength(0))
+                .capacity(1)
+                .build();
+        StringBuilder first = pool.borrow();
+        first.append("hello");
+        pool.release(first);
+        assertEquals(1, pool.idle());
+        StringBuilder second = pool.borrow();
+        assertSame(first, second);
+        assertEquals(0, second.length());
+    }
+
+    @Test
+    @DisplayName("当没有空闲槽位时，丢弃归还的对象")
+    void should_discard_object_when_slots_are_full() {
+        ObjectPool<Object> pool = ObjectPool.builder(Object::new).capacity(1).build();
+        Object o1 = pool.borrow();
+        Object o2 = pool.borrow();
+        assertNotSame(o1, o2);
+        pool.release(o1);
+        pool.release(o2);
+        assertEquals(1, pool.idle());
+    }
+
+    @Test
+    @DisplayName("当借出的对象达到上限时，等待超时后返回 null")
+    void should_return_null_when_maximum_reached() {
+        ObjectPool<Object> pool = ObjectPool.builder(Object::new).maximum(1).build();
+        Object borrowed = pool.borrow();
+        assertNull(pool.borrow(10, TimeUnit.MILLISECONDS));
+        pool.release(borrowed);
+        assertSame(borrowed, pool.borrow(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("调试模式下重复归还或归还并非借出的对象时抛出异常，且不突破借出上限")
+    void should_throw_exception_when_released_twice() {
+        ObjectPool<Object> pool = ObjectPool.builder(Object::new).maximum(1).debug(true).build();
+        Object borrowed = pool.borrow();
+        pool.release(borrowed);
+        assertThrows(IllegalArgumentException.class, () -> pool.release(borrowed));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(new Object()));
+        assertEquals(1, pool.idle());
+        assertSame(borrowed, pool.borrow(10, TimeUnit.MILLISECONDS));
+        assertNull(pool.borrow(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("关闭租约时归还对象，且关闭后不可再获取对象")
+    void should_release_object_when_lease_closed() {
+        ObjectPool<Object> pool = ObjectPool.builder(Object::new).maximum(1).debug(true).build();
+        ObjectPool.Lease<Object> lease = pool.lease();
+        Object object = lease.get();
+        lease.close();
+        lease.close();
+        assertThrows(IllegalStateException.class, lease::get);
+        assertSame(object, pool.borrow(10, TimeUnit.MILLISECONDS));
+        assertEquals(0, pool.leaks());
+    }
+
+    @Test
+    @DisplayName("调试模式下检测未关闭的租约，并释放其占用的名额")
+    void should_detect_leaked_lease_in_debug_mode() throws InterruptedException {
+        AtomicInteger notified = new AtomicInteger();
+        ObjectPool<Object> pool = ObjectPool.builder(Object::new)
+                .maximum(1)
+                .debug(true)
+                .leakListener(site -> notified.incrementAndGet())
+                .build();
+        leak(pool);
+        for (int i = 0; i < 100 && pool.leaks() == 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(1, pool.leaks());
+        assertEquals(1, notified.get());
+        pool.release(pool.borrow(1, TimeUnit.SECONDS));
+    }
+
+    private static void leak(ObjectPool<Object> pool) {
+        pool.lease();
+    }
+
+    @Test
+    @DisplayName("大量线程并发借出时，不超过借出上限")
+    void should_not_exceed_maximum_under_contention() throws Exception {
+        int maximum = 4;
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ObjectPool<Object> pool = ObjectPool.builder(Object::new).capacity(maximum).maximum(maximum).build();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                futures.add(executor.submit(() -> {
+                    Object object = pool.borrow();
+                    int current = outstanding.incrementAndGet();
+                    peak.accumulateAndGet(current, Math::max);
+                    outstanding.decrementAndGet();
+                    pool.release(object);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(peak.get() <= maximum);
+        assertTrue(pool.idle() <= maximum);
+    }
+}
@@ -0,0 +1,176 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("测试 PageCache 工具类")
+class PageCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger counts = new AtomicInteger();
+
+    private Function<Range, RangedResultSet<Long>> loader(long total) {
+        return range -> {
+            this.loads.incrementAndGet();
+            List<Long> results = Collections.singletonList(range.offset());
+            return RangedResultSet.create(results, RangeResult.lazy(range, () -> {
+                this.counts.incrementAndGet();
+                return total;
+            }));
+        };
+    }
+
+    @Test
+    @DisplayName("再次获取相同的页时命中缓存")
+    void should_hit_cache_for_same_page() {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder().build();
+        RangedResultSet<Long> first = cache.get("users", Range.create(0, 10), this.loader(100));
+        RangedResultSet<Long> second = cache.get("users", Range.create(0, 10), this.loader(100));
+        assertSame(first, second);
+        assertEquals(1, this.loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    @DisplayName("同一查询的数据总量只计算一次")
+    void should_reuse_total_across_pages() {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder().build();
+        assertEquals(100, cache.get("users", Range.create(0, 10), this.loader(100)).range().total());
+        assertEquals(100, cache.get("users", Range.create(10, 10), this.loader(100)).range().total());
+        assertEquals(100, cache.get("users", Range.create(20, 10), this.loader(100)).range().total());
+        assertEquals(1, this.counts.get());
+        assertEquals(3, this.loads.get());
+    }
+
+    @Test
+    @DisplayName("超过最大数量时淘汰最近最少使用的页")
+    void should_evict_least_recently_used_page() {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder().maximumSize(2).build();
+        cache.get("users", Range.create(0, 10), this.loader(100));
+        cache.get("users", Range.create(10, 10), this.loader(100));
+        cache.get("users", Range.create(0, 10), this.loader(100));
+        cache.get("users", Range.create(20, 10), this.loader(100));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().evictions());
+        cache.get("users", Range.create(0, 10), this.loader(100));
+        assertEquals(3, this.loads.get());
+        cache.get("users", Range.create(10, 10), this.loader(100));
+        assertEquals(4, this.loads.get());
+    }
+
+    @Test
+    @DisplayName("超过存活时间的页重新加载")
+    void should_reload_expired_page() {
+        AtomicLong now = new AtomicLong();
+        PageCache<String, Long> cache = PageCache.<String, Long>builder()
+                .expireAfterWrite(Duration.ofSeconds(30)).ticker(now::get).build();
+        cache.get("users", Range.create(0, 10), this.loader(100));
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        cache.get("users", Range.create(0, 10), this.loader(100));
+        assertEquals(1, this.loads.get());
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.get("users", Range.create(0, 10), this.loader(100));
+        assertEquals(2, this.loads.get());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("按查询键或标签使页失效")
+    void should_invalidate_by_query_or_tag() {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder()
+                .tagger(query -> Arrays.asList(query.split(":")[0])).build();
+        cache.get("users:active", Range.create(0, 10), this.loader(100));
+        cache.get("users:all", Range.create(0, 10), this.loader(100));
+        cache.get("orders:all", Range.create(0, 10), this.loader(100));
+        cache.invalidate("orders:all");
+        assertEquals(2, cache.size());
+        cache.invalidateTag("users");
+        assertEquals(0, cache.size());
+        assertEquals(100, cache.get("users:all", Range.create(10, 10), this.loader(100)).range().total());
+        assertEquals(1, this.counts.get());
+    }
+
+    @Test
+    @DisplayName("加载期间只有其查询被失效时才丢弃加载的结果")
+    void should_discard_only_loads_of_invalidated_query() {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder()
+                .tagger(query -> Arrays.asList(query.split(":")[0])).build();
+        Function<Range, RangedResultSet<Long>> loader = this.loader(100);
+        cache.get("orders:all", Range.create(0, 10), range -> {
+            cache.invalidate("users:all");
+            cache.invalidateTag("users");
+            return loader.apply(range);
+        });
+        assertEquals(1, cache.size());
+        cache.get("users:all", Range.create(0, 10), range -> {
+            cache.invalidate("users:all");
+            return loader.apply(range);
+        });
+        cache.get("users:active", Range.create(0, 10), range -> {
+            cache.invalidateTag("users");
+            return loader.apply(range);
+        });
+        assertEquals(1, cache.size());
+        cache.get("orders:all", Range.create(0, 10), loader);
+        assertEquals(3, this.loads.get());
+    }
+
+    @Test
+    @DisplayName("并发获取同一个页时只加载一次")
+    void should_load_once_for_concurrent_misses() throws Exception {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder().build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Range, RangedResultSet<Long>> slow = range -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return this.loader(100).apply(range);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<RangedResultSet<Long>> first = executor.submit(() -> cache.get("users", Range.create(0, 10), slow));
+            started.await();
+            Future<RangedResultSet<Long>> second = executor.submit(() -> cache.get("users", Range.create(0, 10), slow));
+            Thread.sleep(20);
+            release.countDown();
+            assertSame(first.get(), second.get());
+            assertEquals(1, this.loads.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("加载失败时记录失败次数并抛出原始异常")
+    void should_record_failure() {
+        PageCache<String, Long> cache = PageCache.<String, Long>builder().build();
+        Function<Range, RangedResultSet<Long>> failing = range -> {
+            throw new IllegalStateException("boom");
+        };
+        assertEquals("boom", assertThrows(IllegalStateException.class,
+                () -> cache.get("users", Range.create(0, 10), failing)).getMessage());
+        assertEquals(1, cache.stats().failures());
+        assertEquals(0, cache.size());
+    }
+}
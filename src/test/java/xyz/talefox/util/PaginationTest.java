@@ -0,0 +1,405 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 Pagination 工具类")
+class PaginationTest {
+    private static Function<Range, RangedResultSet<Long>> source(long total, List<Range> requested) {
+        return range -> {
+            synchronized (requested) {
+                requested.add(range);
+            }
+            List<Long> results = LongStream.range(range.offset(), Math.min(total, range.offset() + range.limit()))
+                    .boxed().collect(Collectors.toList());
+            return RangedResultSet.create(results, range, total);
+        };
+    }
+
+    @Nested
+    @DisplayName("测试 iterator 方法")
+    class IteratorTest {
+        @Test
+        @DisplayName("按顺序返回所有页中的数据记录")
+        void should_iterate_all_records_in_order() {
+            List<Range> requested = new ArrayList<>();
+            PageIterator<Long> iterator = Pagination.iterator(source(95, requested), 10, 2, Runnable::run);
+            long expected = 0;
+            while (iterator.hasNext()) {
+                assertEquals(expected++, iterator.next());
+            }
+            assertEquals(95, expected);
+            assertEquals(10, requested.size());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("预取的页的数量不超过限制")
+        void should_bound_prefetched_pages() {
+            List<Range> requested = new ArrayList<>();
+            PageIterator<Long> iterator = Pagination.iterator(source(1000, requested), 10, 3, Runnable::run);
+            assertEquals(0L, iterator.next());
+            assertEquals(4, requested.size());
+            assertEquals(3, iterator.buffered());
+            for (int i = 1; i < 10; i++) {
+                iterator.next();
+            }
+            assertEquals(4, requested.size());
+            iterator.next();
+            assertEquals(5, requested.size());
+            assertEquals(Range.create(40, 10), requested.get(4));
+        }
+
+        @Test
+        @DisplayName("获取到空页时结束迭代")
+        void should_stop_at_empty_page() {
+            Function<Range, RangedResultSet<Long>> shrinking = range -> range.offset() < 20
+                    ? source(100, new ArrayList<>()).apply(range)
+                    : RangedResultSet.create(new ArrayList<>(), range, 20);
+            List<Long> records = new ArrayList<>();
+            Pagination.iterator(shrinking, 10, 4, Runnable::run).forEachRemaining(records::add);
+            assertEquals(20, records.size());
+        }
+
+        @Test
+        @DisplayName("关闭后不再获取尚未开始的页")
+        void should_skip_pages_after_close() {
+            List<Range> requested = new ArrayList<>();
+            List<Runnable> queued = new ArrayList<>();
+            AtomicBoolean first = new AtomicBoolean(true);
+            Executor executor = task -> {
+                if (first.getAndSet(false)) {
+                    task.run();
+                } else {
+                    queued.add(task);
+                }
+            };
+            PageIterator<Long> iterator = Pagination.iterator(source(1000, requested), 10, 3, executor);
+            assertEquals(0L, iterator.next());
+            assertEquals(3, queued.size());
+            iterator.close();
+            assertFalse(iterator.hasNext());
+            queued.forEach(Runnable::run);
+            assertEquals(1, requested.size());
+            assertEquals(0, iterator.buffered());
+        }
+
+        @Test
+        @DisplayName("数据总量不是准确值时逐页获取直到不满的页")
+        void should_follow_full_pages_when_total_is_inexact() {
+            List<Range> requested = new ArrayList<>();
+            Function<Range, RangedResultSet<Long>> estimated = range -> {
+                List<Long> results = source(45, requested).apply(range).results();
+                return RangedResultSet.create(results, RangeResult.estimated(range, 15));
+            };
+            List<Long> records = new ArrayList<>();
+            Pagination.iterator(estimated, 10, 3, Runnable::run).forEachRemaining(records::add);
+            assertEquals(LongStream.range(0, 45).boxed().collect(Collectors.toList()), records);
+            assertEquals(5, requested.size());
+        }
+
+        @Test
+        @DisplayName("获取数据失败时抛出原始异常")
+        void should_rethrow_failure() {
+            Function<Range, RangedResultSet<Long>> failing = range -> {
+                if (range.offset() >= 20) {
+                    throw new IllegalStateException("boom");
+                }
+                return source(100, new ArrayList<>()).apply(range);
+            };
+            PageIterator<Long> iterator = Pagination.iterator(failing, 10, 1, Runnable::run);
+            for (int i = 0; i < 20; i++) {
+                iterator.next();
+            }
+            assertEquals("boom", assertThrows(IllegalStateException.class, iterator::hasNext).getMessage());
+            assertFalse(iterator.hasNext());
+        }
+
+        @Test
+        @DisplayName("执行程序拒绝获取时抛出异常，且不会永久等待")
+        void should_fail_when_executor_rejects() {
+            Executor rejecting = task -> {
+                throw new RejectedExecutionException("full");
+            };
+            PageIterator<Long> iterator = Pagination.iterator(source(100, new ArrayList<>()), 10, 2, rejecting);
+            assertEquals("full", assertThrows(RejectedExecutionException.class, iterator::hasNext).getMessage());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 stream 方法")
+    class StreamTest {
+        @Test
+        @DisplayName("在线程池中预取时返回所有数据记录")
+        void should_stream_all_records_with_executor() {
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try (Stream<Long> stream = Pagination.stream(source(1003, new ArrayList<>()), 25, 3, executor)) {
+                assertEquals(LongStream.range(0, 1003).boxed().collect(Collectors.toList()),
+                        stream.collect(Collectors.toList()));
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("关闭流时取消预取")
+        void should_close_iterator_with_stream() {
+            List<Range> requested = new ArrayList<>();
+            List<Long> records;
+            try (Stream<Long> stream = Pagination.stream(source(1000, requested), 10)) {
+                records = stream.limit(15).collect(Collectors.toList());
+            }
+            assertEquals(15, records.size());
+            assertTrue(requested.size() <= 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 fetchAll 方法")
+    class FetchAllTest {
+        @Test
+        @DisplayName("按照原始顺序合并所有页")
+        void should_merge_pages_in_order() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                Function<Range, RangedResultSet<Long>> shuffled = range -> {
+                    try {
+                        Thread.sleep((range.offset() * 7) % 5);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return source(997, new ArrayList<>()).apply(range);
+                };
+                RangedResultSet<Long> result = Pagination.fetchAll(shuffled, 20, 4, executor).get();
+                assertEquals(LongStream.range(0, 997).boxed().collect(Collectors.toList()), result.results());
+                assertEquals(RangeResult.create(0, 997, 997), result.range());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("同时获取的区间数量不超过限制")
+        void should_bound_concurrency() throws Exception {
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            Function<Range, RangedResultSet<Long>> tracked = range -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return source(500, new ArrayList<>()).apply(range);
+            };
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                assertEquals(500, Pagination.fetchAll(tracked, 10, 3, executor).get().results().size());
+                assertTrue(peak.get() <= 3);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("只有一页时直接返回")
+        void should_return_single_page() {
+            RangedResultSet<Long> result = Pagination.fetchAll(source(3, new ArrayList<>()), 10, 3, Runnable::run).join();
+            assertEquals(3, result.results().size());
+        }
+
+        @Test
+        @DisplayName("数据总量不是准确值时逐页获取并合并")
+        void should_follow_full_pages_when_total_is_inexact() {
+            Function<Range, RangedResultSet<Long>> probed = range -> {
+                List<Long> results = source(30, new ArrayList<>()).apply(range).results();
+                boolean more = range.offset() + range.limit() < 30;
+                return RangedResultSet.create(results, RangeResult.withoutTotal(range, results.size(), more));
+            };
+            RangedResultSet<Long> result = Pagination.fetchAll(probed, 10, 3, Runnable::run).join();
+            assertEquals(LongStream.range(0, 30).boxed().collect(Collectors.toList()), result.results());
+            assertEquals(RangeResult.create(0, 30, 30), result.range());
+        }
+
+        @Test
+        @DisplayName("任一区间失败时以该异常完成，并不再开始新的区间")
+        void should_fail_when_any_chunk_fails() {
+            List<Range> requested = new ArrayList<>();
+            Function<Range, RangedResultSet<Long>> failing = range -> {
+                if (range.offset() == 30) {
+                    throw new IllegalStateException("boom");
+                }
+                return source(1000, requested).apply(range);
+            };
+            CompletableFuture<RangedResultSet<Long>> future = Pagination.fetchAll(failing, 10, 1, Runnable::run);
+            ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+            assertEquals("boom", ex.getCause().getMessage());
+            assertEquals(3, requested.size());
+        }
+
+        @Test
+        @DisplayName("取消后不再开始新的区间")
+        void should_stop_when_cancelled() {
+            List<Range> requested = new ArrayList<>();
+            List<Runnable> queued = new ArrayList<>();
+            CompletableFuture<RangedResultSet<Long>> future =
+                    Pagination.fetchAll(source(1000, requested), 10, 2, queued::add);
+            queued.remove(0).run();
+            assertEquals(2, queued.size());
+            future.cancel(false);
+            queued.forEach(Runnable::run);
+            assertEquals(1, requested.size());
+            assertTrue(future.isCancelled());
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 page 方法")
+    class PageTest {
+        @Test
+        @DisplayName("返回与完整排序后截取相同的数据记录")
+        void should_return_same_records_as_full_sort() {
+            Random random = new Random(41);
+            List<Integer> source = IntStream.range(0, 5000).map(i -> random.nextInt(1000))
+                    .boxed().collect(Collectors.toList());
+            RangedResultSet<Integer> page = Pagination.page(source, Comparator.naturalOrder(), Range.create(120, 30));
+            List<Integer> sorted = source.stream().sorted().collect(Collectors.toList());
+            assertEquals(sorted.subList(120, 150), page.results());
+            assertEquals(RangeResult.create(120, 30, 5000), page.range());
+            assertThrows(UnsupportedOperationException.class, () -> page.results().set(0, 1));
+        }
+
+        @Test
+        @DisplayName("比较结果相同的数据记录保持原始顺序")
+        void should_keep_original_order_of_equal_records() {
+            List<Map.Entry<Integer, Integer>> source = IntStream.range(0, 100_000)
+                    .mapToObj(i -> new AbstractMap.SimpleImmutableEntry<>(i % 7, i))
+                    .collect(Collectors.toList());
+            Comparator<Map.Entry<Integer, Integer>> comparator = Map.Entry.comparingByKey();
+            RangedResultSet<Map.Entry<Integer, Integer>> page = Pagination.page(source, comparator,
+                    Range.create(14_280, 10));
+            List<Map.Entry<Integer, Integer>> sorted = source.stream().sorted(comparator).collect(Collectors.toList());
+            assertEquals(sorted.subList(14_280, 14_290), page.results());
+            assertEquals(100_000, page.range().total());
+        }
+
+        @Test
+        @DisplayName("在并行流中选择时返回相同的结果")
+        void should_select_in_parallel_stream() {
+            Random random = new Random(7);
+            List<Long> source = LongStream.range(0, 50_000).map(i -> random.nextInt(5000))
+                    .boxed().collect(Collectors.toList());
+            RangedResultSet<Long> page = Pagination.page(source.parallelStream(), Comparator.reverseOrder(),
+                    Range.create(0, 25));
+            assertEquals(source.stream().sorted(Comparator.reverseOrder()).limit(25).collect(Collectors.toList()),
+                    page.results());
+        }
+
+        @Test
+        @DisplayName("区间超出数据记录的数量时返回空的结果")
+        void should_return_empty_when_range_is_beyond_records() {
+            RangedResultSet<Integer> page = Pagination.page(Stream.of(3, 1, 2), Comparator.naturalOrder(),
+                    Range.create(5, 10));
+            assertTrue(page.results().isEmpty());
+            assertEquals(3, page.range().total());
+            assertEquals(Arrays.asList(2, 3),
+                    Pagination.page(Stream.of(3, 1, 2), Comparator.naturalOrder(), Range.create(1, 10)).results());
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 scatter 方法")
+    class ScatterTest {
+        private final List<Range> requested = new ArrayList<>();
+
+        private List<Function<Range, RangedResultSet<Long>>> shards(int count, long size) {
+            List<Function<Range, RangedResultSet<Long>>> shards = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                long shard = i;
+                shards.add(range -> {
+                    synchronized (this.requested) {
+                        this.requested.add(range);
+                    }
+                    List<Long> results = LongStream.range(range.offset(), Math.min(size, range.offset() + range.limit()))
+                            .map(index -> index * count + shard).boxed().collect(Collectors.toList());
+                    return RangedResultSet.create(results, range, size);
+                });
+            }
+            return shards;
+        }
+
+        @Test
+        @DisplayName("按照全局顺序合并各分片中的区间")
+        void should_merge_shards_in_global_order() {
+            RangedResultSet<Long> page = Pagination.scatter(this.shards(3, 100), Comparator.<Long>naturalOrder(),
+                    Range.create(30, 10), Runnable::run).join();
+            assertEquals(LongStream.range(30, 40).boxed().collect(Collectors.toList()), page.results());
+            assertEquals(RangeResult.create(30, 10, 300), page.range());
+            assertTrue(page.next() != null);
+        }
+
+        @Test
+        @DisplayName("使用游标获取后续的页时每个分片只获取所需的数据")
+        void should_continue_from_shard_positions() {
+            List<Function<Range, RangedResultSet<Long>>> shards = this.shards(3, 20);
+            List<Long> records = new ArrayList<>();
+            CursorRange range = CursorRange.first(7);
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                while (range != null) {
+                    RangedResultSet<Long> page = Pagination.scatter(shards, Comparator.<Long>naturalOrder(), range,
+                            executor).join();
+                    records.addAll(page.results());
+                    assertEquals(60, page.range().total());
+                    range = page.next() == null ? null : CursorRange.create(page.next(), 7);
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(LongStream.range(0, 60).boxed().collect(Collectors.toList()), records);
+            assertTrue(this.requested.stream().allMatch(requested -> requested.limit() == 7));
+            assertEquals(27, this.requested.size());
+        }
+
+        @Test
+        @DisplayName("游标与分片的数量不一致时抛出异常")
+        void should_throw_exception_when_cursor_does_not_match_shards() {
+            Cursor cursor = Pagination.scatter(this.shards(3, 100), Comparator.<Long>naturalOrder(),
+                    CursorRange.first(5), Runnable::run).join().next();
+            String message = assertThrows(IllegalArgumentException.class, () -> Pagination.scatter(
+                    this.shards(2, 100), Comparator.<Long>naturalOrder(), CursorRange.create(cursor, 5), Runnable::run))
+                    .getMessage();
+            assertTrue(message.startsWith("The cursor does not match the shards."));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 RangePartitioner 工具类")
+class RangePartitionerTest {
+    @Test
+    @DisplayName("按照固定大小划分区间")
+    void should_split_span_into_ranges() {
+        assertEquals(Arrays.asList(Range.create(5, 10), Range.create(15, 10), Range.create(25, 3)),
+                RangePartitioner.split(5, 28, 10));
+        assertTrue(RangePartitioner.split(7, 7, 10).isEmpty());
+        String message = assertThrows(IllegalArgumentException.class,
+                () -> RangePartitioner.split(10, 5, 10)).getMessage();
+        assertEquals("The span to partition is not valid. [start=10, end=5]", message);
+    }
+
+    @Test
+    @DisplayName("并发处理时每条数据恰好处理一次，且并发度不超过限制")
+    void should_process_every_record_once_with_bounded_concurrency() {
+        AtomicLongArray visits = new AtomicLongArray(10_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Long> checkpoints = Collections.synchronizedList(new ArrayList<>());
+        RangePartitioner partitioner = RangePartitioner.builder().parallelism(3).chunkSize(97)
+                .checkpoint(checkpoints::add).build();
+        partitioner.run(0, 10_000, range -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            for (long i = range.offset(); i < range.offset() + range.limit(); i++) {
+                visits.incrementAndGet((int) i);
+            }
+            running.decrementAndGet();
+        }).join();
+        for (int i = 0; i < visits.length(); i++) {
+            assertEquals(1, visits.get(i));
+        }
+        assertTrue(peak.get() <= 3);
+        for (int i = 1; i < checkpoints.size(); i++) {
+            assertTrue(checkpoints.get(i - 1) < checkpoints.get(i));
+        }
+        assertEquals(10_000L, checkpoints.get(checkpoints.size() - 1));
+    }
+
+    @Test
+    @DisplayName("检查点监听程序阻塞时，其他工作链继续划分并处理区间")
+    void should_not_block_partitioning_while_reporting_checkpoint() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch processed = new CountDownLatch(1);
+        List<Long> checkpoints = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean unblocked = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RangePartitioner partitioner = RangePartitioner.builder().parallelism(2).chunkSize(10).executor(executor)
+                    .checkpoint(watermark -> {
+                        if (watermark == 10) {
+                            entered.countDown();
+                            unblocked.set(await(processed));
+                        }
+                        checkpoints.add(watermark);
+                    }).build();
+            partitioner.run(0, 30, range -> {
+                if (range.offset() == 10) {
+                    await(entered);
+                } else if (range.offset() == 20) {
+                    processed.countDown();
+                }
+            }).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(unblocked.get());
+        assertEquals(10L, checkpoints.get(0));
+        assertEquals(30L, checkpoints.get(checkpoints.size() - 1));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("在调用方线程中执行时，大量区间不会使调用栈溢出")
+    void should_not_overflow_stack_with_inline_executor() {
+        AtomicLong processed = new AtomicLong();
+        List<Long> checkpoints = new ArrayList<>();
+        RangePartitioner partitioner = RangePartitioner.builder().parallelism(2).executor(Runnable::run)
+                .chunkSize(1).chunkSizeBounds(1, 1).targetLatency(Duration.ofSeconds(Long.MAX_VALUE))
+                .checkpoint(checkpoints::add).build();
+        partitioner.run(0, 200_000, range -> processed.addAndGet(range.limit())).join();
+        assertEquals(200_000, processed.get());
+        assertEquals(200_000, checkpoints.size());
+        assertEquals(200_000L, checkpoints.get(checkpoints.size() - 1));
+    }
+
+    @Test
+    @DisplayName("根据目标耗时调整区间大小")
+    void should_adapt_chunk_size_to_target_latency() {
+        AtomicLong now = new AtomicLong();
+        List<Integer> sizes = new ArrayList<>();
+        RangePartitioner partitioner = RangePartitioner.builder().parallelism(1).executor(Runnable::run)
+                .chunkSize(10).chunkSizeBounds(1, 80).targetLatency(Duration.ofNanos(100)).ticker(now::get).build();
+        partitioner.run(0, 1000, range -> {
+            sizes.add(range.limit());
+            now.addAndGet(range.limit());
+        }).join();
+        assertEquals(Arrays.asList(10, 55, 77, 80), sizes.subList(0, 4));
+        assertEquals(80, sizes.get(sizes.size() - 2));
+    }
+
+    @Test
+    @DisplayName("报告每个区间的处理进度")
+    void should_report_progress_of_each_range() {
+        List<Range> reported = new ArrayList<>();
+        RangePartitioner partitioner = RangePartitioner.builder().parallelism(2).executor(Runnable::run)
+                .chunkSize(4).progress((range, elapsed) -> reported.add(range)).build();
+        partitioner.run(0, 10, range -> {}).join();
+        assertEquals(RangePartitioner.split(0, 10, 4), reported);
+    }
+
+    @Test
+    @DisplayName("失败后从最后一个检查点继续处理")
+    void should_resume_from_last_checkpoint_after_failure() {
+        AtomicLong checkpoint = new AtomicLong();
+        List<Range> processed = new ArrayList<>();
+        AtomicBoolean broken = new AtomicBoolean(true);
+        Consumer<Range> worker = range -> {
+            if (range.offset() == 30 && broken.getAndSet(false)) {
+                throw new IllegalStateException("boom");
+            }
+            processed.add(range);
+        };
+        RangePartitioner partitioner = RangePartitioner.builder().parallelism(1).executor(Runnable::run)
+                .chunkSize(10).checkpoint(checkpoint::set).build();
+        CompletableFuture<Void> failed = partitioner.run(0, 100, worker);
+        ExecutionException ex = assertThrows(ExecutionException.class, failed::get);
+        assertEquals("boom", ex.getCause().getMessage());
+        assertEquals(30, checkpoint.get());
+        partitioner.run(checkpoint.get(), 100, worker).join();
+        assertEquals(RangePartitioner.split(0, 100, 10), processed);
+        assertEquals(100, checkpoint.get());
+    }
+}
@@ -3,9 +3,14 @@ package xyz.talefox.util;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -77,4 +82,95 @@ class RangeResultTest {
         String text = range.toString();
         assertEquals("[offset=0, limit=1, total=100]", text);
     }
+
+    @Test
+    @DisplayName("准确的数据总量可以判断是否存在更多数据")
+    void should_tell_more_from_exact_total() {
+        assertTrue(RangeResult.create(0, 10, 11).hasMore());
+        assertFalse(RangeResult.create(0, 10, 10).hasMore());
+        assertTrue(RangeResult.create(0, 10, 10).exact());
+    }
+
+    @Test
+    @DisplayName("延迟计算的数据总量只在首次访问时计算一次")
+    void should_count_lazy_total_once_on_demand() {
+        AtomicInteger counted = new AtomicInteger();
+        RangeResult result = RangeResult.lazy(Range.create(20, 10), () -> {
+            counted.incrementAndGet();
+            return 42;
+        });
+        assertEquals("[offset=20, limit=10, total=?]", result.toString());
+        assertEquals(0, counted.get());
+        assertEquals(42, result.total());
+        assertEquals(42, result.total());
+        assertTrue(result.hasMore());
+        assertTrue(result.exact());
+        assertEquals(1, counted.get());
+        assertEquals("[offset=20, limit=10, total=42]", result.toString());
+    }
+
+    @Test
+    @DisplayName("延迟计算的结果只与自身相等，且比较时不触发计算")
+    void should_compare_lazy_results_by_identity() {
+        AtomicInteger counted = new AtomicInteger();
+        LongSupplier counter = () -> {
+            counted.incrementAndGet();
+            return 42;
+        };
+        RangeResult first = RangeResult.lazy(Range.create(0, 10), counter);
+        RangeResult second = RangeResult.lazy(Range.create(0, 10), counter);
+        RangeResult exact = RangeResult.create(Range.create(0, 10), 42);
+        assertEquals(first, first);
+        assertNotEquals(first, second);
+        assertNotEquals(first, exact);
+        assertNotEquals(exact, first);
+        int hash = first.hashCode();
+        assertEquals(0, counted.get());
+        first.total();
+        second.total();
+        assertEquals(first, first);
+        assertNotEquals(first, second);
+        assertNotEquals(first, exact);
+        assertEquals(hash, first.hashCode());
+        assertEquals(2, counted.get());
+    }
+
+    @Test
+    @DisplayName("计算得到负数的数据总量时抛出异常")
+    void should_throw_exception_when_lazy_total_is_negative() {
+        RangeResult result = RangeResult.lazy(Range.create(0, 10), () -> -5);
+        String message = assertThrows(IllegalStateException.class, result::total).getMessage();
+        assertEquals("The counted total of a range result cannot be negative. [total=-5]", message);
+    }
+
+    @Test
+    @DisplayName("估算的数据总量不是准确值")
+    void should_mark_estimated_total_as_inexact() {
+        RangeResult result = RangeResult.estimated(Range.create(0, 10), 1000);
+        assertFalse(result.exact());
+        assertEquals(1000, result.total());
+        assertNotEquals(RangeResult.create(0, 10, 1000), result);
+        assertEquals("[offset=0, limit=10, total=1000, exact=false]", result.toString());
+    }
+
+    @Test
+    @DisplayName("仅知道是否存在更多数据时返回数据总量的下限")
+    void should_return_lower_bound_when_only_more_is_known() {
+        RangeResult more = RangeResult.withoutTotal(Range.create(30, 10), 10, true);
+        assertTrue(more.hasMore());
+        assertFalse(more.exact());
+        assertEquals(41, more.total());
+        RangeResult last = RangeResult.withoutTotal(Range.create(30, 10), 4, false);
+        assertFalse(last.hasMore());
+        assertTrue(last.exact());
+        assertEquals(RangeResult.create(30, 10, 34), last);
+    }
+
+    @Test
+    @DisplayName("存在更多数据但区间不满时抛出异常")
+    void should_throw_exception_when_more_with_partial_page() {
+        String message = assertThrows(IllegalArgumentException.class,
+                () -> RangeResult.withoutTotal(Range.create(0, 10), 4, true)).getMessage();
+        assertEquals("The count of a range result is out of range. [count=4, limit=10, more=true]", message);
+    }
 }
@@ -7,6 +7,7 @@ import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -98,4 +99,26 @@ class RangedResultSetTest {
         String text = range.toString();
         assertEquals("[results=[hello], range=[offset=0, limit=1, total=100]]", text);
     }
+
+    @Test
+    @DisplayName("没有游标时，next() 和 previous() 返回 null")
+    void should_return_null_cursors_by_default() {
+        RangedResultSet<?> result = RangedResultSet.create(Collections.singletonList(1), 0, 1, 100);
+        assertNull(result.next());
+        assertNull(result.previous());
+    }
+
+    @Test
+    @DisplayName("返回创建时指定的相邻页的游标")
+    void should_return_cursors_of_adjacent_pages() {
+        Cursor previous = Cursor.before(new byte[] {1});
+        Cursor next = Cursor.after(new byte[] {2});
+        RangedResultSet<?> result = RangedResultSet.create(Collections.singletonList("hello"),
+                RangeResult.create(0, 1, 100), previous, next);
+        assertEquals(previous, result.previous());
+        assertEquals(next, result.next());
+        assertNotEquals(RangedResultSet.create(Collections.singletonList("hello"), 0, 1, 100), result);
+        assertEquals("[results=[hello], range=[offset=0, limit=1, total=100], "
+                + "previous=[direction=BEFORE, key=AQ], next=[direction=AFTER, key=Ag]]", result.toString());
+    }
 }
@@ -0,0 +1,117 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 RefreshingLoader 工具类")
+class RefreshingLoaderTest {
+    private final AtomicLong now = new AtomicLong(-1_000);
+    private final List<Runnable> queued = new ArrayList<>();
+    private final AtomicInteger version = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private RefreshingLoader<Integer> loader() {
+        return RefreshingLoader.<Integer>builder(() -> {
+            if (this.failing.get()) {
+                throw new IllegalStateException("boom");
+            }
+            return this.version.incrementAndGet();
+        }, Duration.ofNanos(100)).refreshAhead(Duration.ofNanos(20)).backoff(Duration.ofNanos(10), Duration.ofNanos(40))
+                .executor(this.queued::add).ticker(this.now::get).build();
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(this.queued);
+        this.queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("首次获取时同步加载")
+    void should_load_synchronously_at_first() {
+        RefreshingLoader<Integer> loader = this.loader();
+        assertTrue(loader.expired());
+        assertEquals(1, loader.get());
+        assertEquals(1, loader.get());
+        assertFalse(loader.expired());
+        assertTrue(this.queued.isEmpty());
+    }
+
+    @Test
+    @DisplayName("到期前在后台刷新，刷新期间返回原有的对象")
+    void should_refresh_ahead_in_background() {
+        RefreshingLoader<Integer> loader = this.loader();
+        loader.get();
+        this.now.addAndGet(79);
+        loader.get();
+        assertTrue(this.queued.isEmpty());
+        this.now.addAndGet(1);
+        assertEquals(1, loader.get());
+        assertEquals(1, loader.get());
+        assertEquals(1, this.queued.size());
+        this.runQueued();
+        assertEquals(2, loader.get());
+    }
+
+    @Test
+    @DisplayName("过期后不阻塞，继续返回原有的对象")
+    void should_serve_stale_value_after_expiry() {
+        RefreshingLoader<Integer> loader = this.loader();
+        loader.get();
+        this.now.addAndGet(500);
+        assertTrue(loader.expired());
+        assertEquals(1, loader.get());
+        this.runQueued();
+        assertEquals(2, loader.get());
+        assertFalse(loader.expired());
+    }
+
+    @Test
+    @DisplayName("刷新失败时保留原有的对象，并按照指数退避重试")
+    void should_keep_value_and_back_off_on_failure() {
+        RefreshingLoader<Integer> loader = this.loader();
+        loader.get();
+        this.failing.set(true);
+        this.now.addAndGet(80);
+        loader.get();
+        this.runQueued();
+        assertEquals("boom", loader.failure().getMessage());
+        assertEquals(1, loader.get());
+        assertTrue(this.queued.isEmpty());
+        this.now.addAndGet(10);
+        loader.get();
+        this.runQueued();
+        this.now.addAndGet(19);
+        loader.get();
+        assertTrue(this.queued.isEmpty());
+        this.now.addAndGet(1);
+        this.failing.set(false);
+        loader.get();
+        this.runQueued();
+        assertEquals(2, loader.get());
+        assertNull(loader.failure());
+    }
+
+    @Test
+    @DisplayName("首次加载失败时抛出异常")
+    void should_throw_exception_when_first_load_fails() {
+        this.failing.set(true);
+        RefreshingLoader<Integer> loader = this.loader();
+        assertEquals("boom", assertThrows(IllegalStateException.class, loader::get).getMessage());
+        this.failing.set(false);
+        assertEquals(1, loader.get());
+    }
+}
@@ -0,0 +1,131 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.talefox.util.support.PackedVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 SemanticVersion 工具类")
+class SemanticVersionTest {
+    @Test
+    @DisplayName("解析先行版本号和版本编译信息")
+    void should_parse_pre_release_and_metadata() {
+        SemanticVersion version = SemanticVersion.parse("1.4.0-rc.2+sha.5114f85");
+        assertEquals(1, version.major());
+        assertEquals(4, version.minor());
+        assertEquals(0, version.revision());
+        assertEquals(0, version.build());
+        assertEquals("rc.2", version.preRelease());
+        assertEquals("sha.5114f85", version.metadata());
+        assertEquals("1.4.0-rc.2+sha.5114f85", version.toString());
+    }
+
+    @Test
+    @DisplayName("连字符可以出现在先行版本号和版本编译信息中")
+    void should_parse_hyphens_in_identifiers() {
+        SemanticVersion version = SemanticVersion.parse("1.0.0-x-y.7+build-1.a-b");
+        assertEquals("x-y.7", version.preRelease());
+        assertEquals("build-1.a-b", version.metadata());
+        assertNull(SemanticVersion.parse("2.1.3+001").preRelease());
+    }
+
+    @Test
+    @DisplayName("按照规范中的示例确定优先级")
+    void should_follow_precedence_of_specification() {
+        List<String> expected = Arrays.asList("1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta", "1.0.0-beta",
+                "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0", "2.0.0", "2.1.0", "2.1.1");
+        List<SemanticVersion> versions = new ArrayList<>();
+        for (String text : expected) {
+            versions.add(SemanticVersion.parse(text));
+        }
+        Collections.reverse(versions);
+        VersionUtils.sort(versions);
+        List<String> actual = new ArrayList<>();
+        for (SemanticVersion version : versions) {
+            actual.add(version.toString());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("版本编译信息不参与比较")
+    void should_ignore_metadata_in_precedence() {
+        SemanticVersion v1 = SemanticVersion.parse("1.0.0-rc.1+a");
+        SemanticVersion v2 = SemanticVersion.parse("1.0.0-rc.1+b");
+        assertEquals(0, v1.compareTo(v2));
+        assertEquals(v1, v2);
+        assertEquals(v1.hashCode(), v2.hashCode());
+    }
+
+    @Test
+    @DisplayName("没有先行版本号时与数字版本互通")
+    void should_interoperate_with_numeric_versions() {
+        SemanticVersion release = SemanticVersion.parse("1.2");
+        assertEquals(Version.create(1, 2), release);
+        assertEquals(release, Version.create(1, 2));
+        assertEquals(release, Version.of(1, 2));
+        assertEquals(Version.of(1, 2), release);
+        assertEquals(Version.create(1, 2).hashCode(), release.hashCode());
+        assertEquals(0, release.compareTo(Version.parse("1.2.0")));
+        assertEquals(release, SemanticVersion.parse(Version.parse("1.2").toString()));
+        assertEquals(PackedVersion.pack(Version.create(1, 2)), PackedVersion.pack(release));
+    }
+
+    @Test
+    @DisplayName("先行版本低于相同版本号的数字版本且不相等")
+    void should_precede_numeric_version_when_pre_released() {
+        SemanticVersion candidate = SemanticVersion.parse("1.2.0-rc.1");
+        Version release = Version.of(1, 2);
+        assertTrue(candidate.compareTo(release) < 0);
+        assertTrue(release.compareTo(candidate) > 0);
+        assertTrue(Version.create(1, 1, 9).compareTo(candidate) < 0);
+        assertNotEquals(candidate, release);
+        assertNotEquals(release, candidate);
+        assertNotEquals(Version.create(1, 2), candidate);
+        assertEquals(PackedVersion.NOT_PACKABLE, PackedVersion.pack(candidate));
+        assertFalse(VersionConstraint.parse("[1.2,2.0)").matches(candidate));
+        assertTrue(VersionConstraint.parse("[1.1,1.2)").matches(candidate));
+    }
+
+    @Test
+    @DisplayName("当格式不符合规范时抛出异常")
+    void should_throw_when_format_is_invalid() {
+        for (String text : new String[] {"1", "1.2.3.4", "01.2.3", "1.2.3-", "1.2.3-01", "1.2.3-a..b", "1.2.3+",
+                "1.2.3+a_b", "1.2.3-rc+", "1.-2.3", "1.2.99999999999"}) {
+            assertThrows(VersionFormatException.class, () -> SemanticVersion.parse(text), text);
+            assertNull(SemanticVersion.tryParse(text), text);
+        }
+        assertNull(SemanticVersion.parse("  "));
+    }
+
+    @Test
+    @DisplayName("写入的文本包含先行版本号和版本编译信息")
+    void should_write_full_text() {
+        SemanticVersion version = SemanticVersion.parse("3.1.4-beta+exp.sha");
+        assertEquals("v3.1.4-beta+exp.sha", version.appendTo(new StringBuilder("v")).toString());
+        byte[] buffer = new byte[32];
+        int length = version.writeTo(buffer, 0);
+        assertEquals(version.toString(), new String(buffer, 0, length));
+    }
+
+    @Test
+    @DisplayName("先行版本不会被当作索引中的正式版本")
+    void should_not_match_release_in_index() {
+        VersionIndex index = VersionIndex.of(Arrays.asList(Version.of(1, 0), Version.of(2, 0)));
+        SemanticVersion candidate = SemanticVersion.parse("2.0.0-rc.1");
+        assertFalse(index.contains(candidate));
+        assertEquals(Version.of(1, 0), index.floor(candidate));
+        assertEquals(Version.of(2, 0), index.ceiling(candidate));
+    }
+}
@@ -1,13 +1,17 @@
 package xyz.talefox.util;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("测试 Validation 工具类")
 class ValidationTest {
@@ -141,4 +145,59 @@ class ValidationTest {
             assertSame(notEmpty, validated);
         }
     }
+
+    @Nested
+    @DisplayName("测试轻量异常模式")
+    class StacklessTest {
+        @AfterEach
+        void teardown() {
+            Validation.stackless(false);
+        }
+
+        @Test
+        @DisplayName("默认抛出记录调用栈的异常")
+        void should_throw_exception_with_stack_trace_by_default() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> Validation.greaterThan(0, 0, "error"));
+            assertFalse(exception instanceof StacklessIllegalArgumentException);
+            assertTrue(exception.getStackTrace().length > 0);
+        }
+
+        @Test
+        @DisplayName("启用轻量异常模式时，抛出不记录调用栈的异常")
+        void should_throw_stackless_exception_when_enabled() {
+            Validation.stackless(true);
+            StacklessIllegalArgumentException exception = assertThrows(StacklessIllegalArgumentException.class,
+                    () -> Validation.notBlank(" ", "error"));
+            assertEquals("error", exception.getMessage());
+            assertEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("启用轻量异常模式时，解析版本号抛出不记录调用栈的异常")
+        void should_throw_stackless_version_format_exception_when_enabled() {
+            Validation.stackless(true);
+            VersionFormatException exception = assertThrows(StacklessVersionFormatException.class,
+                    () -> Version.parse("1"));
+            assertEquals("A version must have major and minor at least.", exception.getMessage());
+            assertEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("启用轻量异常模式时，还原无效的游标抛出不记录调用栈的异常")
+        void should_throw_stackless_exception_for_invalid_cursor_when_enabled() {
+            Validation.stackless(true);
+            IllegalArgumentException exception = assertThrows(StacklessIllegalArgumentException.class,
+                    () -> Cursor.decode("a*"));
+            assertEquals("The cursor is not valid. [cursor=a*]", exception.getMessage());
+            assertEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("启用轻量异常模式时，自定义异常的提供程序不受影响")
+        void should_use_supplied_exception_when_enabled() {
+            Validation.stackless(true);
+            assertThrows(IllegalStateException.class, () -> Validation.notNull(null, IllegalStateException::new));
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 Validator 工具类")
+class ValidatorTest {
+    private static final Validator<Request> VALIDATOR = Validator.builder(Request.class)
+            .notBlank("name", "The name cannot be blank.")
+            .uuid("id", "The id must be a UUID.")
+            .greaterThan("count", 0, "The count must be positive.")
+            .greaterThanOrEquals("priority", 0, "The priority cannot be negative.")
+            .notNull("owner", "The owner cannot be null.")
+            .build();
+
+    private static class Base {
+        private final String owner;
+
+        Base(String owner) {
+            this.owner = owner;
+        }
+    }
+
+    private static final class Request extends Base {
+        private final String name;
+        private final String id;
+        private final int count;
+        private final Integer priority;
+
+        Request(String name, String id, int count, Integer priority, String owner) {
+            super(owner);
+            this.name = name;
+            this.id = id;
+            this.count = count;
+            this.priority = priority;
+        }
+    }
+
+    private static Request valid() {
+        return new Request("hello", "3f2504e0-4f89-11d3-9a0c-0305e82c3301", 1, 0, "me");
+    }
+
+    @Nested
+    @DisplayName("测试 validate 方法")
+    class ValidateTest {
+        @Test
+        @DisplayName("当对象满足所有规则时，返回原始对象")
+        void should_return_object_when_valid() {
+            Request request = valid();
+            assertSame(request, VALIDATOR.validate(request));
+        }
+
+        @Test
+        @DisplayName("当对象不满足规则时，抛出第一个不满足的规则的错误信息")
+        void should_throw_first_violation() {
+            Request request = new Request(" ", "x", 0, -1, null);
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> VALIDATOR.validate(request)).getMessage();
+            assertEquals("The name cannot be blank.", message);
+        }
+
+        @Test
+        @DisplayName("当整数包装字段为 null 时，视为不满足规则")
+        void should_throw_when_boxed_integer_is_null() {
+            Request request = new Request("hello", "3f2504e0-4f89-11d3-9a0c-0305e82c3301", 1, null, "me");
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> VALIDATOR.validate(request)).getMessage();
+            assertEquals("The priority cannot be negative.", message);
+        }
+
+        @Test
+        @DisplayName("当对象为 null 时，抛出异常")
+        void should_throw_when_object_is_null() {
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> VALIDATOR.validate(null)).getMessage();
+            assertEquals("The object to validate cannot be null.", message);
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 violations 方法")
+    class ViolationsTest {
+        @Test
+        @DisplayName("当对象满足所有规则时，返回空列表")
+        void should_return_empty_when_valid() {
+            assertTrue(VALIDATOR.violations(valid()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("按照规则的顺序返回所有错误信息")
+        void should_return_all_violations() {
+            List<String> violations = VALIDATOR.violations(new Request(" ", "x", 0, -1, null));
+            assertEquals(Arrays.asList("The name cannot be blank.", "The id must be a UUID.",
+                    "The count must be positive.", "The priority cannot be negative.",
+                    "The owner cannot be null."), violations);
+        }
+    }
+
+    @Nested
+    @DisplayName("测试 Builder")
+    class BuilderTest {
+        @Test
+        @DisplayName("当字段不存在时，抛出异常")
+        void should_throw_when_field_not_found() {
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> Validator.builder(Request.class).notNull("unknown", "error")).getMessage();
+            assertEquals("The field to validate is not found. [class=" + Request.class.getName()
+                    + ", field=unknown]", message);
+        }
+
+        @Test
+        @DisplayName("当字段不是整数时，抛出异常")
+        void should_throw_when_field_is_not_integer() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> Validator.builder(Request.class).greaterThan("name", 0, "error"));
+        }
+
+        @Test
+        @DisplayName("当字段类型与规则不匹配时，抛出异常")
+        void should_throw_when_field_type_mismatch() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> Validator.builder(Request.class).notBlank("count", "error"));
+        }
+
+        @Test
+        @DisplayName("支持自定义规则")
+        void should_apply_custom_rule() {
+            Validator<Request> validator = Validator.builder(Request.class)
+                    .rule("name", String.class, name -> name.startsWith("h"), "The name must start with h.")
+                    .rule("count", value -> value % 2 == 1, "The count must be odd.")
+                    .build();
+            assertTrue(validator.violations(valid()).isEmpty());
+            assertEquals(Arrays.asList("The name must start with h.", "The count must be odd."),
+                    validator.violations(new Request("x", null, 2, null, null)));
+        }
+    }
+}
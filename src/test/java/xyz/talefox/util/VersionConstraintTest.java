@@ -0,0 +1,124 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.talefox.util.support.PackedVersion;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 VersionConstraint 工具类")
+class VersionConstraintTest {
+    @Test
+    @DisplayName("区间的方括号包含边界，圆括号不包含边界")
+    void should_match_interval_bounds() {
+        VersionConstraint constraint = VersionConstraint.parse("[2.0,3.0)");
+        assertTrue(constraint.matches(Version.create(2, 0)));
+        assertTrue(constraint.matches(Version.create(2, 99, 1, 7)));
+        assertFalse(constraint.matches(Version.create(3, 0)));
+        assertFalse(constraint.matches(Version.create(1, 9, 9)));
+    }
+
+    @Test
+    @DisplayName("省略的边界表示不受限制")
+    void should_match_open_intervals() {
+        assertTrue(VersionConstraint.parse("(1.0,)").matches(Version.create(32767, 0)));
+        assertFalse(VersionConstraint.parse("(1.0,)").matches(Version.create(1, 0)));
+        assertTrue(VersionConstraint.parse("[,2.0]").matches(Version.create(0, 0)));
+        assertTrue(VersionConstraint.parse("*").matches(Version.create(7, 7)));
+    }
+
+    @Test
+    @DisplayName("通配符匹配具有相同前缀的所有版本")
+    void should_match_wildcards() {
+        VersionConstraint constraint = VersionConstraint.parse("1.2.*");
+        assertTrue(constraint.matches(Version.create(1, 2)));
+        assertTrue(constraint.matches(Version.create(1, 2, 65535, 65535)));
+        assertFalse(constraint.matches(Version.create(1, 3)));
+        assertTrue(VersionConstraint.parse("1.x").matches(Version.create(1, 65535, 3)));
+    }
+
+    @Test
+    @DisplayName("满足任一条件即满足约束")
+    void should_match_union() {
+        VersionConstraint constraint = VersionConstraint.parse("[2.0,3.0) || 1.9.x, 4.0");
+        assertTrue(constraint.matches(Version.create(2, 3, 1)));
+        assertTrue(constraint.matches(Version.create(1, 9, 4)));
+        assertTrue(constraint.matches(Version.create(4, 0)));
+        assertFalse(constraint.matches(Version.create(1, 8)));
+        assertFalse(constraint.matches(Version.create(4, 0, 1)));
+    }
+
+    @Test
+    @DisplayName("超出编码范围的版本仍然可以正确匹配")
+    void should_match_version_that_is_not_packable() {
+        VersionConstraint constraint = VersionConstraint.parse("[1.0,2.0)");
+        assertTrue(constraint.matches(Version.create(1, 70000)));
+        assertFalse(constraint.matches(Version.create(2, 70000)));
+        assertTrue(constraint.matches(PackedVersion.pack(1, 5, 0, 0)));
+        assertTrue(VersionConstraint.parse("1.2.*").matches(Version.create(1, 2, 70000)));
+        assertFalse(VersionConstraint.parse("1.65535.*").matches(Version.create(1, 65536)));
+    }
+
+    @Test
+    @DisplayName("筛选满足约束的版本，并保持原始顺序")
+    void should_filter_versions() {
+        List<Version> versions = Arrays.asList(Version.create(3, 1), Version.create(2, 1),
+                Version.create(1, 0), Version.create(2, 0));
+        assertEquals(Arrays.asList(Version.create(2, 1), Version.create(2, 0)),
+                VersionConstraint.parse("2.*").filter(versions));
+    }
+
+    @Test
+    @DisplayName("重复解析相同的约束时，返回缓存的实例")
+    void should_return_cached_constraint() {
+        assertSame(VersionConstraint.parse("[1.0,1.5]"), VersionConstraint.parse("[1.0,1.5]"));
+    }
+
+    @Test
+    @DisplayName("当约束的格式不正确时，抛出异常")
+    void should_throw_exception_when_constraint_is_invalid() {
+        String message = assertThrows(VersionFormatException.class,
+                () -> VersionConstraint.parse("[1.0,2.0")).getMessage();
+        assertEquals("The version constraint is not valid. [constraint=[1.0,2.0]", message);
+        assertThrows(VersionFormatException.class, () -> VersionConstraint.parse("1.a.*"));
+        assertThrows(VersionFormatException.class, () -> VersionConstraint.parse("(1.0]"));
+        assertThrows(VersionFormatException.class, () -> VersionConstraint.parse("1.0 |"));
+    }
+
+    @Test
+    @DisplayName("当约束中的区间不包含任何版本时，抛出异常")
+    void should_throw_exception_when_interval_is_empty() {
+        String message = assertThrows(VersionFormatException.class,
+                () -> VersionConstraint.parse("[3.0,2.0]")).getMessage();
+        assertEquals("The interval in a version constraint is empty. [constraint=[3.0,2.0], interval=[3.0,2.0]]",
+                message);
+        assertThrows(VersionFormatException.class, () -> VersionConstraint.parse("1.x, (2.0,2.0]"));
+        assertTrue(VersionConstraint.parse("[2.0,2.0]").matches(Version.create(2, 0)));
+    }
+
+    @Test
+    @DisplayName("编译后区间相同但匹配先行版本的结果不同的约束不相等")
+    void should_not_equal_when_terms_differ() {
+        VersionConstraint exclusive = VersionConstraint.parse("[1.0,2.0)");
+        VersionConstraint inclusive = VersionConstraint.parse("[1.0,1.65535.65535.65535]");
+        assertNotEquals(exclusive, inclusive);
+        assertEquals(exclusive, VersionConstraint.parse(" [1.0,2.0)"));
+        assertEquals(exclusive.hashCode(), VersionConstraint.parse(" [1.0,2.0)").hashCode());
+    }
+
+    @Test
+    @DisplayName("当约束中的版本超出编码范围时，抛出异常")
+    void should_throw_exception_when_version_out_of_range() {
+        String message = assertThrows(VersionFormatException.class,
+                () -> VersionConstraint.parse("[1.70000,)")).getMessage();
+        assertEquals("The version in a constraint is out of range. [constraint=[1.70000,), version=1.70000]", message);
+    }
+}
@@ -0,0 +1,182 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.talefox.util.support.PackedVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 VersionIndex 工具类")
+class VersionIndexTest {
+    private static VersionIndex index() {
+        return VersionIndex.of(Arrays.asList(Version.create(1, 0), Version.create(1, 2, 3), Version.create(2, 0),
+                Version.create(2, 5, 1), Version.create(3, 0), Version.create(1, 2, 3)));
+    }
+
+    @Test
+    @DisplayName("索引中的版本被去重")
+    void should_deduplicate_versions() {
+        VersionIndex index = index();
+        assertEquals(5, index.size());
+        assertFalse(index.add(Version.create(2, 0)));
+        assertTrue(index.add(Version.create(2, 1)));
+        assertEquals(6, index.size());
+        assertTrue(index.contains(Version.create(2, 1)));
+        assertFalse(index.contains(Version.create(2, 2)));
+    }
+
+    @Test
+    @DisplayName("获取满足约束的最高和最低版本")
+    void should_return_highest_and_lowest_matching_version() {
+        VersionIndex index = index();
+        VersionConstraint constraint = VersionConstraint.parse("[1.1,3.0)");
+        assertEquals(Version.create(2, 5, 1), index.highest(constraint));
+        assertEquals(Version.create(1, 2, 3), index.lowest(constraint));
+        assertEquals(3, index.count(constraint));
+        assertNull(index.highest(VersionConstraint.parse("[4.0,)")));
+        assertNull(index.lowest(VersionConstraint.parse("(3.0,)")));
+    }
+
+    @Test
+    @DisplayName("多个区间的约束跳过不包含版本的区间")
+    void should_skip_empty_intervals() {
+        VersionIndex index = index();
+        VersionConstraint constraint = VersionConstraint.parse("1.2.x || [2.6,2.9] || 4.x");
+        assertEquals(Version.create(1, 2, 3), index.highest(constraint));
+        assertEquals(Version.create(1, 2, 3), index.lowest(constraint));
+        assertEquals(1, index.count(constraint));
+    }
+
+    @Test
+    @DisplayName("非默认实现的约束与默认实现得到相同的结果")
+    void should_support_custom_constraint() {
+        VersionConstraint parsed = VersionConstraint.parse("[1.1,3.0)");
+        VersionConstraint custom = new VersionConstraint() {
+            @Override
+            public boolean matches(Version version) {
+                return parsed.matches(version);
+            }
+
+            @Override
+            public boolean matches(long key) {
+                return parsed.matches(key);
+            }
+
+            @Override
+            public <V extends Version> List<V> filter(Collection<? extends V> versions) {
+                return parsed.filter(versions);
+            }
+        };
+        VersionIndex index = index();
+        assertEquals(index.highest(parsed), index.highest(custom));
+        assertEquals(index.lowest(parsed), index.lowest(custom));
+        assertEquals(index.count(parsed), index.count(custom));
+    }
+
+    @Test
+    @DisplayName("获取不高于和不低于指定版本的版本")
+    void should_return_floor_and_ceiling() {
+        VersionIndex index = index();
+        assertEquals(Version.create(2, 0), index.floor(Version.create(2, 3)));
+        assertEquals(Version.create(2, 0), index.floor(Version.create(2, 0)));
+        assertEquals(Version.create(2, 5, 1), index.ceiling(Version.create(2, 3)));
+        assertEquals(Version.create(2, 0), index.ceiling(Version.create(2, 0)));
+        assertNull(index.floor(Version.create(0, 9)));
+        assertNull(index.ceiling(Version.create(3, 0, 1)));
+        assertEquals(Version.create(2, 5, 1), index.floor(Version.create(2, 70000)));
+        assertEquals(Version.create(2, 5, 1), index.ceiling(Version.create(2, 4, 70000)));
+    }
+
+    @Test
+    @DisplayName("统计两个版本之间的版本数量")
+    void should_count_versions_between() {
+        VersionIndex index = index();
+        assertEquals(3, index.count(Version.create(1, 2, 3), Version.create(2, 5, 1)));
+        assertEquals(2, index.count(Version.create(1, 3), Version.create(2, 9)));
+        assertEquals(0, index.count(Version.create(3, 1), Version.create(2, 0)));
+    }
+
+    @Test
+    @DisplayName("快照不受之后的修改影响且是只读的")
+    void should_take_read_only_snapshot() {
+        VersionIndex index = index();
+        VersionIndex snapshot = index.snapshot();
+        index.add(Version.create(9, 0));
+        assertEquals(5, snapshot.size());
+        assertEquals(6, index.size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(Version.create(8, 0)));
+    }
+
+    @Test
+    @DisplayName("不能被编码的版本与编码后的版本一起参与查询")
+    void should_index_versions_that_are_not_packable() {
+        VersionIndex index = index();
+        Version dated = Version.create(2, 0, 0, 20261019);
+        Version wide = Version.create(1, 70000);
+        assertTrue(index.add(dated));
+        assertFalse(index.add(Version.create(2, 0, 0, 20261019)));
+        index.addAll(Arrays.asList(wide, dated));
+        assertEquals(7, index.size());
+        assertTrue(index.contains(dated));
+        assertTrue(index.contains(wide));
+        assertEquals(dated, index.highest(VersionConstraint.parse("[2.0,2.5)")));
+        assertEquals(wide, index.lowest(VersionConstraint.parse("(1.2.3,3.0]")));
+        assertEquals(4, index.count(VersionConstraint.parse("[1.2.3,2.1)")));
+        assertEquals(dated, index.floor(Version.create(2, 1)));
+        assertEquals(wide, index.ceiling(Version.create(1, 3)));
+        assertEquals(4, index.count(Version.create(1, 2, 3), Version.create(2, 0, 0, 20261019)));
+        assertThrows(IllegalArgumentException.class, () -> index.add(null));
+    }
+
+    @Test
+    @DisplayName("查询返回添加时的版本实例")
+    void should_return_added_instances() {
+        Version published = SemanticVersion.parse("1.2.3+build.7");
+        Version other = SemanticVersion.parse("1.4.0+build.9");
+        assertNotEquals(PackedVersion.NOT_PACKABLE, PackedVersion.pack(published));
+        VersionIndex single = new VersionIndex();
+        single.add(published);
+        single.add(other);
+        VersionIndex batched = VersionIndex.of(Arrays.asList(other, published, SemanticVersion.parse("1.2.3+build.8")));
+        for (VersionIndex index : Arrays.asList(single, batched)) {
+            assertEquals(2, index.size());
+            assertSame(published, index.lowest(VersionConstraint.parse("[1.0,2.0)")));
+            assertSame(other, index.highest(VersionConstraint.parse("[1.0,2.0)")));
+            assertSame(published, index.floor(Version.create(1, 3)));
+            assertSame(published, index.ceiling(Version.create(1, 2, 3)));
+            assertSame(other, index.ceiling(Version.create(1, 3)));
+        }
+    }
+
+    @Test
+    @DisplayName("批量添加与逐个添加得到相同的结果")
+    void should_merge_batches_like_single_additions() {
+        Random random = new Random(42);
+        VersionIndex batched = new VersionIndex();
+        VersionIndex single = new VersionIndex();
+        for (int round = 0; round < 5; round++) {
+            List<Version> versions = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                versions.add(Version.create(random.nextInt(5), random.nextInt(10), random.nextInt(3)));
+            }
+            batched.addAll(versions);
+            versions.forEach(single::add);
+        }
+        assertEquals(single.size(), batched.size());
+        VersionConstraint constraint = VersionConstraint.parse("[1.3,3.7.1]");
+        assertEquals(single.highest(constraint), batched.highest(constraint));
+        assertEquals(single.count(constraint), batched.count(constraint));
+    }
+}
@@ -4,11 +4,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -49,6 +54,52 @@ class VersionTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试 of 方法")
+    class OfTest {
+        @Test
+        @DisplayName("多次获取相同的版本时，返回相同的实例")
+        void should_return_same_instance_for_same_version() {
+            assertSame(Version.of(1, 2, 3), Version.of(1, 2, 3, 0));
+        }
+
+        @Test
+        @DisplayName("规范实例与普通实例相等，且散列码相同")
+        void should_equal_to_created_version() {
+            Version packed = Version.of(1, 2, 3, 4);
+            Version created = Version.create(1, 2, 3, 4);
+            assertEquals(created, packed);
+            assertEquals(packed, created);
+            assertEquals(created.hashCode(), packed.hashCode());
+            assertEquals("1.2.3.4", packed.toString());
+        }
+
+        @Test
+        @DisplayName("按照版本号的顺序进行比较")
+        void should_compare_in_version_order() {
+            assertTrue(Version.of(1, 65535).compareTo(Version.of(2, 0)) < 0);
+            assertTrue(Version.of(32767, 0).compareTo(Version.of(1, 65535, 65535, 65535)) > 0);
+            assertTrue(Version.of(1, 2, 3).compareTo(Version.create(1, 2, 4)) < 0);
+            assertEquals(0, Version.of(1, 2).compareTo(Version.create(1, 2)));
+        }
+
+        @Test
+        @DisplayName("当版本号超出可编码范围时，返回包含正确数据的实例")
+        void should_return_version_when_not_packable() {
+            Version version = Version.of(1, 70000, 3, 4);
+            assertEquals(70000, version.minor());
+            assertEquals(Version.create(1, 70000, 3, 4), version);
+        }
+
+        @Test
+        @DisplayName("当版本号为负数时，抛出异常")
+        void should_throw_exception_when_negative() {
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> Version.of(1, -1)).getMessage();
+            assertEquals("The minor of a version cannot be negative.", message);
+        }
+    }
+
     @Nested
     @DisplayName("测试 parse 方法")
     class ParseTest {
@@ -148,6 +199,62 @@ class VersionTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试 parse(CharSequence, int, int) 与 tryParse 方法")
+    class ParseRegionTest {
+        @Test
+        @DisplayName("从字符序的指定区域中解析版本号")
+        void should_parse_version_in_region() {
+            StringBuilder builder = new StringBuilder("app/1.2.3;");
+            assertEquals(Version.create(1, 2, 3), Version.parse(builder, 4, 9));
+        }
+
+        @Test
+        @DisplayName("兼容带有正号的版本号")
+        void should_accept_leading_plus_sign() {
+            assertEquals(Version.create(1, 2), Version.parse("+1.2"));
+        }
+
+        @Test
+        @DisplayName("当版本号超出32位整数的范围时，抛出异常")
+        void should_throw_exception_when_overflow() {
+            String message = assertThrows(VersionFormatException.class,
+                    () -> Version.parse("1.2147483648")).getMessage();
+            assertEquals("The minor version must be a non-negative integer. [actual=2147483648]", message);
+        }
+
+        @Test
+        @DisplayName("当版本号包含空的部分时，抛出异常")
+        void should_throw_exception_when_part_is_empty() {
+            String message = assertThrows(VersionFormatException.class,
+                    () -> Version.parse("1..2")).getMessage();
+            assertEquals("The minor version must be a non-negative integer. [actual=]", message);
+        }
+
+        @Test
+        @DisplayName("当区域超出字符序的范围时，抛出异常")
+        void should_throw_exception_when_region_out_of_bounds() {
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> Version.parse("1.2", 1, 4)).getMessage();
+            assertEquals("The region to parse version is out of bounds. [start=1, end=4, length=3]", message);
+        }
+
+        @Test
+        @DisplayName("当格式不正确时，tryParse 返回 null")
+        void should_return_null_when_try_parse_invalid_version() {
+            assertNull(Version.tryParse("1"));
+            assertNull(Version.tryParse("1.2.3.4.5"));
+            assertNull(Version.tryParse("1.x"));
+            assertNull(Version.tryParse(null));
+        }
+
+        @Test
+        @DisplayName("当格式正确时，tryParse 返回解析到的版本实例")
+        void should_return_version_when_try_parse_valid_version() {
+            assertEquals(Version.create(1, 2, 3, 4), Version.tryParse("v=1.2.3.4", 2, 9));
+        }
+    }
+
     @Nested
     @DisplayName("测试 equals 方法")
     class EqualsTest {
@@ -226,6 +333,49 @@ class VersionTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试 appendTo 与 writeTo 方法")
+    class AppendTest {
+        @Test
+        @DisplayName("重复调用 toString 时返回缓存的字符串")
+        void should_cache_text() {
+            Version version = Version.create(1, 2, 3);
+            assertSame(version.toString(), version.toString());
+            Version packed = Version.of(1, 2, 3);
+            assertSame(packed.toString(), packed.toString());
+        }
+
+        @Test
+        @DisplayName("追加到字符串构建器的文本与 toString 一致")
+        void should_append_same_text_as_to_string() throws IOException {
+            StringBuilder builder = new StringBuilder("v");
+            Version.create(10, 0, 7).appendTo(builder).append(' ');
+            Version.of(1, 2, 0, 4).appendTo((Appendable) builder);
+            StringWriter writer = new StringWriter();
+            Version.create(3, 0).appendTo(writer);
+            assertEquals("v10.0.7 1.2.0.4", builder.toString());
+            assertEquals("3.0", writer.toString());
+        }
+
+        @Test
+        @DisplayName("以 ASCII 编码写入字节数组")
+        void should_write_ascii_bytes() {
+            byte[] buffer = new byte[18];
+            int length = Version.create(2147483647, 0, 0, 12).writeTo(buffer, 1);
+            assertEquals("2147483647.0.0.12", new String(buffer, 1, length, StandardCharsets.US_ASCII));
+            length = Version.of(1, 20).writeTo(buffer, 0);
+            assertEquals("1.20", new String(buffer, 0, length, StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        @DisplayName("当字节数组的剩余空间不足时，抛出异常")
+        void should_throw_when_buffer_is_too_small() {
+            String message = assertThrows(IllegalArgumentException.class,
+                    () -> Version.create(1, 2, 3).writeTo(new byte[6], 2)).getMessage();
+            assertEquals("The buffer is not large enough to write version. [offset=2, length=5, capacity=6]", message);
+        }
+    }
+
     @Nested
     @DisplayName("测试 compareTo 方法")
     class CompareTest {
@@ -0,0 +1,110 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import xyz.talefox.util.support.DefaultVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("测试 VersionUtils 工具类")
+class VersionUtilsTest {
+    private static final Comparator<Version> REFERENCE = Comparator.comparingInt(Version::major)
+            .thenComparingInt(Version::minor)
+            .thenComparingInt(Version::revision)
+            .thenComparingInt(Version::build);
+
+    private static List<Version> versions(Random random, int count, int bound) {
+        List<Version> versions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int major = random.nextInt(4);
+            int minor = random.nextInt(bound);
+            int revision = random.nextInt(bound);
+            int build = random.nextInt(3);
+            versions.add(random.nextBoolean()
+                    ? Version.create(major, minor, revision, build)
+                    : Version.of(major, minor, revision, build));
+        }
+        return versions;
+    }
+
+    private static void assertSameOrder(List<Version> expected, List<Version> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("排序结果与比较程序的稳定排序完全一致")
+    void should_sort_in_same_order_as_comparator() {
+        Random random = new Random(7);
+        for (int count : new int[] {0, 1, 5, 31, 32, 1000}) {
+            List<Version> versions = versions(random, count, 300);
+            List<Version> expected = new ArrayList<>(versions);
+            expected.sort(REFERENCE);
+            VersionUtils.sort(versions);
+            assertSameOrder(expected, versions);
+        }
+    }
+
+    @Test
+    @DisplayName("数据量较大时并行排序的结果与比较程序一致")
+    void should_sort_large_input_in_parallel() {
+        List<Version> versions = versions(new Random(11), 100_000, 70);
+        List<Version> expected = new ArrayList<>(versions);
+        expected.sort(REFERENCE);
+        VersionUtils.sort(versions);
+        assertSameOrder(expected, versions);
+    }
+
+    @Test
+    @DisplayName("包含不能被编码的版本时使用比较程序排序")
+    void should_fall_back_when_version_is_not_packable() {
+        List<Version> versions = new LinkedList<>(versions(new Random(3), 200, 10));
+        versions.add(Version.create(1, 70000));
+        versions.add(Version.create(0, 70000));
+        List<Version> expected = new ArrayList<>(versions);
+        expected.sort(REFERENCE);
+        VersionUtils.sort(versions);
+        assertSameOrder(expected, versions);
+    }
+
+    @Test
+    @DisplayName("对数组进行排序")
+    void should_sort_array() {
+        List<Version> versions = versions(new Random(5), 500, 20);
+        Version[] array = versions.toArray(new Version[0]);
+        versions.sort(REFERENCE);
+        VersionUtils.sort(array);
+        assertSameOrder(versions, Arrays.asList(array));
+    }
+
+    @Test
+    @DisplayName("当版本为 null 时抛出异常")
+    void should_throw_when_version_is_null() {
+        assertThrows(IllegalArgumentException.class, () -> VersionUtils.sort(Arrays.asList(Version.of(1, 0), null)));
+        assertThrows(IllegalArgumentException.class, () -> VersionUtils.sort((List<Version>) null));
+    }
+
+    @Test
+    @DisplayName("比较程序的结果与逐个比较版本号的结果一致")
+    void should_compare_like_reference_comparator() {
+        List<Version> versions = versions(new Random(13), 200, 4);
+        versions.add(Version.create(2, 70000));
+        for (Version v1 : versions) {
+            for (Version v2 : versions) {
+                assertEquals(Integer.signum(REFERENCE.compare(v1, v2)),
+                        Integer.signum(DefaultVersion.COMPARATOR.compare(v1, v2)));
+            }
+        }
+    }
+}
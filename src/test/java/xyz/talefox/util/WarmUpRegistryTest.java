@@ -0,0 +1,194 @@
+package xyz.talefox.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("测试 WarmUpRegistry 工具类")
+class WarmUpRegistryTest {
+    private final List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+    private Supplier<String> loader(String name) {
+        return () -> {
+            this.order.add(name);
+            return name;
+        };
+    }
+
+    @Test
+    @DisplayName("依赖加载完成后才开始加载，同时就绪时按照优先级加载")
+    void should_load_in_dependency_and_priority_order() {
+        WarmUpRegistry registry = new WarmUpRegistry()
+                .register("config", this.loader("config"), 0)
+                .register("metrics", this.loader("metrics"), 10)
+                .register("repository", this.loader("repository"), 20, "config")
+                .register("service", this.loader("service"), 0, "repository", "metrics");
+        WarmUpRegistry.Report report = registry.warmUp(Runnable::run, 1).join();
+        assertEquals(Arrays.asList("metrics", "config", "repository", "service"), this.order);
+        assertTrue(report.successful());
+        assertEquals(4, report.durations().size());
+        assertTrue(registry.ready());
+    }
+
+    @Test
+    @DisplayName("预热后获取延迟加载的对象时不再加载")
+    void should_initialize_lazy_loaders() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        LazyLoader<Object> loader = new LazyLoader<>(() -> {
+            loads.incrementAndGet();
+            return new Object();
+        });
+        WarmUpRegistry registry = new WarmUpRegistry().register("singleton", loader);
+        assertSame(registry.warmUp(), registry.warmUp());
+        assertTrue(registry.awaitReady(Duration.ofSeconds(5)));
+        loader.get();
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("记录每个加载程序所用的时间")
+    void should_report_durations() {
+        AtomicLong now = new AtomicLong();
+        WarmUpRegistry registry = new WarmUpRegistry(now::get)
+                .register("fast", () -> now.addAndGet(Duration.ofMillis(10).toNanos()))
+                .register("slow", () -> now.addAndGet(Duration.ofMillis(250).toNanos()));
+        WarmUpRegistry.Report report = registry.warmUp(Runnable::run, 2).join();
+        assertEquals(Duration.ofMillis(10), report.durations().get("fast"));
+        assertEquals(Duration.ofMillis(250), report.durations().get("slow"));
+        assertEquals(Duration.ofMillis(260), report.elapsed());
+    }
+
+    @Test
+    @DisplayName("并行地加载相互独立的加载程序")
+    void should_load_in_parallel() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(4);
+        WarmUpRegistry registry = new WarmUpRegistry();
+        for (int i = 0; i < 4; i++) {
+            registry.register("loader-" + i, () -> {
+                arrived.countDown();
+                try {
+                    return arrived.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            registry.warmUp(executor, 4);
+            assertTrue(registry.awaitReady(Duration.ofSeconds(5)));
+            assertEquals(0, arrived.getCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("加载失败时跳过依赖它的加载程序")
+    void should_skip_dependents_of_failed_loader() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        WarmUpRegistry registry = new WarmUpRegistry()
+                .register("database", () -> {
+                    throw failure;
+                })
+                .register("repository", this.loader("repository"), 0, "database")
+                .register("service", this.loader("service"), 0, "repository")
+                .register("metrics", this.loader("metrics"));
+        WarmUpRegistry.Report report = registry.warmUp(Runnable::run, 1).join();
+        assertFalse(report.successful());
+        assertEquals(Collections.singletonList("metrics"), this.order);
+        assertSame(failure, report.failures().get("database"));
+        Throwable skipped = report.failures().get("service");
+        assertInstanceOf(IllegalStateException.class, skipped);
+        assertEquals("The dependency of warm-up task failed. [name=service, dependency=repository]",
+                skipped.getMessage());
+        assertSame(failure, skipped.getCause());
+        assertFalse(registry.ready());
+        IllegalStateException exception =
+                assertThrows(IllegalStateException.class, () -> registry.awaitReady(Duration.ofSeconds(1)));
+        assertEquals("The warm-up failed. [failures=[database, repository, service]]", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("等待超时时返回 false")
+    void should_return_false_when_timed_out() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        WarmUpRegistry registry = new WarmUpRegistry().register("config", this.loader("config"));
+        assertThrows(IllegalStateException.class, () -> registry.awaitReady(Duration.ofMillis(10)));
+        registry.warmUp(queued::add, 1);
+        assertFalse(registry.awaitReady(Duration.ofMillis(10)));
+        queued.forEach(Runnable::run);
+        assertTrue(registry.awaitReady(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("在调用方线程中执行大量加载程序或很长的依赖链时，调用栈不会溢出")
+    void should_not_overflow_stack_with_inline_executor() {
+        AtomicInteger loads = new AtomicInteger();
+        WarmUpRegistry independent = new WarmUpRegistry();
+        for (int i = 0; i < 20_000; i++) {
+            independent.register("task-" + i, loads::incrementAndGet);
+        }
+        assertTrue(independent.warmUp(Runnable::run, 1).join().successful());
+        assertEquals(20_000, loads.get());
+
+        IllegalStateException failure = new IllegalStateException("boom");
+        WarmUpRegistry chained = new WarmUpRegistry().register("task-0", () -> {
+            throw failure;
+        });
+        for (int i = 1; i < 20_000; i++) {
+            chained.register("task-" + i, loads::incrementAndGet, 0, "task-" + (i - 1));
+        }
+        WarmUpRegistry.Report report = chained.warmUp(Runnable::run, 1).join();
+        assertEquals(20_000, report.failures().size());
+        assertSame(failure, report.failures().get("task-19999").getCause());
+        assertEquals(20_000, loads.get());
+    }
+
+    @Test
+    @DisplayName("存在循环依赖或未注册的依赖时抛出异常")
+    void should_throw_exception_when_dependencies_are_invalid() {
+        WarmUpRegistry cyclic = new WarmUpRegistry()
+                .register("a", this.loader("a"), 0, "b")
+                .register("b", this.loader("b"), 0, "c")
+                .register("c", this.loader("c"), 0, "a");
+        String message = assertThrows(IllegalArgumentException.class, cyclic::warmUp).getMessage();
+        assertEquals("The warm-up tasks depend on each other cyclically. [cycle=a -> b -> c -> a]", message);
+
+        WarmUpRegistry unknown = new WarmUpRegistry().register("a", this.loader("a"), 0, "missing");
+        message = assertThrows(IllegalArgumentException.class, unknown::warmUp).getMessage();
+        assertEquals("The warm-up task depends on an unknown task. [name=a, dependency=missing]", message);
+    }
+
+    @Test
+    @DisplayName("重复注册或预热开始后注册时抛出异常")
+    void should_throw_exception_when_registering_invalid_task() {
+        WarmUpRegistry registry = new WarmUpRegistry().register("a", this.loader("a"));
+        String message = assertThrows(IllegalArgumentException.class,
+                () -> registry.register("a", this.loader("a"))).getMessage();
+        assertEquals("The warm-up task is already registered. [name=a]", message);
+        registry.warmUp(Runnable::run, 1);
+        message = assertThrows(IllegalStateException.class, () -> registry.register("b", this.loader("b"))).getMessage();
+        assertEquals("The warm-up registry cannot be changed after warm-up started. [name=b]", message);
+    }
+}